@@ -0,0 +1,32 @@
+package com.vikramezhil.droidcalendarview;
+
+import android.content.Context;
+import android.graphics.Typeface;
+
+/**
+ * Droid Calendar Assets
+ *
+ * @author Vikram Ezhil
+ */
+
+class DCAssets
+{
+    private static Typeface faTypeface;
+
+    /**
+     * Gets the font awesome typeface, the typeface is loaded once per process
+     *
+     * @param context The application context
+     *
+     * @return The font awesome typeface
+     */
+    static synchronized Typeface getFATypeface(Context context)
+    {
+        if(faTypeface == null)
+        {
+            faTypeface = Typeface.createFromAsset(context.getApplicationContext().getAssets(), "fontawesome-webfont.ttf");
+        }
+
+        return faTypeface;
+    }
+}
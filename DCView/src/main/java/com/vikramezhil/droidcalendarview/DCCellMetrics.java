@@ -0,0 +1,172 @@
+package com.vikramezhil.droidcalendarview;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.graphics.Paint;
+import android.graphics.Typeface;
+import android.util.DisplayMetrics;
+import android.util.TypedValue;
+
+/**
+ * Droid Calendar Cell Metrics
+ *
+ * Fixed sizes, text baselines & paints of the day cells, computed once per style and shared by all the cells of a renderer
+ * (the cells are drawn on the UI thread only, so the paints are shared as well). Each renderer keeps its own metrics, so
+ * views with different styles never rebuild each other's metrics
+ *
+ * @author Vikram Ezhil
+ */
+
+class DCCellMetrics
+{
+    final DCStyle style;
+    final float density, scaledDensity;
+
+    // Same metrics as the canvas renderer (cell + cell margins + row separator with its margins)
+    final float cellHeight, margin, separatorSize, rowHeight;
+
+    // Text baselines from the cell top, the day baselines with ([1]) & without ([0]) the event indicators strip
+    final float daysHeaderBaseline;
+    final float[] dayValueBaseline = new float[2];
+    final float[] daySubValueBaseline = new float[2];
+
+    final Paint fillPaint = new Paint();
+    final Paint daysHeaderTextPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    final Paint dayValueTextPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    final Paint daySubValueTextPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    final DCEventPainter dcEventPainter;
+
+    /**
+     * Droid Calendar Cell Metrics Constructor
+     *
+     * @param context The class instance to initialize the context
+     *
+     * @param style The droid calendar style
+     */
+    private DCCellMetrics(Context context, DCStyle style)
+    {
+        Resources resources = context.getResources();
+        DisplayMetrics displayMetrics = resources.getDisplayMetrics();
+
+        this.style = style;
+        this.density = displayMetrics.density;
+        this.scaledDensity = displayMetrics.scaledDensity;
+
+        cellHeight = getCellHeight(context);
+        margin = resources.getDimension(R.dimen.dc_margin);
+        separatorSize = resources.getDimension(R.dimen.dc_separator_line_height);
+        rowHeight = cellHeight + margin * 2 + separatorSize + margin * 2;
+        dcEventPainter = new DCEventPainter(context);
+
+        setTextPaint(daysHeaderTextPaint, style.daysHeaderTextSize, style.daysHeaderTextStyle, displayMetrics);
+        setTextPaint(dayValueTextPaint, style.daysTextSize, style.daysTextStyle, displayMetrics);
+        setTextPaint(daySubValueTextPaint, style.daysSubTextSize, style.daysSubTextStyle, displayMetrics);
+
+        daysHeaderBaseline = getBaseline(daysHeaderTextPaint, margin, cellHeight);
+
+        float dayValueHeight = dayValueTextPaint.descent() - dayValueTextPaint.ascent();
+        float daySubValueHeight = daySubValueTextPaint.descent() - daySubValueTextPaint.ascent();
+
+        for(int catx=0;catx<2;catx++)
+        {
+            float contentHeight = catx == 0 ? cellHeight : cellHeight - dcEventPainter.stripHeight;
+
+            if(style.showDaySubValue)
+            {
+                // Date & sub value stacked in the middle of the cell
+                float textTop = margin + (contentHeight - dayValueHeight - daySubValueHeight) / 2;
+
+                dayValueBaseline[catx] = getBaseline(dayValueTextPaint, textTop, dayValueHeight);
+                daySubValueBaseline[catx] = getBaseline(daySubValueTextPaint, textTop + dayValueHeight, daySubValueHeight);
+            }
+            else
+            {
+                dayValueBaseline[catx] = getBaseline(dayValueTextPaint, margin, contentHeight);
+            }
+        }
+    }
+
+    // MARK: DCCellMetrics Methods
+
+    /**
+     * Gets the cell metrics of the style, the renderer's current metrics are kept unless the style or the display changed
+     *
+     * NOTE: Should be called from the UI thread
+     *
+     * @param context The class instance to initialize the context
+     *
+     * @param style The droid calendar style
+     *
+     * @param metrics The renderer's current cell metrics, null if none
+     *
+     * @return The cell metrics
+     */
+    static DCCellMetrics get(Context context, DCStyle style, DCCellMetrics metrics)
+    {
+        DisplayMetrics displayMetrics = context.getResources().getDisplayMetrics();
+
+        if(metrics == null || metrics.style != style || metrics.density != displayMetrics.density || metrics.scaledDensity != displayMetrics.scaledDensity)
+        {
+            return new DCCellMetrics(context, style);
+        }
+
+        return metrics;
+    }
+
+    /**
+     * Gets the day cell height, the theme action bar size (the height of the date cell layout) or dc_cell_height if the
+     * theme doesn't set one
+     *
+     * @param context The class instance to initialize the context
+     *
+     * @return The day cell height in pixels
+     */
+    static float getCellHeight(Context context)
+    {
+        Resources.Theme theme = context.getTheme();
+        TypedValue typedValue = new TypedValue();
+
+        if(theme != null && theme.resolveAttribute(android.R.attr.actionBarSize, typedValue, true) && typedValue.type == TypedValue.TYPE_DIMENSION)
+        {
+            return TypedValue.complexToDimension(typedValue.data, context.getResources().getDisplayMetrics());
+        }
+
+        return context.getResources().getDimension(R.dimen.dc_cell_height);
+    }
+
+    // MARK: DCCellMetrics Private Methods
+
+    /**
+     * Sets the centered text paint size & typeface
+     *
+     * @param paint The text paint
+     *
+     * @param textSize The text size in sp
+     *
+     * @param textStyle The text style
+     *
+     * @param displayMetrics The display metrics
+     */
+    private static void setTextPaint(Paint paint, float textSize, int textStyle, DisplayMetrics displayMetrics)
+    {
+        paint.setTextAlign(Paint.Align.CENTER);
+        paint.setTextSize(TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_SP, textSize, displayMetrics));
+        paint.setTypeface(Typeface.create(Typeface.DEFAULT, textStyle));
+    }
+
+    /**
+     * Gets the baseline of the text centered in the passed bounds
+     *
+     * @param paint The text paint
+     *
+     * @param top The bounds top
+     *
+     * @param height The bounds height
+     *
+     * @return The text baseline
+     */
+    private static float getBaseline(Paint paint, float top, float height)
+    {
+        return top + (height - paint.descent() - paint.ascent()) / 2;
+    }
+}
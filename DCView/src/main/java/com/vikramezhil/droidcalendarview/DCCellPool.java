@@ -0,0 +1,109 @@
+package com.vikramezhil.droidcalendarview;
+
+import android.content.Context;
+import android.view.ViewGroup;
+
+import java.util.ArrayList;
+
+/**
+ * Droid Calendar Cell Pool
+ *
+ * Date cell views created ahead of time (e.g. on a background thread during the app start), the grid & recycler
+ * renderers take their first cells from the pool instead of creating them on the UI thread
+ *
+ * @author Vikram Ezhil
+ */
+
+class DCCellPool
+{
+    // Days headers & the cells of a six week month
+    static final int MAX_POOLED_CELLS = 49;
+
+    private static final ArrayList<DCDayCellView> pooledCells = new ArrayList<>(MAX_POOLED_CELLS);
+
+    // MARK: DCCellPool Methods
+
+    /**
+     * Creates cells until the pool is full, the cells are created with the application context
+     *
+     * NOTE: Safe to be called from a background thread
+     *
+     * @param context The application context
+     *
+     * @return The number of cells created
+     */
+    static int fill(Context context)
+    {
+        Context applicationContext = context.getApplicationContext();
+
+        int createdCells = 0;
+        while(getPooledCount() < MAX_POOLED_CELLS)
+        {
+            DCDayCellView cell = createCell(applicationContext);
+
+            synchronized (pooledCells)
+            {
+                if(pooledCells.size() >= MAX_POOLED_CELLS)
+                {
+                    break;
+                }
+
+                pooledCells.add(cell);
+            }
+
+            createdCells++;
+        }
+
+        return createdCells;
+    }
+
+    /**
+     * Gets a cell from the pool, a new cell is created if the pool is empty
+     *
+     * @param context The renderer context
+     *
+     * @return The cell view
+     */
+    static DCDayCellView obtain(Context context)
+    {
+        synchronized (pooledCells)
+        {
+            if(!pooledCells.isEmpty())
+            {
+                return pooledCells.remove(pooledCells.size() - 1);
+            }
+        }
+
+        return createCell(context);
+    }
+
+    /**
+     * Gets the pooled cells count
+     *
+     * @return The pooled cells count
+     */
+    static int getPooledCount()
+    {
+        synchronized (pooledCells)
+        {
+            return pooledCells.size();
+        }
+    }
+
+    // MARK: DCCellPool Private Methods
+
+    /**
+     * Creates a cell, full width of its column with the fixed cell height
+     *
+     * @param context The context
+     *
+     * @return The cell view
+     */
+    private static DCDayCellView createCell(Context context)
+    {
+        DCDayCellView cell = new DCDayCellView(context);
+        cell.setLayoutParams(new ViewGroup.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.WRAP_CONTENT));
+
+        return cell;
+    }
+}
@@ -0,0 +1,187 @@
+package com.vikramezhil.droidcalendarview;
+
+import android.graphics.Color;
+
+/**
+ * Droid Calendar Cell State
+ *
+ * Resolves the state (and the state colors) of a day cell, shared by the Droid Calendar renderers
+ *
+ * @author Vikram Ezhil
+ */
+
+class DCCellState
+{
+    static final int HIDDEN = 0;
+    static final int FADED = 1;
+    static final int DISABLED = 2;
+    static final int CLICKABLE = 3;
+    static final int CLICKED = 4;
+
+    static final float FADED_ALPHA = 0.3f;
+
+    /**
+     * Gets the state of the day cell
+     *
+     * @param dcData The droid calendar data
+     *
+     * @param dcProperties The droid calendar properties
+     *
+     * @param cell The day cell position
+     *
+     * @return The day cell state
+     */
+    static int getState(DCData dcData, DCProperties dcProperties, int cell)
+    {
+        int epochDay = dcData.getEpochDay(cell);
+
+        if(!dcData.inMonthDates[cell])
+        {
+            // Past & future month dates
+            return dcProperties.style.showPastAndFutureMonthDates ? FADED : HIDDEN;
+        }
+        else if(dcProperties.clickedEpochDay == epochDay)
+        {
+            return CLICKED;
+        }
+        else if(dcProperties.clickableDates.isEmpty() && !dcProperties.allDatesClickable)
+        {
+            return DISABLED;
+        }
+        else if(dcProperties.allDatesClickable)
+        {
+            return dcProperties.enableOnlyFutureDates && !DCUtil.checkIfDateIsCurrentOrFuture(epochDay) ? FADED : CLICKABLE;
+        }
+        else if(dcProperties.clickableDates.contains(epochDay))
+        {
+            return CLICKABLE;
+        }
+        else
+        {
+            return DISABLED;
+        }
+    }
+
+    /**
+     * Checks if the day cell can be clicked
+     *
+     * @param state The day cell state
+     *
+     * @return True - clickable, False - if otherwise
+     */
+    static boolean isEnabled(int state)
+    {
+        return state == CLICKABLE || state == CLICKED;
+    }
+
+    /**
+     * Gets the alpha of the day cell
+     *
+     * @param state The day cell state
+     *
+     * @return The alpha
+     */
+    static float getAlpha(int state)
+    {
+        return state == FADED ? FADED_ALPHA : 1f;
+    }
+
+    /**
+     * Gets the bg color of the day cell
+     *
+     * @param state The day cell state
+     *
+     * @param dcProperties The droid calendar properties
+     *
+     * @return The bg color
+     */
+    static int getBGColor(int state, DCProperties dcProperties)
+    {
+        switch (state)
+        {
+            case FADED:
+                return dcProperties.style.daysLayoutBGColor;
+
+            case DISABLED:
+                // Dates left out of the clickable dates keep the days bg, no dates clickable shows no bg
+                return dcProperties.clickableDates.isEmpty() ? Color.TRANSPARENT : dcProperties.style.daysLayoutBGColor;
+
+            case CLICKABLE:
+                return dcProperties.style.clickableDaysBGColor;
+
+            case CLICKED:
+                return dcProperties.style.clickedDayBGColor;
+
+            default:
+                return Color.TRANSPARENT;
+        }
+    }
+
+    /**
+     * Gets the text color of the day cell
+     *
+     * @param state The day cell state
+     *
+     * @param dcProperties The droid calendar properties
+     *
+     * @return The text color
+     */
+    static int getTextColor(int state, DCProperties dcProperties)
+    {
+        switch (state)
+        {
+            case HIDDEN:
+                return Color.TRANSPARENT;
+
+            case CLICKABLE:
+                return dcProperties.style.clickableDaysTextColor;
+
+            case CLICKED:
+                return dcProperties.style.clickedDayTextColor;
+
+            default:
+                return dcProperties.style.daysTextColor;
+        }
+    }
+
+    /**
+     * Gets the sub text color of the day cell
+     *
+     * @param state The day cell state
+     *
+     * @param dcProperties The droid calendar properties
+     *
+     * @return The sub text color
+     */
+    static int getSubTextColor(int state, DCProperties dcProperties)
+    {
+        switch (state)
+        {
+            case HIDDEN:
+                return Color.TRANSPARENT;
+
+            case CLICKABLE:
+                return dcProperties.style.clickableDaysTextColor;
+
+            case CLICKED:
+                return dcProperties.style.clickedDaySubTextColor;
+
+            default:
+                return dcProperties.style.daysSubTextColor;
+        }
+    }
+
+    /**
+     * Applies the alpha to the color
+     *
+     * @param color The color
+     *
+     * @param alpha The alpha (0 - 1)
+     *
+     * @return The color with the alpha applied
+     */
+    static int applyAlpha(int color, float alpha)
+    {
+        return alpha >= 1f ? color : Color.argb((int) (Color.alpha(color) * alpha), Color.red(color), Color.green(color), Color.blue(color));
+    }
+}
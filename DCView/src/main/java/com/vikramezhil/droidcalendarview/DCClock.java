@@ -0,0 +1,177 @@
+package com.vikramezhil.droidcalendarview;
+
+import java.util.TimeZone;
+
+/**
+ * Droid Calendar Clock
+ *
+ * Keeps today's epoch day, it is computed once and refreshed only when the local midnight has passed
+ * (or when the clock is refreshed on a time or time zone change)
+ *
+ * @author Vikram Ezhil
+ */
+
+class DCClock
+{
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+    private static final long NO_MILLIS = Long.MIN_VALUE;
+
+    static final DCTimeSource SYSTEM_TIME_SOURCE = new DCTimeSource()
+    {
+        public long getCurrentTimeMillis()
+        {
+            return System.currentTimeMillis();
+        }
+
+        public TimeZone getTimeZone()
+        {
+            return TimeZone.getDefault();
+        }
+    };
+
+    private static volatile DCTimeSource timeSource = SYSTEM_TIME_SOURCE;
+    private static volatile Today today;
+
+    // MARK: Today Class
+
+    private static class Today
+    {
+        final int epochDay;
+        final long startMillis;
+        final long endMillis;
+
+        Today(int epochDay, long startMillis, long endMillis)
+        {
+            this.epochDay = epochDay;
+            this.startMillis = startMillis;
+            this.endMillis = endMillis;
+        }
+    }
+
+    // MARK: DCClock Methods
+
+    /**
+     * Sets the time source
+     *
+     * @param timeSource The time source, null resets to the system time source
+     */
+    static void setTimeSource(DCTimeSource timeSource)
+    {
+        DCClock.timeSource = timeSource != null ? timeSource : SYSTEM_TIME_SOURCE;
+
+        refresh();
+    }
+
+    /**
+     * Gets today's epoch day
+     *
+     * @return Today's epoch day
+     */
+    static int getTodayEpochDay()
+    {
+        DCTimeSource timeSource = DCClock.timeSource;
+        long now = timeSource.getCurrentTimeMillis();
+
+        Today today = DCClock.today;
+        if(today == null || now < today.startMillis || now >= today.endMillis)
+        {
+            // Day boundary passed (or the clock moved back), computing today again
+            today = getToday(now, timeSource.getTimeZone());
+            DCClock.today = today;
+        }
+
+        return today.epochDay;
+    }
+
+    /**
+     * Gets the time zone of today's date (the time source time zone)
+     *
+     * @return The time zone
+     */
+    static TimeZone getTimeZone()
+    {
+        return timeSource.getTimeZone();
+    }
+
+    /**
+     * Refreshes today's epoch day on the next request (e.g. on a time or time zone change)
+     */
+    static void refresh()
+    {
+        today = null;
+    }
+
+    /**
+     * Gets today from the current time
+     *
+     * @param now The current time in milliseconds
+     *
+     * @param timeZone The time zone
+     *
+     * @return Today
+     */
+    private static Today getToday(long now, TimeZone timeZone)
+    {
+        long localDay = getLocalDay(now, timeZone);
+
+        // Local day starts in UTC, a start which can't be found (e.g. daylight saving changes at the start) caches today
+        // only for the current time
+        long startMillis = getDayStartMillis(localDay, timeZone);
+        long endMillis = getDayStartMillis(localDay + 1, timeZone);
+
+        return new Today((int) localDay,
+                startMillis == NO_MILLIS || startMillis > now ? now : startMillis,
+                endMillis == NO_MILLIS || endMillis <= now ? now + 1 : endMillis);
+    }
+
+    /**
+     * Gets the start of the local day in UTC (the local midnight, or the daylight saving change when the midnight is skipped)
+     *
+     * @param localDay The local epoch day
+     *
+     * @param timeZone The time zone
+     *
+     * @return The local day start in milliseconds since 1/1/1970 UTC, NO_MILLIS if there is no single start
+     */
+    private static long getDayStartMillis(long localDay, TimeZone timeZone)
+    {
+        long localMidnightMillis = localDay * DAY_MILLIS;
+
+        // The local midnight with the offsets of the day before & the day after (daylight saving changes around midnight)
+        long beforeMillis = localMidnightMillis - timeZone.getOffset(localMidnightMillis - DAY_MILLIS);
+        long afterMillis = localMidnightMillis - timeZone.getOffset(localMidnightMillis + DAY_MILLIS);
+
+        long startMillis = NO_MILLIS;
+        for(long millis: new long[] {Math.min(beforeMillis, afterMillis), Math.max(beforeMillis, afterMillis)})
+        {
+            if(getLocalDay(millis, timeZone) >= localDay && getLocalDay(millis - 1, timeZone) < localDay)
+            {
+                startMillis = millis;
+                break;
+            }
+        }
+
+        return startMillis;
+    }
+
+    /**
+     * Gets the local epoch day of the time
+     *
+     * @param millis The time in milliseconds since 1/1/1970 UTC
+     *
+     * @param timeZone The time zone
+     *
+     * @return The local epoch day
+     */
+    private static long getLocalDay(long millis, TimeZone timeZone)
+    {
+        long localMillis = millis + timeZone.getOffset(millis);
+        long localDay = localMillis / DAY_MILLIS;
+        if(localMillis % DAY_MILLIS < 0)
+        {
+            localDay--;
+        }
+
+        return localDay;
+    }
+}
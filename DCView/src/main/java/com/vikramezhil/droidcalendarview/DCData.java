@@ -1,7 +1,6 @@
 package com.vikramezhil.droidcalendarview;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 
@@ -18,10 +17,17 @@ class DCData
     String displayDateFormat;
     String clickedDateFormat;
     String datesFormat;
-    ArrayList<String> dates = new ArrayList<>();
-    ArrayList<String> recalibrateDates = new ArrayList<>();
-    Map<String, String> datesSubValues = new HashMap<>();
+    int firstDayOfWeek;
+    int monthStartEpochDay;
+    int monthEndEpochDay;
+    int firstCellEpochDay;
+    int cellCount;
+    DCSubValueStore subValueStore;
+    String[] displayDates;
+    boolean[] inMonthDates;
     Locale locale;
+    DCLocaleTable localeTable;
+    DCEventLayout eventLayout;
 
     /**
      * Droid Calendar Data Constructor
@@ -36,32 +42,146 @@ class DCData
      *
      * @param datesFormat The dates list format
      *
-     * @param dates The dates list
+     * @param dcMonthGrid The month grid (visible dates)
      *
-     * @param recalibrateDates The recalibrate dates list
+     * @param subValueStore The dates sub values store (shared by all the months of the range)
      *
      * @param locale The date locale
      */
-    DCData(String monthYearHeader, String monthYearHeaderFormat, String displayDateFormat, String clickedDateFormat, String datesFormat, ArrayList<String> dates, ArrayList<String> recalibrateDates, Locale locale)
+    DCData(String monthYearHeader, String monthYearHeaderFormat, String displayDateFormat, String clickedDateFormat, String datesFormat, DCMonthGrid dcMonthGrid, DCSubValueStore subValueStore, Locale locale)
     {
         this.monthYearHeader = monthYearHeader;
         this.monthYearHeaderFormat = monthYearHeaderFormat;
         this.displayDateFormat = displayDateFormat;
         this.clickedDateFormat = clickedDateFormat;
         this.datesFormat = datesFormat;
-        this.dates = dates;
-        this.recalibrateDates = recalibrateDates;
+        this.firstDayOfWeek = dcMonthGrid.firstDayOfWeek;
+        this.monthStartEpochDay = dcMonthGrid.monthStartEpochDay;
+        this.monthEndEpochDay = dcMonthGrid.monthEndEpochDay;
+        this.firstCellEpochDay = dcMonthGrid.firstCellEpochDay;
+        this.cellCount = dcMonthGrid.cellCount;
+        this.subValueStore = subValueStore;
         this.locale = locale;
+        this.localeTable = DCLocaleTable.get(locale);
     }
 
     /**
-     * Sets the dates sub values map
+     * Prepares the render data (display dates and in month status) of every cell once per month
+     */
+    void prepareRenderData()
+    {
+        displayDates = new String[cellCount];
+        inMonthDates = new boolean[cellCount];
+        for(int cell=0;cell<cellCount;cell++)
+        {
+            int epochDay = getEpochDay(cell);
+
+            displayDates[cell] = localeTable.getDisplayDate(epochDay, displayDateFormat);
+            inMonthDates[cell] = isInMonth(epochDay);
+        }
+    }
+
+    /**
+     * Gets the days headers starting from the first day of week (shared by all the months of the locale)
+     *
+     * @param style The weekday names style (DCLocaleTable.WEEKDAY_SHORT, WEEKDAY_NARROW, WEEKDAY_FULL)
+     *
+     * @return The days headers
+     */
+    String[] getDaysHeaders(int style)
+    {
+        return localeTable.getWeekdays(style, firstDayOfWeek);
+    }
+
+    /**
+     * Gets the event indicators of the visible cells, the layout is rebuilt only when the events changed
+     *
+     * @param eventIndex The event index
+     *
+     * @return The event layout
+     */
+    DCEventLayout getEventLayout(DCEventIndex eventIndex)
+    {
+        if(eventLayout == null || !eventLayout.isCurrent(eventIndex))
+        {
+            eventLayout = new DCEventLayout(eventIndex, firstCellEpochDay, cellCount);
+        }
+
+        return eventLayout;
+    }
+
+    /**
+     * Gets the epoch day of the cell
+     *
+     * @param cell The cell position
+     *
+     * @return The epoch day
+     */
+    int getEpochDay(int cell)
+    {
+        return firstCellEpochDay + cell;
+    }
+
+    /**
+     * Gets the cell position of the epoch day
+     *
+     * @param epochDay The epoch day
+     *
+     * @return The cell position, -1 if the epoch day is not visible in the month
+     */
+    int getCell(int epochDay)
+    {
+        int cell = epochDay - firstCellEpochDay;
+
+        return cell >= 0 && cell < cellCount ? cell : -1;
+    }
+
+    /**
+     * Checks if the epoch day belongs to the month
+     *
+     * @param epochDay The epoch day
+     *
+     * @return True - epoch day is in the month, False - if otherwise
+     */
+    boolean isInMonth(int epochDay)
+    {
+        return epochDay >= monthStartEpochDay && epochDay <= monthEndEpochDay;
+    }
+
+    /**
+     * Gets the dates list (present month values)
+     *
+     * @return The dates list
+     */
+    ArrayList<String> getDates()
+    {
+        return getDates(monthStartEpochDay, monthEndEpochDay);
+    }
+
+    /**
+     * Gets the recalibrate dates list (past month values, present month values, future month values)
+     *
+     * @return The recalibrate dates list
+     */
+    ArrayList<String> getRecalibrateDates()
+    {
+        return getDates(firstCellEpochDay, firstCellEpochDay + cellCount - 1);
+    }
+
+    /**
+     * Sets the dates sub values map, the previous sub values of the month dates are replaced (the leading & trailing
+     * dates keep the sub values set for their own months)
      *
      * @param datesSubValues The dates sub value list map
      */
     void setDatesSubValues(Map<String, String> datesSubValues)
     {
-        this.datesSubValues = datesSubValues;
+        clearDatesSubValues();
+
+        for(Map.Entry<String, String> dateSubValue: datesSubValues.entrySet())
+        {
+            setDateSubValue(dateSubValue.getKey(), dateSubValue.getValue());
+        }
     }
 
     /**
@@ -73,7 +193,53 @@ class DCData
      */
     void setDateSubValue(String dateKey, String subValue)
     {
-        datesSubValues.put(dateKey, subValue);
+        setDateSubValue(DCUtil.getEpochDay(dateKey, datesFormat, locale), subValue);
+    }
+
+    /**
+     * Sets the date sub value, if the date is visible in the month
+     *
+     * @param epochDay The date epoch day
+     *
+     * @param subValue The sub value
+     */
+    void setDateSubValue(int epochDay, String subValue)
+    {
+        if(getCell(epochDay) >= 0)
+        {
+            subValueStore.set(epochDay, subValue);
+        }
+    }
+
+    /**
+     * Gets the date sub value of the cell
+     *
+     * @param cell The cell position
+     *
+     * @return The sub value, empty if not available
+     */
+    String getDateSubValue(int cell)
+    {
+        String subValue = subValueStore.get(firstCellEpochDay + cell);
+
+        return subValue != null ? subValue : "";
+    }
+
+    /**
+     * Gets the accessibility description of the day cell, the full date followed by the sub value (if any)
+     *
+     * @param cell The cell position
+     *
+     * @param showDaySubValue True - the sub value is shown in the cell, False - if otherwise
+     *
+     * @return The day cell description
+     */
+    String getCellDescription(int cell, boolean showDaySubValue)
+    {
+        String fullDate = localeTable.getFullDate(getEpochDay(cell));
+        String subValue = showDaySubValue ? getDateSubValue(cell) : "";
+
+        return subValue.length() > 0 ? fullDate + ", " + subValue : fullDate;
     }
 
     /**
@@ -83,17 +249,35 @@ class DCData
      */
     void removeDateSubValue(String dateKey)
     {
-        if(datesSubValues.containsKey(dateKey))
-        {
-            datesSubValues.remove(dateKey);
-        }
+        setDateSubValue(dateKey, null);
     }
 
     /**
-     * Clear dates sub values
+     * Clear dates sub values of the month dates, the leading & trailing dates belong to the previous & next months
+     * (the sub values are shared by date)
      */
     void clearDatesSubValues()
     {
-        datesSubValues.clear();
+        subValueStore.clearRange(monthStartEpochDay, monthEndEpochDay);
+    }
+
+    /**
+     * Gets the dates list between the epoch days
+     *
+     * @param startEpochDay The start epoch day
+     *
+     * @param endEpochDay The end epoch day
+     *
+     * @return The dates list
+     */
+    private ArrayList<String> getDates(int startEpochDay, int endEpochDay)
+    {
+        ArrayList<String> dates = new ArrayList<>(endEpochDay - startEpochDay + 1);
+        for(int epochDay = startEpochDay; epochDay <= endEpochDay; epochDay++)
+        {
+            dates.add(DCUtil.getDateInFormat(epochDay, datesFormat, locale));
+        }
+
+        return dates;
     }
 }
@@ -0,0 +1,179 @@
+package com.vikramezhil.droidcalendarview;
+
+import java.util.BitSet;
+
+/**
+ * Droid Calendar Date Set
+ *
+ * Set of dates indexed by epoch day (one bit per day from the earliest added date), membership checks are O(1)
+ * and date ranges are added & removed in bulk
+ *
+ * @author Vikram Ezhil
+ */
+
+class DCDateSet
+{
+    private BitSet days = new BitSet();
+    private int originEpochDay = 0;
+
+    /**
+     * Checks if the date is in the set
+     *
+     * @param epochDay The date epoch day
+     *
+     * @return True - date is in the set, False - if otherwise
+     */
+    boolean contains(int epochDay)
+    {
+        long index = (long) epochDay - originEpochDay;
+
+        return index >= 0 && index <= Integer.MAX_VALUE && days.get((int) index);
+    }
+
+    /**
+     * Adds the date to the set
+     *
+     * @param epochDay The date epoch day
+     */
+    void add(int epochDay)
+    {
+        addRange(epochDay, epochDay);
+    }
+
+    /**
+     * Adds the dates to the set, the origin is moved once to the earliest date (so the dates order does not matter)
+     *
+     * @param epochDays The dates epoch days
+     *
+     * @param count The dates count in the epoch days
+     */
+    void addAll(int[] epochDays, int count)
+    {
+        if(count <= 0)
+        {
+            return;
+        }
+
+        int minEpochDay = epochDays[0];
+        for(int catx=1;catx<count;catx++)
+        {
+            minEpochDay = Math.min(minEpochDay, epochDays[catx]);
+        }
+
+        ensureOrigin(minEpochDay);
+
+        for(int catx=0;catx<count;catx++)
+        {
+            days.set(epochDays[catx] - originEpochDay);
+        }
+    }
+
+    /**
+     * Adds the date range to the set
+     *
+     * @param startEpochDay The range start epoch day
+     *
+     * @param endEpochDay The range end epoch day (included)
+     */
+    void addRange(int startEpochDay, int endEpochDay)
+    {
+        if(endEpochDay < startEpochDay)
+        {
+            return;
+        }
+
+        ensureOrigin(startEpochDay);
+
+        days.set(startEpochDay - originEpochDay, endEpochDay - originEpochDay + 1);
+    }
+
+    /**
+     * Removes the date from the set
+     *
+     * @param epochDay The date epoch day
+     */
+    void remove(int epochDay)
+    {
+        removeRange(epochDay, epochDay);
+    }
+
+    /**
+     * Removes the date range from the set
+     *
+     * @param startEpochDay The range start epoch day
+     *
+     * @param endEpochDay The range end epoch day (included)
+     */
+    void removeRange(int startEpochDay, int endEpochDay)
+    {
+        // Dates before the origin are never in the set
+        int start = Math.max(startEpochDay, originEpochDay);
+        if(endEpochDay < start)
+        {
+            return;
+        }
+
+        days.clear(start - originEpochDay, endEpochDay - originEpochDay + 1);
+    }
+
+    /**
+     * Removes all the dates from the set
+     */
+    void clear()
+    {
+        days = new BitSet();
+        originEpochDay = 0;
+    }
+
+    /**
+     * Checks if the set is empty
+     *
+     * @return True - set is empty, False - if otherwise
+     */
+    boolean isEmpty()
+    {
+        return days.isEmpty();
+    }
+
+    /**
+     * Gets the dates count in the set
+     *
+     * @return The dates count
+     */
+    int size()
+    {
+        return days.cardinality();
+    }
+
+    /**
+     * Moves the origin back to (or before) the epoch day if it is earlier than the origin, the dates in the set are
+     * shifted. The origin moves back by at least the dates span, so adding dates in descending order shifts the dates
+     * only a logarithmic number of times
+     *
+     * @param epochDay The epoch day
+     */
+    private void ensureOrigin(int epochDay)
+    {
+        if(days.isEmpty())
+        {
+            originEpochDay = epochDay;
+        }
+        else if(epochDay < originEpochDay)
+        {
+            // Headroom of the dates span before the epoch day
+            int shift = (int) Math.min((long) originEpochDay - epochDay + days.length(), (long) originEpochDay - Integer.MIN_VALUE);
+
+            BitSet shiftedDays = new BitSet(days.length() + shift);
+            for(int index = days.nextSetBit(0); index >= 0; index = days.nextSetBit(index + 1))
+            {
+                int end = days.nextClearBit(index);
+
+                shiftedDays.set(index + shift, end + shift);
+                index = end;
+            }
+
+            days = shiftedDays;
+            originEpochDay -= shift;
+        }
+    }
+}
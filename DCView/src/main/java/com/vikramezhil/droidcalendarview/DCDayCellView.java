@@ -0,0 +1,365 @@
+package com.vikramezhil.droidcalendarview;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.os.Build;
+import android.util.AttributeSet;
+import android.view.View;
+import android.view.accessibility.AccessibilityEvent;
+import android.view.accessibility.AccessibilityNodeInfo;
+
+/**
+ * Droid Calendar Day Cell View
+ *
+ * Days header or day cell of the grid & recycler renderers, the date, sub value, event indicators, separators and the
+ * cell state are drawn in a single view with the fixed cell metrics of the style (no child views to measure & layout).
+ * The accessibility services read the full weekday name or the full date & sub value, with the clicked (selected) and
+ * disabled state
+ *
+ * @author Vikram Ezhil
+ */
+
+class DCDayCellView extends View
+{
+    private DCCellMetrics metrics;
+    private boolean daysHeader;
+    private String dayValue, daySubValue, daysHeaderDescription;
+    private int state;
+    private int bgColor, textColor, subTextColor;
+    private DCEventLayout eventLayout;
+    private DCData dcData;
+    private int cell = -1;
+    private boolean accessible = true;
+
+    // MARK: View Constructors
+
+    public DCDayCellView(Context context)
+    {
+        super(context);
+    }
+
+    public DCDayCellView(Context context, AttributeSet attrs)
+    {
+        super(context, attrs);
+    }
+
+    public DCDayCellView(Context context, AttributeSet attrs, int defStyleAttr)
+    {
+        super(context, attrs, defStyleAttr);
+    }
+
+    // MARK: DCDayCellView Methods
+
+    /**
+     * Sets the days header of the cell, the cell is only redrawn if the header changed
+     *
+     * @param metrics The cell metrics of the style
+     *
+     * @param daysHeader The days header
+     *
+     * @param daysHeaderDescription The full weekday name of the days header
+     */
+    void setDaysHeader(DCCellMetrics metrics, String daysHeader, String daysHeaderDescription)
+    {
+        boolean changed = setMetrics(metrics) | !this.daysHeader | !equals(dayValue, daysHeader);
+
+        setAccessible(true);
+
+        this.daysHeader = true;
+        this.dayValue = daysHeader;
+        this.daySubValue = null;
+        this.daysHeaderDescription = daysHeaderDescription;
+        this.eventLayout = null;
+        this.dcData = null;
+
+        setEnabled(false);
+
+        if(changed)
+        {
+            invalidate();
+        }
+    }
+
+    /**
+     * Sets the date of the cell, the cell is only redrawn if a drawn value changed
+     *
+     * @param metrics The cell metrics of the style
+     *
+     * @param dayValue The date value
+     *
+     * @param daySubValue The date sub value, null if the sub values are not shown
+     *
+     * @param state The day cell state
+     *
+     * @param bgColor The day cell bg color
+     *
+     * @param textColor The date text color
+     *
+     * @param subTextColor The date sub value & "+N" overflow text color
+     *
+     * @param eventLayout The month event layout, null shows no indicators
+     *
+     * @param dcData The droid calendar data of the cell (the accessibility description is read from it)
+     *
+     * @param cell The day cell position
+     */
+    void setDay(DCCellMetrics metrics, String dayValue, String daySubValue, int state, int bgColor, int textColor, int subTextColor, DCEventLayout eventLayout, DCData dcData, int cell)
+    {
+        setAccessible(state != DCCellState.HIDDEN);
+
+        boolean changed = setMetrics(metrics) | daysHeader | !equals(this.dayValue, dayValue) | !equals(this.daySubValue, daySubValue)
+                | this.state != state | this.bgColor != bgColor | this.textColor != textColor | this.subTextColor != subTextColor
+                | this.eventLayout != eventLayout | this.cell != cell;
+
+        this.daysHeader = false;
+        this.dayValue = dayValue;
+        this.daySubValue = daySubValue;
+        this.state = state;
+        this.bgColor = bgColor;
+        this.textColor = textColor;
+        this.subTextColor = subTextColor;
+        this.eventLayout = eventLayout;
+        this.dcData = dcData;
+        this.cell = cell;
+
+        setEnabled(DCCellState.isEnabled(state));
+
+        if(changed)
+        {
+            invalidate();
+        }
+    }
+
+    /**
+     * Sets the date sub value of the cell, the cell is only redrawn if the sub value changed
+     *
+     * @param daySubValue The date sub value
+     */
+    void setDaySubValue(String daySubValue)
+    {
+        if(!daysHeader && !equals(this.daySubValue, daySubValue))
+        {
+            this.daySubValue = daySubValue;
+
+            invalidate();
+        }
+    }
+
+    /**
+     * Gets the day cell position
+     *
+     * @return The day cell position, -1 for the days header cells
+     */
+    int getCell()
+    {
+        return daysHeader ? -1 : cell;
+    }
+
+    // MARK: View Methods
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec)
+    {
+        // Fixed height, the cell contents are never measured
+        int height = metrics != null ? (int) Math.ceil(metrics.rowHeight) : 0;
+
+        setMeasuredDimension(getDefaultSize(getSuggestedMinimumWidth(), widthMeasureSpec), resolveSize(height, heightMeasureSpec));
+    }
+
+    @Override
+    public boolean hasOverlappingRendering()
+    {
+        // The cell alpha is applied to the drawn colors, the cell is never drawn through an alpha layer
+        return false;
+    }
+
+    @Override
+    public void onInitializeAccessibilityNodeInfo(AccessibilityNodeInfo info)
+    {
+        super.onInitializeAccessibilityNodeInfo(info);
+
+        // Described on demand, the binds don't build the description strings
+        info.setContentDescription(getDescription());
+        info.setSelected(!daysHeader && state == DCCellState.CLICKED);
+    }
+
+    @Override
+    public void onPopulateAccessibilityEvent(AccessibilityEvent event)
+    {
+        super.onPopulateAccessibilityEvent(event);
+
+        String description = getDescription();
+        if(description != null)
+        {
+            event.getText().add(description);
+        }
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas)
+    {
+        if(metrics == null)
+        {
+            return;
+        }
+
+        DCStyle style = metrics.style;
+        float width = getWidth();
+        boolean showColSeparator = daysHeader ? style.showDaysHeaderColSeparator : style.showColSeparator;
+        boolean showRowSeparator = daysHeader ? style.showDaysHeaderRowSeparator : style.showRowSeparator;
+
+        // Cell bounds (right of the column separator, inside the cell margins)
+        float contentLeft = showColSeparator ? metrics.separatorSize : 0;
+        float cellLeft = contentLeft + metrics.margin;
+        float cellRight = width - metrics.margin;
+        float textX = (cellLeft + cellRight) / 2;
+
+        metrics.fillPaint.setColor(daysHeader ? style.daysHeadersLayoutBGColor : style.daysLayoutBGColor);
+        canvas.drawRect(0, 0, width, metrics.rowHeight, metrics.fillPaint);
+
+        if(daysHeader)
+        {
+            metrics.daysHeaderTextPaint.setColor(style.daysHeadersTextColor);
+            canvas.drawText(dayValue, textX, metrics.daysHeaderBaseline, metrics.daysHeaderTextPaint);
+        }
+        else
+        {
+            drawDay(canvas, cellLeft, cellRight, textX);
+        }
+
+        // Separators, column (left) & row (bottom)
+
+        if(showColSeparator)
+        {
+            metrics.fillPaint.setColor(style.colSeparatorColor);
+            canvas.drawRect(0, 0, metrics.separatorSize, metrics.rowHeight, metrics.fillPaint);
+        }
+
+        if(showRowSeparator)
+        {
+            float separatorTop = metrics.rowHeight - metrics.margin - metrics.separatorSize;
+
+            metrics.fillPaint.setColor(style.rowSeparatorColor);
+            canvas.drawRect(contentLeft, separatorTop, width, separatorTop + metrics.separatorSize, metrics.fillPaint);
+        }
+    }
+
+    // MARK: DCDayCellView Private Methods
+
+    /**
+     * Draws the state bg, date, sub value & event indicators of the day cell
+     *
+     * @param canvas The canvas
+     *
+     * @param cellLeft The cell left
+     *
+     * @param cellRight The cell right
+     *
+     * @param textX The text center
+     */
+    private void drawDay(Canvas canvas, float cellLeft, float cellRight, float textX)
+    {
+        float alpha = DCCellState.getAlpha(state);
+
+        if(Color.alpha(bgColor) != 0)
+        {
+            metrics.fillPaint.setColor(DCCellState.applyAlpha(bgColor, alpha));
+            canvas.drawRect(cellLeft, metrics.margin, cellRight, metrics.margin + metrics.cellHeight, metrics.fillPaint);
+        }
+
+        if(state == DCCellState.HIDDEN)
+        {
+            return;
+        }
+
+        // Event indicators are drawn in a strip at the bottom of the cell, if the month has events
+        boolean showEvents = eventLayout != null && !eventLayout.empty && cell >= 0 && cell < eventLayout.cellCount;
+        int baseline = showEvents ? 1 : 0;
+
+        metrics.dayValueTextPaint.setColor(DCCellState.applyAlpha(textColor, alpha));
+        canvas.drawText(dayValue, textX, metrics.dayValueBaseline[baseline], metrics.dayValueTextPaint);
+
+        if(metrics.style.showDaySubValue && daySubValue != null)
+        {
+            metrics.daySubValueTextPaint.setColor(DCCellState.applyAlpha(subTextColor, alpha));
+            canvas.drawText(daySubValue, textX, metrics.daySubValueBaseline[baseline], metrics.daySubValueTextPaint);
+        }
+
+        if(showEvents)
+        {
+            metrics.dcEventPainter.draw(canvas, eventLayout, cell, metrics.style.eventIndicatorStyle, subTextColor, alpha, cellLeft, metrics.margin + metrics.cellHeight - metrics.dcEventPainter.stripHeight, cellRight - cellLeft);
+        }
+    }
+
+    /**
+     * Gets the accessibility description of the cell
+     *
+     * @return The full weekday name (days header) or the full date & sub value, null for the hidden dates
+     */
+    private String getDescription()
+    {
+        if(daysHeader)
+        {
+            return daysHeaderDescription;
+        }
+
+        return dcData != null && state != DCCellState.HIDDEN ? dcData.getCellDescription(cell, daySubValue != null) : null;
+    }
+
+    /**
+     * Sets if the cell is read by the accessibility services (the hidden dates are not read), only when it changed
+     *
+     * @param accessible True - the cell is read, False - if otherwise
+     */
+    private void setAccessible(boolean accessible)
+    {
+        if(this.accessible != accessible)
+        {
+            this.accessible = accessible;
+
+            if(Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN)
+            {
+                setImportantForAccessibility(accessible ? IMPORTANT_FOR_ACCESSIBILITY_AUTO : IMPORTANT_FOR_ACCESSIBILITY_NO);
+            }
+        }
+    }
+
+    /**
+     * Sets the cell metrics, the cell is laid out again only if the cell height changed
+     *
+     * @param metrics The cell metrics of the style
+     *
+     * @return True - metrics changed, False - if otherwise
+     */
+    private boolean setMetrics(DCCellMetrics metrics)
+    {
+        if(this.metrics == metrics)
+        {
+            return false;
+        }
+
+        if(this.metrics == null || this.metrics.rowHeight != metrics.rowHeight)
+        {
+            requestLayout();
+        }
+
+        this.metrics = metrics;
+
+        return true;
+    }
+
+    /**
+     * Checks if the texts are equal
+     *
+     * @param text The text
+     *
+     * @param otherText The other text
+     *
+     * @return True - equal, False - if otherwise
+     */
+    private static boolean equals(String text, String otherText)
+    {
+        return text == null ? otherText == null : text.equals(otherText);
+    }
+}
@@ -0,0 +1,343 @@
+package com.vikramezhil.droidcalendarview;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.zip.CRC32;
+
+/**
+ * Droid Calendar Disk Cache
+ *
+ * Keeps the dates sub values of a month range on disk, so a cold start shows the cached sub values without waiting for
+ * the sub value provider. The months are not cached, building a month is cheaper than reading it back.
+ *
+ * The sub values file holds a header (format version & cache key) and the sparse sub values (epoch day & length
+ * prefixed UTF-8 sub value) with a CRC32 of the whole body. Files of another format version or key (or with a wrong CRC) are deleted. All the file work (loads & saves) runs
+ * in order on a single background thread, the UI thread never touches the disk
+ *
+ * @author Vikram Ezhil
+ */
+
+class DCDiskCache
+{
+    static final int FORMAT_VERSION = 4;
+
+    private static final int SUB_VALUES_MAGIC = 0x44435356;
+    private static final int HEADER_BYTES = 24;
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactory()
+    {
+        public Thread newThread(Runnable runnable)
+        {
+            Thread thread = new Thread(runnable, "DCDiskCache");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+
+            return thread;
+        }
+    });
+
+    private final File directory;
+    private final File subValuesFile;
+    private final byte[] key;
+    private volatile int savedSubValuesVersion = -1;
+
+    /**
+     * Droid Calendar Disk Cache Constructor, the files are only touched by the loads & saves
+     *
+     * @param directory The cache directory
+     *
+     * @param key The cache key (month range)
+     */
+    DCDiskCache(File directory, String key)
+    {
+        this.directory = directory;
+        this.subValuesFile = new File(directory, "dc_" + Integer.toHexString(key.hashCode()) + ".subvalues");
+        this.key = key.getBytes(UTF_8);
+    }
+
+    // MARK: DCDiskCache Methods
+
+    /**
+     * Loads the cached sub values into the store on the background thread, an invalid or stale sub values file is deleted
+     *
+     * @param subValueStore The sub values store
+     *
+     * @param onLoaded Runs on the background thread after the load (e.g. to show the loaded sub values), can be null
+     *
+     * @return The pending load
+     */
+    Future<?> loadSubValues(final DCSubValueStore subValueStore, final Runnable onLoaded)
+    {
+        return executor.submit(new Runnable()
+        {
+            public void run()
+            {
+                readSubValues(subValueStore);
+
+                if(onLoaded != null)
+                {
+                    onLoaded.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * Saves the sub values of the store on the background thread, if they changed since the last load or successful save
+     * (a failed save is written again by the next save)
+     *
+     * @param subValueStore The sub values store
+     */
+    void saveSubValues(final DCSubValueStore subValueStore)
+    {
+        if(subValueStore.getVersion() == savedSubValuesVersion)
+        {
+            return;
+        }
+
+        executor.execute(new Runnable()
+        {
+            public void run()
+            {
+                writeSubValues(subValueStore);
+            }
+        });
+    }
+
+    // MARK: DCDiskCache Private Methods
+
+    /**
+     * Reads the sub values file into the store, an invalid or stale sub values file is deleted
+     *
+     * @param subValueStore The sub values store
+     */
+    private void readSubValues(DCSubValueStore subValueStore)
+    {
+        // Dropping the months files of the earlier format versions
+        File[] monthsFiles = directory.listFiles(new FilenameFilter()
+        {
+            public boolean accept(File dir, String name)
+            {
+                return name.startsWith("dc_") && name.endsWith(".months");
+            }
+        });
+
+        if(monthsFiles != null)
+        {
+            for(File monthsFile: monthsFiles)
+            {
+                monthsFile.delete();
+            }
+        }
+
+        if(subValuesFile.isFile())
+        {
+            try
+            {
+                byte[] subValuesBytes = new byte[(int) subValuesFile.length()];
+
+                DataInputStream fileInput = new DataInputStream(new FileInputStream(subValuesFile));
+                try
+                {
+                    fileInput.readFully(subValuesBytes);
+                }
+                finally
+                {
+                    fileInput.close();
+                }
+
+                if(!loadSubValues(ByteBuffer.wrap(subValuesBytes), subValueStore))
+                {
+                    subValuesFile.delete();
+                }
+            }
+            catch (Exception e)
+            {
+                e.printStackTrace();
+
+                subValuesFile.delete();
+            }
+        }
+
+        savedSubValuesVersion = subValueStore.getVersion();
+    }
+
+    /**
+     * Loads the sub values of the sub values file bytes into the store
+     *
+     * @param subValuesBuffer The sub values file bytes
+     *
+     * @param subValueStore The sub values store
+     *
+     * @return True - sub values loaded, False - file is invalid or stale
+     */
+    private boolean loadSubValues(ByteBuffer subValuesBuffer, DCSubValueStore subValueStore)
+    {
+        if(subValuesBuffer.remaining() < HEADER_BYTES || subValuesBuffer.getInt() != SUB_VALUES_MAGIC || subValuesBuffer.getInt() != FORMAT_VERSION)
+        {
+            return false;
+        }
+
+        int keyLength = subValuesBuffer.getInt();
+        if(keyLength != key.length || subValuesBuffer.remaining() < keyLength + 12)
+        {
+            return false;
+        }
+
+        byte[] fileKey = new byte[keyLength];
+        subValuesBuffer.get(fileKey);
+
+        int count = subValuesBuffer.getInt();
+        int bodyLength = subValuesBuffer.getInt();
+        int bodyCrc = subValuesBuffer.getInt();
+
+        if(!Arrays.equals(fileKey, key) || bodyLength != subValuesBuffer.remaining())
+        {
+            return false;
+        }
+
+        byte[] body = new byte[bodyLength];
+        subValuesBuffer.get(body);
+
+        if(getCrc(body) != bodyCrc)
+        {
+            return false;
+        }
+
+        ByteBuffer bodyBuffer = ByteBuffer.wrap(body);
+        for(int catx=0;catx<count;catx++)
+        {
+            if(bodyBuffer.remaining() < 8)
+            {
+                return false;
+            }
+
+            int epochDay = bodyBuffer.getInt();
+            int subValueLength = bodyBuffer.getInt();
+            if(subValueLength < 0 || subValueLength > bodyBuffer.remaining())
+            {
+                return false;
+            }
+
+            String subValue = new String(body, bodyBuffer.position(), subValueLength, UTF_8);
+            bodyBuffer.position(bodyBuffer.position() + subValueLength);
+
+            // Sub values already set (e.g. by the app) are newer than the cached ones
+            if(subValueStore.get(epochDay) == null)
+            {
+                subValueStore.set(epochDay, subValue);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Writes the sub values of the store to a temporary file which then replaces the sub values file, the saved version
+     * is only recorded once the sub values file is replaced
+     *
+     * @param subValueStore The sub values store
+     */
+    private void writeSubValues(DCSubValueStore subValueStore)
+    {
+        // Taken before the sub values are read, so changes made during the write are saved again
+        int version = subValueStore.getVersion();
+        if(version == savedSubValuesVersion)
+        {
+            // Already written by an earlier queued save
+            return;
+        }
+
+        File tempFile = new File(subValuesFile.getPath() + ".tmp");
+
+        try
+        {
+            if(!directory.isDirectory() && !directory.mkdirs())
+            {
+                throw new IOException("Can't create the cache directory " + directory);
+            }
+
+            ByteArrayOutputStream bodyOutput = new ByteArrayOutputStream();
+            DataOutputStream bodyData = new DataOutputStream(bodyOutput);
+
+            int count = 0;
+            for(int epochDay = subValueStore.startEpochDay; epochDay <= subValueStore.endEpochDay; epochDay++)
+            {
+                String subValue = subValueStore.get(epochDay);
+                if(subValue != null)
+                {
+                    // Length prefixed, so sub values of any length are saved (writeUTF is limited to 64KB)
+                    byte[] subValueBytes = subValue.getBytes(UTF_8);
+
+                    bodyData.writeInt(epochDay);
+                    bodyData.writeInt(subValueBytes.length);
+                    bodyData.write(subValueBytes);
+
+                    count++;
+                }
+            }
+            bodyData.flush();
+
+            byte[] body = bodyOutput.toByteArray();
+
+            DataOutputStream fileData = new DataOutputStream(new FileOutputStream(tempFile));
+            try
+            {
+                fileData.writeInt(SUB_VALUES_MAGIC);
+                fileData.writeInt(FORMAT_VERSION);
+                fileData.writeInt(key.length);
+                fileData.write(key);
+                fileData.writeInt(count);
+                fileData.writeInt(body.length);
+                fileData.writeInt(getCrc(body));
+                fileData.write(body);
+            }
+            finally
+            {
+                fileData.close();
+            }
+
+            if(!tempFile.renameTo(subValuesFile))
+            {
+                throw new IOException("Can't replace the sub values file " + subValuesFile);
+            }
+
+            savedSubValuesVersion = version;
+        }
+        catch (Exception e)
+        {
+            e.printStackTrace();
+
+            tempFile.delete();
+        }
+    }
+
+    /**
+     * Gets the CRC32 of the bytes
+     *
+     * @param bytes The bytes
+     *
+     * @return The CRC32 (lower 32 bits)
+     */
+    private static int getCrc(byte[] bytes)
+    {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,96 @@
+package com.vikramezhil.droidcalendarview;
+
+import java.util.Locale;
+
+/**
+ * Droid Calendar Event
+ *
+ * Immutable event spanning one or more days, shown as an indicator (dot or bar) in the day cells it covers
+ *
+ * @author Vikram Ezhil
+ */
+
+public final class DCEvent
+{
+    final String title;
+    final int startEpochDay;
+    final int endEpochDay;
+    final int color;
+
+    /**
+     * Droid Calendar Event Constructor
+     *
+     * @param title The event title
+     *
+     * @param startDate The event start date, NOTE: Date format should be "d/M/YYYY"
+     *
+     * @param endDate The event end date (included), NOTE: Date format should be "d/M/YYYY"
+     *
+     * @param color The event indicator color
+     */
+    public DCEvent(String title, String startDate, String endDate, int color)
+    {
+        this(title, DCUtil.getEpochDay(startDate, DCFormats.DC_DMY_FORMAT, Locale.US), DCUtil.getEpochDay(endDate, DCFormats.DC_DMY_FORMAT, Locale.US), color);
+    }
+
+    /**
+     * Droid Calendar Event Constructor
+     *
+     * @param title The event title
+     *
+     * @param startEpochDay The event start epoch day
+     *
+     * @param endEpochDay The event end epoch day (included), an end before the start is moved to the start
+     *
+     * @param color The event indicator color
+     */
+    DCEvent(String title, int startEpochDay, int endEpochDay, int color)
+    {
+        this.title = title;
+        this.startEpochDay = startEpochDay;
+        this.endEpochDay = Math.max(startEpochDay, endEpochDay);
+        this.color = color;
+    }
+
+    // MARK: DCEvent Methods
+
+    /**
+     * Gets the event title
+     *
+     * @return The event title
+     */
+    public String getTitle()
+    {
+        return title;
+    }
+
+    /**
+     * Gets the event start date
+     *
+     * @return The start date in "d/M/YYYY" format
+     */
+    public String getStartDate()
+    {
+        return DCUtil.getDateInFormat(startEpochDay, DCFormats.DC_DMY_FORMAT, Locale.US);
+    }
+
+    /**
+     * Gets the event end date
+     *
+     * @return The end date (included) in "d/M/YYYY" format
+     */
+    public String getEndDate()
+    {
+        return DCUtil.getDateInFormat(endEpochDay, DCFormats.DC_DMY_FORMAT, Locale.US);
+    }
+
+    /**
+     * Gets the event indicator color
+     *
+     * @return The event indicator color
+     */
+    public int getColor()
+    {
+        return color;
+    }
+}
@@ -0,0 +1,208 @@
+package com.vikramezhil.droidcalendarview;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Droid Calendar Event Import Runner
+ *
+ * Runs the event imports on a background thread (one import at a time), the imported batches, progress & result are
+ * sent back to the UI thread
+ *
+ * @author Vikram Ezhil
+ */
+
+class DCEventImportRunner
+{
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactory()
+    {
+        public Thread newThread(Runnable runnable)
+        {
+            Thread thread = new Thread(runnable, "DCEventImportRunner");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+
+            return thread;
+        }
+    });
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final List<DCEventImporter> activeImporters = new ArrayList<>();
+    private final OnDCEventBatchListener onDCEventBatchListener;
+
+    /**
+     * Droid Calendar Event Import Runner Constructor
+     *
+     * @param onDCEventBatchListener The class instance to initialize the listener, called on the UI thread
+     */
+    DCEventImportRunner(OnDCEventBatchListener onDCEventBatchListener)
+    {
+        this.onDCEventBatchListener = onDCEventBatchListener;
+    }
+
+    // MARK: DCEventImportRunner Methods
+
+    /**
+     * Imports the events of the stream on a background thread, the stream is closed when the import ends
+     *
+     * @param eventIndex The event index to import into
+     *
+     * @param inputStream The iCalendar stream
+     *
+     * @param totalBytes The stream bytes count for the progress, -1 if not known
+     *
+     * @param color The indicator color of the imported events
+     *
+     * @param onDCImportListener The class instance to initialize the listener, can be null
+     */
+    void start(DCEventIndex eventIndex, InputStream inputStream, long totalBytes, int color, OnDCImportListener onDCImportListener)
+    {
+        start(eventIndex, inputStream, null, totalBytes, color, onDCImportListener);
+    }
+
+    /**
+     * Imports the events of the file on a background thread
+     *
+     * @param eventIndex The event index to import into
+     *
+     * @param file The iCalendar file
+     *
+     * @param color The indicator color of the imported events
+     *
+     * @param onDCImportListener The class instance to initialize the listener, can be null
+     */
+    void start(DCEventIndex eventIndex, File file, int color, OnDCImportListener onDCImportListener)
+    {
+        start(eventIndex, null, file, file.length(), color, onDCImportListener);
+    }
+
+    /**
+     * Cancels all the imports, the events imported so far are kept and no more updates are sent
+     */
+    void cancel()
+    {
+        for(DCEventImporter importer: activeImporters)
+        {
+            importer.cancel();
+        }
+
+        activeImporters.clear();
+    }
+
+    // MARK: DCEventImportRunner Private Methods
+
+    /**
+     * Imports the events of the stream or the file on a background thread
+     *
+     * @param eventIndex The event index to import into
+     *
+     * @param inputStream The iCalendar stream, null if the file is imported
+     *
+     * @param file The iCalendar file, null if the stream is imported
+     *
+     * @param totalBytes The bytes count for the progress, -1 if not known
+     *
+     * @param color The indicator color of the imported events
+     *
+     * @param onDCImportListener The class instance to initialize the listener, can be null
+     */
+    private void start(DCEventIndex eventIndex, final InputStream inputStream, final File file, final long totalBytes, int color, final OnDCImportListener onDCImportListener)
+    {
+        final DCEventImporter[] importer = new DCEventImporter[1];
+
+        importer[0] = new DCEventImporter(eventIndex, color, new OnDCEventBatchListener()
+        {
+            public void onEventsImported(final int startEpochDay, final int endEpochDay, final int eventsImported, final long bytesRead)
+            {
+                handler.post(new Runnable()
+                {
+                    public void run()
+                    {
+                        if(importer[0].isCancelled())
+                        {
+                            return;
+                        }
+
+                        onDCEventBatchListener.onEventsImported(startEpochDay, endEpochDay, eventsImported, bytesRead);
+
+                        if(onDCImportListener != null)
+                        {
+                            onDCImportListener.onDCImportProgress(bytesRead, totalBytes, eventsImported);
+                        }
+                    }
+                });
+            }
+        });
+
+        activeImporters.add(importer[0]);
+
+        executor.execute(new Runnable()
+        {
+            public void run()
+            {
+                int eventsImported = 0;
+                Exception importException = null;
+
+                try
+                {
+                    eventsImported = file != null ? importer[0].importEvents(file) : importer[0].importEvents(inputStream);
+                }
+                catch (Exception e)
+                {
+                    importException = e;
+                }
+                finally
+                {
+                    if(inputStream != null)
+                    {
+                        try
+                        {
+                            inputStream.close();
+                        }
+                        catch (Exception e)
+                        {
+                            e.printStackTrace();
+                        }
+                    }
+                }
+
+                final int importedEvents = eventsImported;
+                final Exception exception = importException;
+                handler.post(new Runnable()
+                {
+                    public void run()
+                    {
+                        if(importer[0].isCancelled())
+                        {
+                            return;
+                        }
+
+                        activeImporters.remove(importer[0]);
+
+                        if(onDCImportListener == null)
+                        {
+                            return;
+                        }
+
+                        if(exception != null)
+                        {
+                            onDCImportListener.onDCImportError(exception);
+                        }
+                        else
+                        {
+                            onDCImportListener.onDCImportComplete(importedEvents);
+                        }
+                    }
+                });
+            }
+        });
+    }
+}
@@ -0,0 +1,642 @@
+package com.vikramezhil.droidcalendarview;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.TimeZone;
+
+/**
+ * Droid Calendar Event Importer
+ *
+ * Streams the VEVENTs of an iCalendar (.ics) file into the event index. The bytes are scanned line by line (unfolding
+ * continuation lines) from a fixed read buffer, only the DTSTART, DTEND, DURATION & SUMMARY of the current event are kept
+ * (the properties of the components nested in the event, e.g. VALARM, are skipped), and the events are added to the
+ * index in batches, so the heap used by the import doesn't grow with the file size
+ *
+ * NOTE: UTC ("Z") and TZID date-times are converted to the time zone of today's date (DCClock) before taking the day,
+ * dates & floating date-times are read as written. TZIDs are looked up as Olson time zone IDs (the VTIMEZONE definitions
+ * are not read), date-times with an unknown TZID are read as written
+ *
+ * @author Vikram Ezhil
+ */
+
+class DCEventImporter
+{
+    static final int BATCH_SIZE = 2000;
+    static final int MAX_LINE_LENGTH = 64 * 1024;
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final int MAP_WINDOW_SIZE = 32 * 1024 * 1024;
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private final DCEventIndex eventIndex;
+    private final int color;
+    private final OnDCEventBatchListener onDCEventBatchListener;
+    private final TimeZone timeZone;
+    private volatile boolean cancelled = false;
+
+    private final byte[] readBuffer = new byte[READ_BUFFER_SIZE];
+    private byte[] line = new byte[256];
+    private int lineLength = 0;
+    private boolean lineEnded = false;
+
+    private boolean inEvent = false;
+    private int nestedComponents = 0;
+    private int eventStartEpochDay;
+    private int eventEndEpochDay;
+    private boolean eventEndExclusive;
+    private int eventDurationDays;
+    private String eventSummary;
+    private long parsedDayMillis;
+    private String timeZoneId;
+    private TimeZone timeZoneOfId;
+
+    private final ArrayList<DCEvent> batch = new ArrayList<>(BATCH_SIZE);
+    private int batchStartEpochDay = Integer.MAX_VALUE;
+    private int batchEndEpochDay = Integer.MIN_VALUE;
+    private int eventsImported = 0;
+    private long bytesRead = 0;
+
+    /**
+     * Droid Calendar Event Importer Constructor
+     *
+     * @param eventIndex The event index to import into
+     *
+     * @param color The indicator color of the imported events
+     *
+     * @param onDCEventBatchListener The class instance to initialize the listener, called on the importing thread
+     */
+    DCEventImporter(DCEventIndex eventIndex, int color, OnDCEventBatchListener onDCEventBatchListener)
+    {
+        this.eventIndex = eventIndex;
+        this.color = color;
+        this.onDCEventBatchListener = onDCEventBatchListener;
+        this.timeZone = DCClock.getTimeZone();
+    }
+
+    // MARK: DCEventImporter Methods
+
+    /**
+     * Imports the events of the stream, the stream is read to the end but not closed
+     *
+     * @param inputStream The iCalendar stream
+     *
+     * @return The events imported
+     *
+     * @throws IOException If the stream can't be read
+     */
+    int importEvents(InputStream inputStream) throws IOException
+    {
+        int count;
+        while(!cancelled && (count = inputStream.read(readBuffer, 0, readBuffer.length)) != -1)
+        {
+            scan(readBuffer, count);
+        }
+
+        return finish();
+    }
+
+    /**
+     * Imports the events of the file, the file is read through memory mapped windows
+     *
+     * @param file The iCalendar file
+     *
+     * @return The events imported
+     *
+     * @throws IOException If the file can't be read
+     */
+    int importEvents(File file) throws IOException
+    {
+        FileInputStream fileInputStream = new FileInputStream(file);
+
+        try
+        {
+            FileChannel fileChannel = fileInputStream.getChannel();
+            long size = fileChannel.size();
+
+            for(long position = 0; position < size && !cancelled; position += MAP_WINDOW_SIZE)
+            {
+                MappedByteBuffer window = fileChannel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAP_WINDOW_SIZE, size - position));
+                while(window.hasRemaining() && !cancelled)
+                {
+                    int count = Math.min(readBuffer.length, window.remaining());
+                    window.get(readBuffer, 0, count);
+
+                    scan(readBuffer, count);
+                }
+            }
+        }
+        finally
+        {
+            fileInputStream.close();
+        }
+
+        return finish();
+    }
+
+    /**
+     * Cancels the import, the events imported so far are kept
+     */
+    void cancel()
+    {
+        cancelled = true;
+    }
+
+    /**
+     * Checks if the import was cancelled
+     *
+     * @return True - import was cancelled, False - if otherwise
+     */
+    boolean isCancelled()
+    {
+        return cancelled;
+    }
+
+    // MARK: DCEventImporter Private Methods
+
+    /**
+     * Splits the bytes into unfolded lines
+     *
+     * @param bytes The bytes
+     *
+     * @param count The bytes count
+     */
+    private void scan(byte[] bytes, int count)
+    {
+        for(int catx=0;catx<count;catx++)
+        {
+            byte value = bytes[catx];
+
+            if(lineEnded)
+            {
+                lineEnded = false;
+
+                if(value == ' ' || value == '\t')
+                {
+                    // Folded line, continuing the previous line
+                    continue;
+                }
+
+                processLine();
+                lineLength = 0;
+            }
+
+            if(value == '\n')
+            {
+                lineEnded = true;
+            }
+            else if(value != '\r')
+            {
+                appendToLine(value);
+            }
+        }
+
+        bytesRead += count;
+    }
+
+    /**
+     * Processes the last line & adds the remaining events to the index
+     *
+     * @return The events imported
+     */
+    private int finish()
+    {
+        if(!cancelled && lineLength > 0)
+        {
+            processLine();
+            lineLength = 0;
+        }
+
+        flush();
+
+        return eventsImported;
+    }
+
+    /**
+     * Appends the byte to the current line, lines longer than MAX_LINE_LENGTH are cut
+     *
+     * @param value The byte
+     */
+    private void appendToLine(byte value)
+    {
+        if(lineLength == line.length)
+        {
+            if(line.length >= MAX_LINE_LENGTH)
+            {
+                return;
+            }
+
+            byte[] grownLine = new byte[Math.min(line.length * 2, MAX_LINE_LENGTH)];
+            System.arraycopy(line, 0, grownLine, 0, lineLength);
+            line = grownLine;
+        }
+
+        line[lineLength++] = value;
+    }
+
+    /**
+     * Processes the current line (content line - NAME *(;PARAM) : VALUE)
+     */
+    private void processLine()
+    {
+        int nameEnd = 0;
+        while(nameEnd < lineLength && line[nameEnd] != ';' && line[nameEnd] != ':')
+        {
+            nameEnd++;
+        }
+
+        // Value starts after the first colon outside the quoted parameter values
+        int valueStart = nameEnd;
+        boolean quoted = false;
+        while(valueStart < lineLength && (quoted || line[valueStart] != ':'))
+        {
+            if(line[valueStart] == '"')
+            {
+                quoted = !quoted;
+            }
+
+            valueStart++;
+        }
+
+        if(valueStart >= lineLength)
+        {
+            return;
+        }
+
+        valueStart++;
+
+        if(matches(0, nameEnd, "BEGIN"))
+        {
+            if(inEvent)
+            {
+                // Component nested in the event (e.g. VALARM), its properties are not the event properties
+                nestedComponents++;
+            }
+            else if(matches(valueStart, lineLength, "VEVENT"))
+            {
+                inEvent = true;
+                nestedComponents = 0;
+                eventStartEpochDay = DCUtil.NO_DATE;
+                eventEndEpochDay = DCUtil.NO_DATE;
+                eventEndExclusive = false;
+                eventDurationDays = 0;
+                eventSummary = null;
+            }
+        }
+        else if(!inEvent)
+        {
+            return;
+        }
+        else if(matches(0, nameEnd, "END"))
+        {
+            if(nestedComponents > 0)
+            {
+                nestedComponents--;
+            }
+            else if(matches(valueStart, lineLength, "VEVENT"))
+            {
+                inEvent = false;
+
+                addEvent();
+            }
+        }
+        else if(nestedComponents > 0)
+        {
+            return;
+        }
+        else if(matches(0, nameEnd, "DTSTART"))
+        {
+            eventStartEpochDay = parseDate(nameEnd, valueStart);
+        }
+        else if(matches(0, nameEnd, "DTEND"))
+        {
+            eventEndEpochDay = parseDate(nameEnd, valueStart);
+
+            // All day ends (and date-time ends at the local midnight) are the day after the last day
+            eventEndExclusive = parsedDayMillis == 0;
+        }
+        else if(matches(0, nameEnd, "DURATION"))
+        {
+            eventDurationDays = parseDurationDays(valueStart);
+        }
+        else if(matches(0, nameEnd, "SUMMARY"))
+        {
+            eventSummary = unescape(new String(line, valueStart, lineLength - valueStart, UTF_8));
+        }
+    }
+
+    /**
+     * Adds the current event to the batch, the batch is added to the index when it is full
+     */
+    private void addEvent()
+    {
+        if(eventStartEpochDay == DCUtil.NO_DATE)
+        {
+            return;
+        }
+
+        int endEpochDay;
+        if(eventEndEpochDay != DCUtil.NO_DATE)
+        {
+            endEpochDay = eventEndExclusive ? Math.max(eventStartEpochDay, eventEndEpochDay - 1) : eventEndEpochDay;
+        }
+        else
+        {
+            endEpochDay = eventStartEpochDay + Math.max(0, eventDurationDays - 1);
+        }
+
+        batch.add(new DCEvent(eventSummary != null ? eventSummary : "", eventStartEpochDay, endEpochDay, color));
+        batchStartEpochDay = Math.min(batchStartEpochDay, eventStartEpochDay);
+        batchEndEpochDay = Math.max(batchEndEpochDay, endEpochDay);
+
+        if(batch.size() >= BATCH_SIZE)
+        {
+            flush();
+        }
+    }
+
+    /**
+     * Adds the batch events to the index and sends an update
+     */
+    private void flush()
+    {
+        if(batch.isEmpty())
+        {
+            return;
+        }
+
+        eventIndex.addAll(batch);
+        eventsImported += batch.size();
+
+        if(onDCEventBatchListener != null)
+        {
+            onDCEventBatchListener.onEventsImported(batchStartEpochDay, batchEndEpochDay, eventsImported, bytesRead);
+        }
+
+        batch.clear();
+        batchStartEpochDay = Integer.MAX_VALUE;
+        batchEndEpochDay = Integer.MIN_VALUE;
+    }
+
+    /**
+     * Checks if the line bytes match the ASCII text, ignoring case
+     *
+     * @param start The line start index
+     *
+     * @param end The line end index (excluded)
+     *
+     * @param text The ASCII text
+     *
+     * @return True - bytes match, False - if otherwise
+     */
+    private boolean matches(int start, int end, String text)
+    {
+        if(end - start != text.length())
+        {
+            return false;
+        }
+
+        for(int catx=0;catx<text.length();catx++)
+        {
+            int value = line[start + catx];
+            if(value >= 'a' && value <= 'z')
+            {
+                value -= 'a' - 'A';
+            }
+
+            if(value != text.charAt(catx))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Parses the local day of a DATE (YYYYMMDD) or DATE-TIME (YYYYMMDDTHHMMSS, with a "Z" or TZID time zone) value, UTC
+     * and TZID date-times are converted to the local time zone. The local time of the day is kept in parsedDayMillis
+     *
+     * @param paramsStart The parameters start index (name end)
+     *
+     * @param start The value start index
+     *
+     * @return The local epoch day, DCUtil.NO_DATE if the date is invalid
+     */
+    private int parseDate(int paramsStart, int start)
+    {
+        parsedDayMillis = 0;
+
+        int year = parseDigits(start, 4);
+        int month = parseDigits(start + 4, 2);
+        int day = parseDigits(start + 6, 2);
+
+        if(year < 0 || month < 1 || month > 12 || day < 1 || day > DCMonthGrid.getDaysInMonth(year, month))
+        {
+            return DCUtil.NO_DATE;
+        }
+
+        int epochDay = DCUtil.getEpochDay(year, month, day);
+
+        int hour = parseDigits(start + 9, 2);
+        int minute = parseDigits(start + 11, 2);
+        int second = parseDigits(start + 13, 2);
+
+        if(start + 8 >= lineLength || (line[start + 8] != 'T' && line[start + 8] != 't') || hour < 0 || minute < 0 || second < 0)
+        {
+            // DATE value
+            return epochDay;
+        }
+
+        long localMillis = epochDay * DAY_MILLIS + ((hour * 60L + minute) * 60 + second) * 1000;
+
+        TimeZone valueTimeZone = start + 15 < lineLength && (line[start + 15] == 'Z' || line[start + 15] == 'z') ? UTC : getTimeZone(paramsStart, start - 1);
+        if(valueTimeZone != null)
+        {
+            // Local time of the value time zone in UTC (using the offset at the time), then in the local time zone
+            long utcMillis = localMillis - valueTimeZone.getOffset(localMillis - valueTimeZone.getOffset(localMillis));
+            localMillis = utcMillis + timeZone.getOffset(utcMillis);
+        }
+
+        long localDay = localMillis / DAY_MILLIS;
+        if(localMillis % DAY_MILLIS < 0)
+        {
+            localDay--;
+        }
+
+        parsedDayMillis = localMillis - localDay * DAY_MILLIS;
+
+        return (int) localDay;
+    }
+
+    /**
+     * Gets the time zone of the TZID parameter, the last looked up TZID is reused
+     *
+     * @param start The parameters start index
+     *
+     * @param end The parameters end index (excluded)
+     *
+     * @return The time zone, null if there is no TZID or it is unknown (floating date-time)
+     */
+    private TimeZone getTimeZone(int start, int end)
+    {
+        int index = start;
+        while(index < end)
+        {
+            // Parameter start (after the ';')
+            index++;
+
+            int valueEnd = index;
+            boolean quoted = false;
+            while(valueEnd < end && (quoted || line[valueEnd] != ';'))
+            {
+                if(line[valueEnd] == '"')
+                {
+                    quoted = !quoted;
+                }
+
+                valueEnd++;
+            }
+
+            if(valueEnd - index > 5 && matches(index, index + 5, "TZID="))
+            {
+                int valueStart = index + 5;
+                if(line[valueStart] == '"' && line[valueEnd - 1] == '"' && valueEnd - valueStart >= 2)
+                {
+                    valueStart++;
+                    valueEnd--;
+                }
+
+                // Globally unique TZIDs start with a "/"
+                if(valueStart < valueEnd && line[valueStart] == '/')
+                {
+                    valueStart++;
+                }
+
+                String id = new String(line, valueStart, valueEnd - valueStart, UTF_8);
+                if(!id.equals(timeZoneId))
+                {
+                    TimeZone idTimeZone = TimeZone.getTimeZone(id);
+
+                    // Unknown IDs are looked up as GMT
+                    timeZoneId = id;
+                    timeZoneOfId = idTimeZone.getID().equals("GMT") && !id.equals("GMT") ? null : idTimeZone;
+                }
+
+                return timeZoneOfId;
+            }
+
+            index = valueEnd;
+        }
+
+        return null;
+    }
+
+    /**
+     * Parses the whole days of a DURATION value (e.g. P2D, P1W, P1DT12H)
+     *
+     * @param start The value start index
+     *
+     * @return The days
+     */
+    private int parseDurationDays(int start)
+    {
+        int days = 0;
+        int number = 0;
+
+        for(int catx = start; catx < lineLength; catx++)
+        {
+            byte value = line[catx];
+            if(value >= '0' && value <= '9')
+            {
+                number = number * 10 + (value - '0');
+            }
+            else if(value == 'W' || value == 'w')
+            {
+                days += number * DCMonthGrid.DAYS_IN_A_WEEK;
+                number = 0;
+            }
+            else if(value == 'D' || value == 'd')
+            {
+                days += number;
+                number = 0;
+            }
+            else if(value == 'T' || value == 't')
+            {
+                // Hours, minutes & seconds don't add days
+                break;
+            }
+        }
+
+        return days;
+    }
+
+    /**
+     * Parses the digits of the line
+     *
+     * @param start The digits start index
+     *
+     * @param count The digits count
+     *
+     * @return The number, -1 if the digits are invalid
+     */
+    private int parseDigits(int start, int count)
+    {
+        if(start + count > lineLength)
+        {
+            return -1;
+        }
+
+        int number = 0;
+        for(int catx = start; catx < start + count; catx++)
+        {
+            if(line[catx] < '0' || line[catx] > '9')
+            {
+                return -1;
+            }
+
+            number = number * 10 + (line[catx] - '0');
+        }
+
+        return number;
+    }
+
+    /**
+     * Unescapes a TEXT value (\\, \; \, \n)
+     *
+     * @param text The escaped text
+     *
+     * @return The text
+     */
+    private static String unescape(String text)
+    {
+        if(text.indexOf('\\') < 0)
+        {
+            return text;
+        }
+
+        StringBuilder unescapedText = new StringBuilder(text.length());
+        for(int catx=0;catx<text.length();catx++)
+        {
+            char value = text.charAt(catx);
+            if(value == '\\' && catx + 1 < text.length())
+            {
+                char escapedValue = text.charAt(++catx);
+                unescapedText.append(escapedValue == 'n' || escapedValue == 'N' ? '\n' : escapedValue);
+            }
+            else
+            {
+                unescapedText.append(value);
+            }
+        }
+
+        return unescapedText.toString();
+    }
+}
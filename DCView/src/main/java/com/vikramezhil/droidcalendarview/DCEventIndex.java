@@ -0,0 +1,334 @@
+package com.vikramezhil.droidcalendarview;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Droid Calendar Event Index
+ *
+ * Interval index of the events, the events are kept sorted by start day in primitive arrays with an implicit balanced
+ * tree over them (each node holds the max end day of its sub tree), so the events overlapping a date range are found
+ * in O(log n + k). New events are buffered and merged into the sorted arrays in batches
+ *
+ * @author Vikram Ezhil
+ */
+
+class DCEventIndex
+{
+    static final int MAX_PENDING_EVENTS = 256;
+
+    // Earlier start first, longer event first on the same start (so the spans keep the same lane across the days)
+    static final Comparator<DCEvent> EVENT_ORDER = new Comparator<DCEvent>()
+    {
+        public int compare(DCEvent event1, DCEvent event2)
+        {
+            if(event1.startEpochDay != event2.startEpochDay)
+            {
+                return event1.startEpochDay < event2.startEpochDay ? -1 : 1;
+            }
+
+            return event1.endEpochDay == event2.endEpochDay ? 0 : (event1.endEpochDay > event2.endEpochDay ? -1 : 1);
+        }
+    };
+
+    private DCEvent[] events = new DCEvent[0];
+    private int[] starts = new int[0];
+    private int[] ends = new int[0];
+    private int[] maxEnds = new int[0];
+    private final ArrayList<DCEvent> pendingEvents = new ArrayList<>();
+    private int version = 0;
+
+    // MARK: DCEventIndex Methods
+
+    /**
+     * Adds the event to the index, the pending events are merged on the same amortized threshold as the bulk adds
+     * (queries merge any pending events first)
+     *
+     * @param event The event
+     */
+    synchronized void add(DCEvent event)
+    {
+        if(event == null)
+        {
+            return;
+        }
+
+        pendingEvents.add(event);
+        version++;
+
+        if(pendingEvents.size() > getMaxPendingEvents())
+        {
+            mergePendingEvents();
+        }
+    }
+
+    /**
+     * Adds the events to the index with a single merge
+     *
+     * @param newEvents The events
+     */
+    synchronized void addAll(Collection<DCEvent> newEvents)
+    {
+        for(DCEvent event: newEvents)
+        {
+            if(event != null)
+            {
+                pendingEvents.add(event);
+            }
+        }
+
+        version++;
+
+        if(pendingEvents.size() > getMaxPendingEvents())
+        {
+            mergePendingEvents();
+        }
+    }
+
+    /**
+     * Removes the event from the index
+     *
+     * @param event The event
+     *
+     * @return True - event was removed, False - if otherwise
+     */
+    synchronized boolean remove(DCEvent event)
+    {
+        if(event == null)
+        {
+            return false;
+        }
+
+        if(pendingEvents.remove(event))
+        {
+            version++;
+
+            return true;
+        }
+
+        // Finding the event among the events with the same start day
+        for(int index = lowerBound(event.startEpochDay); index < events.length && starts[index] == event.startEpochDay; index++)
+        {
+            if(events[index] == event)
+            {
+                DCEvent[] remainingEvents = new DCEvent[events.length - 1];
+                System.arraycopy(events, 0, remainingEvents, 0, index);
+                System.arraycopy(events, index + 1, remainingEvents, index, events.length - index - 1);
+
+                setEvents(remainingEvents);
+                version++;
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Removes all the events from the index
+     */
+    synchronized void clear()
+    {
+        pendingEvents.clear();
+        setEvents(new DCEvent[0]);
+        version++;
+    }
+
+    /**
+     * Gets the events count
+     *
+     * @return The events count
+     */
+    synchronized int size()
+    {
+        return events.length + pendingEvents.size();
+    }
+
+    /**
+     * Gets the index version, the version changes on every change of the events
+     *
+     * @return The index version
+     */
+    synchronized int getVersion()
+    {
+        return version;
+    }
+
+    /**
+     * Gets the events overlapping the date range, sorted by start day (longer events first on the same start)
+     *
+     * @param startEpochDay The range start epoch day
+     *
+     * @param endEpochDay The range end epoch day (included)
+     *
+     * @return The overlapping events
+     */
+    synchronized List<DCEvent> query(int startEpochDay, int endEpochDay)
+    {
+        if(pendingEvents.size() > 0)
+        {
+            mergePendingEvents();
+        }
+
+        List<DCEvent> overlappingEvents = new ArrayList<>();
+        if(endEpochDay >= startEpochDay)
+        {
+            query(0, events.length, startEpochDay, endEpochDay, overlappingEvents);
+        }
+
+        return overlappingEvents;
+    }
+
+    /**
+     * Collects the events of the sub tree overlapping the date range, in order
+     *
+     * @param low The sub tree first index
+     *
+     * @param high The sub tree last index (excluded)
+     *
+     * @param startEpochDay The range start epoch day
+     *
+     * @param endEpochDay The range end epoch day (included)
+     *
+     * @param overlappingEvents The overlapping events
+     */
+    private void query(int low, int high, int startEpochDay, int endEpochDay, List<DCEvent> overlappingEvents)
+    {
+        if(low >= high)
+        {
+            return;
+        }
+
+        int mid = (low + high) >>> 1;
+        if(maxEnds[mid] < startEpochDay)
+        {
+            // Every event of the sub tree ends before the range
+            return;
+        }
+
+        query(low, mid, startEpochDay, endEpochDay, overlappingEvents);
+
+        if(starts[mid] > endEpochDay)
+        {
+            // The node & the right sub tree start after the range
+            return;
+        }
+
+        if(ends[mid] >= startEpochDay)
+        {
+            overlappingEvents.add(events[mid]);
+        }
+
+        query(mid + 1, high, startEpochDay, endEpochDay, overlappingEvents);
+    }
+
+    /**
+     * Gets the pending events count which triggers a merge, the adds merge once the pending events reach half the sorted
+     * events, keeping the merges amortized O(log n) per event
+     *
+     * @return The max pending events count
+     */
+    private int getMaxPendingEvents()
+    {
+        return Math.max(MAX_PENDING_EVENTS, events.length / 2);
+    }
+
+    /**
+     * Merges the pending events into the sorted events
+     */
+    private void mergePendingEvents()
+    {
+        Collections.sort(pendingEvents, EVENT_ORDER);
+
+        DCEvent[] mergedEvents = new DCEvent[events.length + pendingEvents.size()];
+
+        int index = 0, pendingIndex = 0, mergedIndex = 0;
+        while(index < events.length || pendingIndex < pendingEvents.size())
+        {
+            if(pendingIndex >= pendingEvents.size() || (index < events.length && EVENT_ORDER.compare(events[index], pendingEvents.get(pendingIndex)) <= 0))
+            {
+                mergedEvents[mergedIndex++] = events[index++];
+            }
+            else
+            {
+                mergedEvents[mergedIndex++] = pendingEvents.get(pendingIndex++);
+            }
+        }
+
+        pendingEvents.clear();
+
+        setEvents(mergedEvents);
+    }
+
+    /**
+     * Sets the sorted events and rebuilds the start, end & max end arrays
+     *
+     * @param sortedEvents The sorted events
+     */
+    private void setEvents(DCEvent[] sortedEvents)
+    {
+        events = sortedEvents;
+        starts = new int[events.length];
+        ends = new int[events.length];
+        maxEnds = new int[events.length];
+
+        for(int catx=0;catx<events.length;catx++)
+        {
+            starts[catx] = events[catx].startEpochDay;
+            ends[catx] = events[catx].endEpochDay;
+        }
+
+        buildMaxEnds(0, events.length);
+    }
+
+    /**
+     * Builds the max end days of the sub tree
+     *
+     * @param low The sub tree first index
+     *
+     * @param high The sub tree last index (excluded)
+     *
+     * @return The max end day of the sub tree
+     */
+    private int buildMaxEnds(int low, int high)
+    {
+        if(low >= high)
+        {
+            return Integer.MIN_VALUE;
+        }
+
+        int mid = (low + high) >>> 1;
+
+        maxEnds[mid] = Math.max(ends[mid], Math.max(buildMaxEnds(low, mid), buildMaxEnds(mid + 1, high)));
+
+        return maxEnds[mid];
+    }
+
+    /**
+     * Gets the index of the first sorted event starting on or after the epoch day
+     *
+     * @param epochDay The epoch day
+     *
+     * @return The event index
+     */
+    private int lowerBound(int epochDay)
+    {
+        int index = Arrays.binarySearch(starts, epochDay);
+        if(index < 0)
+        {
+            return -index - 1;
+        }
+
+        while(index > 0 && starts[index - 1] == epochDay)
+        {
+            index--;
+        }
+
+        return index;
+    }
+}
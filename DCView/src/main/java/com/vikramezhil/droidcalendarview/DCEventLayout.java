@@ -0,0 +1,150 @@
+package com.vikramezhil.droidcalendarview;
+
+import java.util.List;
+
+/**
+ * Droid Calendar Event Layout
+ *
+ * Event indicators of the visible cells of a month, built from a single event index query. Each event gets a lane
+ * (kept across the days it spans). An event which doesn't fit in the lanes of its start day takes the lanes freed on
+ * its later days, and is counted as the "+N" overflow only on the days without a free lane
+ *
+ * @author Vikram Ezhil
+ */
+
+class DCEventLayout
+{
+    static final int INDICATOR_DOTS = 0;
+    static final int INDICATOR_BARS = 1;
+
+    static final int MAX_LANES = 3;
+
+    final int version;
+    final int firstCellEpochDay;
+    final int cellCount;
+    final DCEvent[] laneEvents;
+    final int[] overflowCounts;
+    final boolean empty;
+
+    /**
+     * Droid Calendar Event Layout Constructor
+     *
+     * @param eventIndex The event index
+     *
+     * @param firstCellEpochDay The first visible cell epoch day
+     *
+     * @param cellCount The visible cells count
+     */
+    DCEventLayout(DCEventIndex eventIndex, int firstCellEpochDay, int cellCount)
+    {
+        this.version = eventIndex.getVersion();
+        this.firstCellEpochDay = firstCellEpochDay;
+        this.cellCount = cellCount;
+        this.laneEvents = new DCEvent[cellCount * MAX_LANES];
+        this.overflowCounts = new int[cellCount];
+
+        int lastCellEpochDay = firstCellEpochDay + cellCount - 1;
+
+        List<DCEvent> events = eventIndex.query(firstCellEpochDay, lastCellEpochDay);
+        int[] laneEnds = new int[MAX_LANES];
+        for(int lane=0;lane<MAX_LANES;lane++)
+        {
+            laneEnds[lane] = Integer.MIN_VALUE;
+        }
+
+        for(DCEvent event: events)
+        {
+            int startCell = Math.max(event.startEpochDay, firstCellEpochDay) - firstCellEpochDay;
+            int endCell = Math.min(event.endEpochDay, lastCellEpochDay) - firstCellEpochDay;
+
+            // Events arrive sorted by start, so the first lane free on the start day is free for the whole span
+            int freeLane = -1;
+            for(int lane=0;lane<MAX_LANES;lane++)
+            {
+                if(laneEnds[lane] < startCell)
+                {
+                    freeLane = lane;
+                    break;
+                }
+            }
+
+            if(freeLane >= 0)
+            {
+                laneEnds[freeLane] = endCell;
+
+                for(int cell = startCell; cell <= endCell; cell++)
+                {
+                    laneEvents[cell * MAX_LANES + freeLane] = event;
+                }
+            }
+            else
+            {
+                for(int cell = startCell; cell <= endCell; cell++)
+                {
+                    // Lanes are checked per day, the lanes taken before the span ends can be free again
+                    int cellLane = -1;
+                    for(int lane=0;lane<MAX_LANES;lane++)
+                    {
+                        if(laneEvents[cell * MAX_LANES + lane] == null)
+                        {
+                            cellLane = lane;
+                            break;
+                        }
+                    }
+
+                    if(cellLane >= 0)
+                    {
+                        laneEvents[cell * MAX_LANES + cellLane] = event;
+                        laneEnds[cellLane] = Math.max(laneEnds[cellLane], cell);
+                    }
+                    else
+                    {
+                        overflowCounts[cell]++;
+                    }
+                }
+            }
+        }
+
+        this.empty = events.isEmpty();
+    }
+
+    // MARK: DCEventLayout Methods
+
+    /**
+     * Checks if the layout is still in sync with the event index
+     *
+     * @param eventIndex The event index
+     *
+     * @return True - layout is current, False - if otherwise
+     */
+    boolean isCurrent(DCEventIndex eventIndex)
+    {
+        return version == eventIndex.getVersion();
+    }
+
+    /**
+     * Gets the event in the lane of the cell
+     *
+     * @param cell The cell position
+     *
+     * @param lane The lane (0 - MAX_LANES - 1)
+     *
+     * @return The event, null if the lane is free
+     */
+    DCEvent getEvent(int cell, int lane)
+    {
+        return laneEvents[cell * MAX_LANES + lane];
+    }
+
+    /**
+     * Gets the count of the cell events which don't fit in the lanes
+     *
+     * @param cell The cell position
+     *
+     * @return The overflow count
+     */
+    int getOverflowCount(int cell)
+    {
+        return overflowCounts[cell];
+    }
+}
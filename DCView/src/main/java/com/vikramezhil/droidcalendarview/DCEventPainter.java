@@ -0,0 +1,194 @@
+package com.vikramezhil.droidcalendarview;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+/**
+ * Droid Calendar Event Painter
+ *
+ * Draws the event indicators (dots or bars) and the "+N" overflow of a day cell from the month event layout,
+ * shared by the Droid Calendar renderers
+ *
+ * @author Vikram Ezhil
+ */
+
+class DCEventPainter
+{
+    private static final String[] OVERFLOW_TEXTS = new String[100];
+
+    final float stripHeight;
+
+    private final float indicatorSize;
+    private final float spacing;
+    private final Paint indicatorPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint overflowTextPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+
+    /**
+     * Droid Calendar Event Painter Constructor
+     *
+     * @param context The class instance to initialize the context
+     */
+    DCEventPainter(Context context)
+    {
+        stripHeight = context.getResources().getDimension(R.dimen.dc_event_strip_height);
+        indicatorSize = context.getResources().getDimension(R.dimen.dc_event_indicator_size);
+        spacing = context.getResources().getDimension(R.dimen.dc_event_indicator_spacing);
+
+        overflowTextPaint.setTextAlign(Paint.Align.RIGHT);
+        overflowTextPaint.setTextSize(stripHeight);
+    }
+
+    // MARK: DCEventPainter Methods
+
+    /**
+     * Draws the event indicators of the cell in the strip bounds
+     *
+     * @param canvas The canvas
+     *
+     * @param eventLayout The month event layout
+     *
+     * @param cell The cell position
+     *
+     * @param indicatorStyle The indicator style (DCEventLayout.INDICATOR_DOTS, INDICATOR_BARS)
+     *
+     * @param overflowTextColor The "+N" overflow text color
+     *
+     * @param alpha The cell alpha (0 - 1)
+     *
+     * @param left The strip left
+     *
+     * @param top The strip top
+     *
+     * @param width The strip width
+     */
+    void draw(Canvas canvas, DCEventLayout eventLayout, int cell, int indicatorStyle, int overflowTextColor, float alpha, float left, float top, float width)
+    {
+        float indicatorsWidth = width;
+
+        int overflowCount = eventLayout.getOverflowCount(cell);
+        if(overflowCount > 0)
+        {
+            String overflowText = getOverflowText(overflowCount);
+
+            overflowTextPaint.setColor(DCCellState.applyAlpha(overflowTextColor, alpha));
+            canvas.drawText(overflowText, left + width - spacing, top + (stripHeight - overflowTextPaint.descent() - overflowTextPaint.ascent()) / 2, overflowTextPaint);
+
+            indicatorsWidth -= overflowTextPaint.measureText(overflowText) + spacing * 2;
+        }
+
+        if(indicatorStyle == DCEventLayout.INDICATOR_BARS)
+        {
+            drawBars(canvas, eventLayout, cell, alpha, left, top, indicatorsWidth);
+        }
+        else
+        {
+            drawDots(canvas, eventLayout, cell, alpha, left, top, indicatorsWidth);
+        }
+    }
+
+    /**
+     * Draws a dot for each event of the cell, centered in the bounds
+     *
+     * @param canvas The canvas
+     *
+     * @param eventLayout The month event layout
+     *
+     * @param cell The cell position
+     *
+     * @param alpha The cell alpha (0 - 1)
+     *
+     * @param left The bounds left
+     *
+     * @param top The bounds top
+     *
+     * @param width The bounds width
+     */
+    private void drawDots(Canvas canvas, DCEventLayout eventLayout, int cell, float alpha, float left, float top, float width)
+    {
+        int dots = 0;
+        for(int lane=0;lane<DCEventLayout.MAX_LANES;lane++)
+        {
+            if(eventLayout.getEvent(cell, lane) != null)
+            {
+                dots++;
+            }
+        }
+
+        float x = left + (width - (dots * indicatorSize + (dots - 1) * spacing)) / 2 + indicatorSize / 2;
+        float y = top + stripHeight / 2;
+
+        for(int lane=0;lane<DCEventLayout.MAX_LANES;lane++)
+        {
+            DCEvent event = eventLayout.getEvent(cell, lane);
+            if(event != null)
+            {
+                indicatorPaint.setColor(DCCellState.applyAlpha(event.color, alpha));
+                canvas.drawCircle(x, y, indicatorSize / 2, indicatorPaint);
+
+                x += indicatorSize + spacing;
+            }
+        }
+    }
+
+    /**
+     * Draws a bar in the lane of each event of the cell, bars of multi day events join the bars of the next & previous days
+     *
+     * @param canvas The canvas
+     *
+     * @param eventLayout The month event layout
+     *
+     * @param cell The cell position
+     *
+     * @param alpha The cell alpha (0 - 1)
+     *
+     * @param left The bounds left
+     *
+     * @param top The bounds top
+     *
+     * @param width The bounds width
+     */
+    private void drawBars(Canvas canvas, DCEventLayout eventLayout, int cell, float alpha, float left, float top, float width)
+    {
+        int epochDay = eventLayout.firstCellEpochDay + cell;
+        float barHeight = (stripHeight - spacing * (DCEventLayout.MAX_LANES - 1)) / DCEventLayout.MAX_LANES;
+
+        for(int lane=0;lane<DCEventLayout.MAX_LANES;lane++)
+        {
+            DCEvent event = eventLayout.getEvent(cell, lane);
+            if(event != null)
+            {
+                float barTop = top + lane * (barHeight + spacing);
+                float barLeft = left + (event.startEpochDay == epochDay ? spacing : 0);
+                float barRight = left + width - (event.endEpochDay == epochDay ? spacing : 0);
+
+                indicatorPaint.setColor(DCCellState.applyAlpha(event.color, alpha));
+                canvas.drawRect(barLeft, barTop, barRight, barTop + barHeight, indicatorPaint);
+            }
+        }
+    }
+
+    /**
+     * Gets the "+N" overflow text, the common counts are built once
+     *
+     * @param overflowCount The overflow count
+     *
+     * @return The overflow text
+     */
+    private static String getOverflowText(int overflowCount)
+    {
+        if(overflowCount >= OVERFLOW_TEXTS.length)
+        {
+            return "+" + overflowCount;
+        }
+
+        String overflowText = OVERFLOW_TEXTS[overflowCount];
+        if(overflowText == null)
+        {
+            overflowText = "+" + overflowCount;
+            OVERFLOW_TEXTS[overflowCount] = overflowText;
+        }
+
+        return overflowText;
+    }
+}
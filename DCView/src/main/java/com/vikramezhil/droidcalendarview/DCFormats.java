@@ -14,4 +14,6 @@ class DCFormats
     static final String D_FORMAT = "d";
     static final String DC_EEEE_FORMAT = "EEEE";
     static final String DC_EEE_FORMAT = "EEE";
+    static final int DEFAULT_FIRST_DAY_OF_WEEK = 1;
+    static final int DEFAULT_MONTH_RANGE = 12;
 }
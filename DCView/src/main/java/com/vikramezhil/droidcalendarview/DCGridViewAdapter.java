@@ -1,37 +1,32 @@
 package com.vikramezhil.droidcalendarview;
 
 import android.content.Context;
-import android.graphics.Color;
-import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
+import android.widget.AdapterView;
 import android.widget.BaseAdapter;
-import android.widget.LinearLayout;
-import android.widget.TextView;
-
-import java.util.Locale;
 
 /**
  * Droid Calendar Grid View Adapter
  *
+ * NOTE: The bind path does not allocate, the cells share the adapter click handler and keep their own cell position (no view holder).
+ * Days headers & day cells are separate view types, a recycled cell is only redrawn if its drawn values changed
+ *
  * @author Vikram Ezhil
  */
 
-class DCGridViewAdapter extends BaseAdapter 
+class DCGridViewAdapter extends BaseAdapter implements View.OnClickListener
 {
+    static final int VIEW_TYPE_DAYS_HEADER = 0;
+    static final int VIEW_TYPE_DAY = 1;
+
+    private static final long HEADER_ID_OFFSET = (long) Integer.MAX_VALUE + 1;
+
     private Context context;
     private DCData dcData;
     private DCProperties dcProperties;
     private OnDCDatesListener onDCDatesListener;
-
-    // MARK: View Holder Class
-
-    private static class ViewHolder
-    {
-        LinearLayout dcParentLayout, dcChildLayout;
-        TextView dcDayValue, dcDaySubValue;
-        View dcColSeparator, dcRowSeparator;
-    }
+    private DCCellMetrics dcCellMetrics;
 
     // MARK: DCGridViewAdapter Constructor
 
@@ -77,13 +72,27 @@ class DCGridViewAdapter extends BaseAdapter
         notifyDataSetChanged();
     }
 
+    /**
+     * Rebinds the on screen cells in place with the current properties (no relayout unless a cell size changes)
+     *
+     * @param adapterView The adapter view showing the cells
+     */
+    void rebindVisibleCells(AdapterView<?> adapterView)
+    {
+        int firstVisiblePosition = adapterView.getFirstVisiblePosition();
+        for(int catx=0;catx<adapterView.getChildCount();catx++)
+        {
+            getView(firstVisiblePosition + catx, adapterView.getChildAt(catx), adapterView);
+        }
+    }
+
     // MARK: BaseAdapter Methods
 
     public int getCount()
     {
-        if(dcData != null && dcData.recalibrateDates != null)
+        if(dcData != null)
         {
-            return DCFormats.DAYS_IN_A_WEEK.length + dcData.recalibrateDates.size();
+            return DCFormats.DAYS_IN_A_WEEK.length + dcData.cellCount;
         }
         else
         {
@@ -93,199 +102,76 @@ class DCGridViewAdapter extends BaseAdapter
 
     public Object getItem(int position)
     {
-        return null;
+        if(dcData == null)
+        {
+            return null;
+        }
+
+        // The text shown by the cell
+        return position < DCFormats.DAYS_IN_A_WEEK.length ? dcData.getDaysHeaders(dcProperties.style.daysHeaderStyle)[position] : dcData.displayDates[position - DCFormats.DAYS_IN_A_WEEK.length];
     }
 
     public long getItemId(int position)
     {
-        return 0;
+        if(position < DCFormats.DAYS_IN_A_WEEK.length || dcData == null)
+        {
+            // Days headers are keyed out of the epoch day range
+            return HEADER_ID_OFFSET + position;
+        }
+
+        return dcData.getEpochDay(position - DCFormats.DAYS_IN_A_WEEK.length);
+    }
+
+    @Override
+    public boolean hasStableIds()
+    {
+        return true;
+    }
+
+    @Override
+    public int getViewTypeCount()
+    {
+        return 2;
+    }
+
+    @Override
+    public int getItemViewType(int position)
+    {
+        return position < DCFormats.DAYS_IN_A_WEEK.length ? VIEW_TYPE_DAYS_HEADER : VIEW_TYPE_DAY;
     }
 
     public View getView(int position, View convertView, ViewGroup parent)
     {
-        ViewHolder holder;
+        DCDayCellView dcDayCell;
 
         if(convertView == null)
         {
-            holder = new ViewHolder();
-            LayoutInflater inflater = (LayoutInflater) context.getSystemService(Context.LAYOUT_INFLATER_SERVICE);
-            convertView = inflater.inflate(R.layout.dc_gv_date, parent, false);
-
-            holder.dcParentLayout = convertView.findViewById(R.id.dcParentLayout);
-            holder.dcChildLayout = convertView.findViewById(R.id.dcChildLayout);
-            holder.dcDayValue = convertView.findViewById(R.id.dcDayValue);
-            holder.dcDaySubValue = convertView.findViewById(R.id.dcDaySubValue);
-            holder.dcColSeparator = convertView.findViewById(R.id.dcColSeparator);
-            holder.dcRowSeparator = convertView.findViewById(R.id.dcRowSeparator);
-
-            convertView.setTag(holder);
+            dcDayCell = DCCellPool.obtain(context);
+
+            if(getItemViewType(position) == VIEW_TYPE_DAY)
+            {
+                // Shared click handler, the clicked cell position is read from the cell
+                dcDayCell.setOnClickListener(this);
+            }
         }
         else
         {
-            holder = (ViewHolder) convertView.getTag();
+            dcDayCell = (DCDayCellView) convertView;
         }
 
         try
         {
-            // Setting the tag position
-            holder.dcChildLayout.setTag(position);
-
-            // Setting the view properties
-
-            holder.dcChildLayout.setAlpha(1f);
-            holder.dcColSeparator.setBackgroundColor(dcProperties.colSeparatorColor);
-            holder.dcRowSeparator.setBackgroundColor(dcProperties.rowSeparatorColor);
+            // The cell only redraws if a drawn value changed
+            DCCellMetrics metrics = getCellMetrics();
+            int cell = position - DCFormats.DAYS_IN_A_WEEK.length;
 
             if(position < DCFormats.DAYS_IN_A_WEEK.length)
             {
-                // Days headers
-
-                holder.dcColSeparator.setVisibility(dcProperties.showDaysHeaderColSeparator ? View.VISIBLE : View.GONE);
-                holder.dcRowSeparator.setVisibility(dcProperties.showDaysHeaderRowSeparator ? View.VISIBLE : View.INVISIBLE);
-                holder.dcDaySubValue.setVisibility(View.GONE);
-                holder.dcDayValue.setText(DCUtil.getDateInFormat(DCFormats.DAYS_IN_A_WEEK[position], DCFormats.DC_EEEE_FORMAT, DCFormats.DC_EEE_FORMAT, Locale.US, dcData.locale).replace(".", ""));
-                holder.dcChildLayout.setEnabled(false);
-                holder.dcChildLayout.setOnClickListener(null);
-                holder.dcParentLayout.setBackgroundColor(dcProperties.daysHeadersLayoutBGColor);
-                holder.dcChildLayout.setBackgroundColor(Color.TRANSPARENT);
-                holder.dcDayValue.setTextColor(dcProperties.daysHeadersTextColor);
-                holder.dcDayValue.setTextSize(dcProperties.daysHeaderTextSize);
-                holder.dcDayValue.setTypeface(null, dcProperties.daysHeaderTextStyle);
+                dcDayCell.setDaysHeader(metrics, dcData.getDaysHeaders(dcProperties.style.daysHeaderStyle)[position], dcData.getDaysHeaders(DCLocaleTable.WEEKDAY_FULL)[position]);
             }
-            else
+            else if(cell < dcData.cellCount)
             {
-                // Days
-
-                holder.dcColSeparator.setVisibility(dcProperties.showColSeparator ? View.VISIBLE : View.GONE);
-                holder.dcRowSeparator.setVisibility(dcProperties.showRowSeparator ? View.VISIBLE : View.INVISIBLE);
-                holder.dcParentLayout.setBackgroundColor(dcProperties.daysLayoutBGColor);
-                holder.dcDayValue.setTextSize(dcProperties.daysTextSize);
-                holder.dcDaySubValue.setTextSize(dcProperties.daysSubTextSize);
-                holder.dcDayValue.setTypeface(null, dcProperties.daysTextStyle);
-                holder.dcDaySubValue.setTypeface(null, dcProperties.daysSubTextStyle);
-
-                int modifiedPosition = position - DCFormats.DAYS_IN_A_WEEK.length;
-                if(modifiedPosition >= 0 && modifiedPosition < dcData.recalibrateDates.size())
-                {
-                    String date = dcData.recalibrateDates.get(modifiedPosition);
-
-                    if(date == null || date.isEmpty())
-                    {
-                        holder.dcDayValue.setText("");
-                        holder.dcDaySubValue.setVisibility(dcProperties.showDaySubValue ? View.INVISIBLE : View.GONE);
-                        holder.dcChildLayout.setEnabled(false);
-                        holder.dcChildLayout.setOnClickListener(null);
-                        holder.dcChildLayout.setBackgroundColor(Color.TRANSPARENT);
-                        holder.dcDayValue.setTextColor(Color.TRANSPARENT);
-                        holder.dcDaySubValue.setTextColor(Color.TRANSPARENT);
-                    }
-                    else
-                    {
-                        // Setting the date value
-                        String dateVal = DCUtil.getDateInFormat(date, dcData.datesFormat, dcData.displayDateFormat, dcData.locale, dcData.locale);
-                        holder.dcDayValue.setText(dateVal);
-
-                        // Setting the date sub value
-                        holder.dcDaySubValue.setVisibility(dcProperties.showDaySubValue ? View.VISIBLE : View.GONE);
-                        if(dcProperties.showDaySubValue)
-                        {
-                            holder.dcDaySubValue.setText(dcData.datesSubValues.containsKey(date) ? dcData.datesSubValues.get(date) : "");
-                        }
-
-                        String convertDateToMonthYear = DCUtil.getDateInFormat(date, dcData.datesFormat, dcData.monthYearHeaderFormat, dcData.locale, dcData.locale);
-                        if(!convertDateToMonthYear.toLowerCase().equals(dcData.monthYearHeader.toLowerCase()))
-                        {
-                            if(dcProperties.showPastAndFutureMonthDates)
-                            {
-                                holder.dcChildLayout.setAlpha(0.3f);
-                                holder.dcChildLayout.setEnabled(false);
-                                holder.dcChildLayout.setOnClickListener(null);
-                                holder.dcChildLayout.setBackgroundColor(dcProperties.daysLayoutBGColor);
-                                holder.dcDayValue.setTextColor(dcProperties.daysTextColor);
-                                holder.dcDaySubValue.setTextColor(dcProperties.daysSubTextColor);
-                            }
-                            else
-                            {
-                                holder.dcDayValue.setText("");
-                                holder.dcDaySubValue.setVisibility(dcProperties.showDaySubValue ? View.INVISIBLE : View.GONE);
-                                holder.dcChildLayout.setEnabled(false);
-                                holder.dcChildLayout.setOnClickListener(null);
-                                holder.dcChildLayout.setBackgroundColor(Color.TRANSPARENT);
-                                holder.dcDayValue.setTextColor(Color.TRANSPARENT);
-                                holder.dcDaySubValue.setTextColor(Color.TRANSPARENT);
-                            }
-                        }
-                        else
-                        {
-                            holder.dcChildLayout.setEnabled(true);
-                            holder.dcChildLayout.setOnClickListener(new View.OnClickListener()
-                            {
-                                public void onClick(View view)
-                                {
-                                    int clickPosition = ((int) view.getTag()) - DCFormats.DAYS_IN_A_WEEK.length;
-                                    if(clickPosition >= 0 && clickPosition < dcData.recalibrateDates.size())
-                                    {
-                                        // Getting and setting the clicked date
-                                        dcProperties.clickedDate = dcData.recalibrateDates.get(clickPosition);
-
-                                        // Sending back an update with the clicked date
-                                        onDCDatesListener.onDateClicked(DCUtil.getDateInFormat(dcProperties.clickedDate, dcData.datesFormat, dcData.clickedDateFormat, dcData.locale, dcData.locale));
-
-                                        notifyDataSetChanged();
-                                    }
-                                }
-                            });
-
-                            if(dcProperties.clickedDate != null && dcProperties.clickedDate.equals(dcData.recalibrateDates.get(modifiedPosition)))
-                            {
-                                holder.dcChildLayout.setBackgroundColor(dcProperties.clickedDayBGColor);
-                                holder.dcDayValue.setTextColor(dcProperties.clickedDayTextColor);
-                                holder.dcDaySubValue.setTextColor(dcProperties.clickedDaySubTextColor);
-                            }
-                            else if((dcProperties.clickableDates == null || dcProperties.clickableDates.size() <= 0) && !dcProperties.allDatesClickable)
-                            {
-                                holder.dcChildLayout.setEnabled(false);
-                                holder.dcChildLayout.setOnClickListener(null);
-                                holder.dcChildLayout.setBackgroundColor(Color.TRANSPARENT);
-                                holder.dcDayValue.setTextColor(dcProperties.daysTextColor);
-                                holder.dcDaySubValue.setTextColor(dcProperties.daysSubTextColor);
-                            }
-                            else if(dcProperties.allDatesClickable)
-                            {
-                                if(dcProperties.enableOnlyFutureDates && !DCUtil.checkIfDateIsCurrentOrFuture(date, dcData.datesFormat, dcData.locale))
-                                {
-                                    holder.dcChildLayout.setAlpha(0.3f);
-                                    holder.dcChildLayout.setEnabled(false);
-                                    holder.dcChildLayout.setOnClickListener(null);
-                                    holder.dcChildLayout.setBackgroundColor(dcProperties.daysLayoutBGColor);
-                                    holder.dcDayValue.setTextColor(dcProperties.daysTextColor);
-                                    holder.dcDaySubValue.setTextColor(dcProperties.daysSubTextColor);
-                                }
-                                else
-                                {
-                                    holder.dcChildLayout.setBackgroundColor(dcProperties.clickableDaysBGColor);
-                                    holder.dcDayValue.setTextColor(dcProperties.clickableDaysTextColor);
-                                    holder.dcDaySubValue.setTextColor(dcProperties.clickableDaysTextColor);
-                                }
-                            }
-                            else if(dcProperties.clickableDates.contains(date))
-                            {
-                                holder.dcChildLayout.setBackgroundColor(dcProperties.clickableDaysBGColor);
-                                holder.dcDayValue.setTextColor(dcProperties.clickableDaysTextColor);
-                                holder.dcDaySubValue.setTextColor(dcProperties.clickableDaysTextColor);
-                            }
-                            else
-                            {
-                                holder.dcChildLayout.setBackgroundColor(Color.TRANSPARENT);
-                                holder.dcChildLayout.setBackgroundColor(dcProperties.daysLayoutBGColor);
-                                holder.dcDayValue.setTextColor(dcProperties.daysTextColor);
-                                holder.dcDaySubValue.setTextColor(dcProperties.daysSubTextColor);
-                                holder.dcChildLayout.setEnabled(false);
-                                holder.dcChildLayout.setOnClickListener(null);
-                            }
-                        }
-                    }
-                }
+                bindDay(dcDayCell, metrics, cell);
             }
         }
         catch (Exception e)
@@ -293,7 +179,57 @@ class DCGridViewAdapter extends BaseAdapter
             onDCDatesListener.onDateError(e);
         }
 
-        return convertView;
+        return dcDayCell;
+    }
+
+    // MARK: OnClickListener Methods
+
+    public void onClick(View view)
+    {
+        int clickPosition = ((DCDayCellView) view).getCell();
+        if(dcData != null && clickPosition >= 0 && clickPosition < dcData.cellCount)
+        {
+            // Getting and setting the clicked date
+            dcProperties.clickedEpochDay = dcData.getEpochDay(clickPosition);
+
+            // Sending back an update with the clicked date
+            onDCDatesListener.onDateClicked(DCUtil.getDateInFormat(dcProperties.clickedEpochDay, dcData.clickedDateFormat, dcData.locale));
+
+            notifyDataSetChanged();
+        }
     }
-}
 
+    // MARK: DCGridViewAdapter Private Methods
+
+    /**
+     * Gets the cell metrics of the current style, the metrics are only computed again when the style changes
+     *
+     * @return The cell metrics
+     */
+    private DCCellMetrics getCellMetrics()
+    {
+        dcCellMetrics = DCCellMetrics.get(context, dcProperties.style, dcCellMetrics);
+
+        return dcCellMetrics;
+    }
+
+    /**
+     * Binds the day cell (date, sub value, events & state)
+     *
+     * @param dcDayCell The day cell view
+     *
+     * @param metrics The cell metrics of the style
+     *
+     * @param cell The day cell position
+     */
+    private void bindDay(DCDayCellView dcDayCell, DCCellMetrics metrics, int cell)
+    {
+        DCStyle style = dcProperties.style;
+        int state = DCCellState.getState(dcData, dcProperties, cell);
+        DCEventLayout eventLayout = dcData.getEventLayout(dcProperties.eventIndex);
+
+        dcDayCell.setDay(metrics, state == DCCellState.HIDDEN ? "" : dcData.displayDates[cell], style.showDaySubValue ? dcData.getDateSubValue(cell) : null,
+                state, DCCellState.getBGColor(state, dcProperties), DCCellState.getTextColor(state, dcProperties), DCCellState.getSubTextColor(state, dcProperties),
+                eventLayout.empty || state == DCCellState.HIDDEN ? null : eventLayout, dcData, cell);
+    }
+}
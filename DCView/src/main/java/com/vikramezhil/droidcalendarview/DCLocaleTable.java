@@ -0,0 +1,335 @@
+package com.vikramezhil.droidcalendarview;
+
+import org.joda.time.format.DateTimeFormat;
+
+import java.text.DecimalFormatSymbols;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+
+/**
+ * Droid Calendar Locale Table
+ *
+ * Localized weekday names (short, narrow & full), day numerals (1 - 31) in the locale digits and month & year titles,
+ * built once per locale and shared by all the Droid Calendar views
+ *
+ * NOTE: Only the displayed text (day numerals, display dates & month titles) is in the locale digits, the dates passed
+ * to the listeners stay in ASCII digits so they can be parsed back with the same date formats
+ *
+ * @author Vikram Ezhil
+ */
+
+class DCLocaleTable
+{
+    static final int WEEKDAY_SHORT = 0;
+    static final int WEEKDAY_NARROW = 1;
+    static final int WEEKDAY_FULL = 2;
+
+    private static final int MAX_DAYS_IN_A_MONTH = 31;
+    private static final String NARROW_WEEKDAY_FORMAT = "EEEEE";
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
+    private static final Map<Locale, DCLocaleTable> localeTables = new HashMap<>();
+
+    private final Locale locale;
+    private final char zeroDigit;
+    private final String fullDatePattern;
+    private final String[][][] weekdays = new String[3][DCFormats.DAYS_IN_A_WEEK.length][];
+    private final String[] numerals = new String[MAX_DAYS_IN_A_MONTH + 1];
+    private final Map<String, Map<Integer, String>> monthYearTitles = new HashMap<>();
+
+    /**
+     * Droid Calendar Locale Table Constructor
+     *
+     * @param locale The locale
+     */
+    private DCLocaleTable(Locale locale)
+    {
+        this.locale = locale;
+
+        String[] shortWeekdays = new String[DCFormats.DAYS_IN_A_WEEK.length];
+        String[] narrowWeekdays = new String[DCFormats.DAYS_IN_A_WEEK.length];
+        String[] fullWeekdays = new String[DCFormats.DAYS_IN_A_WEEK.length];
+
+        // 5/1/1970 (epoch day 4) is a Monday
+        for(int catx=0;catx<DCFormats.DAYS_IN_A_WEEK.length;catx++)
+        {
+            fullWeekdays[catx] = DCUtil.getDateInFormat(4 + catx, DCFormats.DC_EEEE_FORMAT, locale);
+            shortWeekdays[catx] = DCUtil.getDateInFormat(4 + catx, DCFormats.DC_EEE_FORMAT, locale).replace(".", "");
+        }
+
+        if(!getNarrowWeekdays(fullWeekdays, narrowWeekdays, locale))
+        {
+            deriveNarrowWeekdays(shortWeekdays, narrowWeekdays, locale);
+        }
+
+        // Rotating the names for every first day of week, so the renderers can share the arrays
+        for(int catx=0;catx<DCFormats.DAYS_IN_A_WEEK.length;catx++)
+        {
+            weekdays[WEEKDAY_SHORT][catx] = rotate(shortWeekdays, catx);
+            weekdays[WEEKDAY_NARROW][catx] = rotate(narrowWeekdays, catx);
+            weekdays[WEEKDAY_FULL][catx] = rotate(fullWeekdays, catx);
+        }
+
+        // Locale full date pattern (e.g. "EEEE, MMMM d, yyyy"), the dates read out by the accessibility services
+        fullDatePattern = DateTimeFormat.patternForStyle("F-", locale);
+
+        zeroDigit = DecimalFormatSymbols.getInstance(locale).getZeroDigit();
+        for(int day=1;day<=MAX_DAYS_IN_A_MONTH;day++)
+        {
+            numerals[day] = day < 10 ? String.valueOf((char) (zeroDigit + day)) : new String(new char[]{(char) (zeroDigit + day / 10), (char) (zeroDigit + day % 10)});
+        }
+    }
+
+    // MARK: DCLocaleTable Methods
+
+    /**
+     * Gets the locale table, the table is built on the first request for the locale
+     *
+     * @param locale The locale
+     *
+     * @return The locale table
+     */
+    static DCLocaleTable get(Locale locale)
+    {
+        synchronized (localeTables)
+        {
+            DCLocaleTable localeTable = localeTables.get(locale);
+            if(localeTable == null)
+            {
+                localeTable = new DCLocaleTable(locale);
+                localeTables.put(locale, localeTable);
+            }
+
+            return localeTable;
+        }
+    }
+
+    /**
+     * Gets the weekday names starting from the first day of week
+     *
+     * NOTE: The returned array is shared, it should not be modified
+     *
+     * @param style The weekday names style (WEEKDAY_SHORT, WEEKDAY_NARROW, WEEKDAY_FULL)
+     *
+     * @param firstDayOfWeek The ISO first day of week (1 - Monday, 7 - Sunday)
+     *
+     * @return The weekday names
+     */
+    String[] getWeekdays(int style, int firstDayOfWeek)
+    {
+        return weekdays[style >= WEEKDAY_SHORT && style <= WEEKDAY_FULL ? style : WEEKDAY_SHORT][firstDayOfWeek - 1];
+    }
+
+    /**
+     * Gets the day of month numeral in the locale digits
+     *
+     * @param dayOfMonth The day of month (1 - 31)
+     *
+     * @return The day of month numeral
+     */
+    String getNumeral(int dayOfMonth)
+    {
+        return numerals[dayOfMonth];
+    }
+
+    /**
+     * Gets the display date of the epoch day, "d" display dates are read from the numerals
+     *
+     * @param epochDay The epoch day
+     *
+     * @param displayDateFormat The display date format
+     *
+     * @return The display date
+     */
+    String getDisplayDate(int epochDay, String displayDateFormat)
+    {
+        if(DCFormats.D_FORMAT.equals(displayDateFormat))
+        {
+            return numerals[DCUtil.getDayOfMonth(epochDay)];
+        }
+
+        return localizeDigits(DCUtil.getDateInFormat(epochDay, displayDateFormat, locale));
+    }
+
+    /**
+     * Gets the full date of the epoch day (e.g. "Monday, January 15, 2018") in the locale digits, as read out by the
+     * accessibility services
+     *
+     * @param epochDay The epoch day
+     *
+     * @return The full date
+     */
+    String getFullDate(int epochDay)
+    {
+        return localizeDigits(DCUtil.getDateInFormat(epochDay, fullDatePattern, locale));
+    }
+
+    /**
+     * Gets the month & year title, titles are formatted once per format & month
+     *
+     * @param format The month & year format
+     *
+     * @param year The year
+     *
+     * @param month The month of year (1 - 12)
+     *
+     * @return The month & year title
+     */
+    String getMonthYearTitle(String format, int year, int month)
+    {
+        synchronized (monthYearTitles)
+        {
+            Map<Integer, String> formatTitles = monthYearTitles.get(format);
+            if(formatTitles == null)
+            {
+                formatTitles = new HashMap<>();
+                monthYearTitles.put(format, formatTitles);
+            }
+
+            int monthIndex = year * 12 + month - 1;
+
+            String title = formatTitles.get(monthIndex);
+            if(title == null)
+            {
+                title = localizeDigits(DCUtil.getDateInFormat(DCUtil.getEpochDay(year, month, 1), format, locale));
+                formatTitles.put(monthIndex, title);
+            }
+
+            return title;
+        }
+    }
+
+    // MARK: DCLocaleTable Private Methods
+
+    /**
+     * Replaces the ASCII digits of the text with the locale digits
+     *
+     * @param text The text
+     *
+     * @return The text in the locale digits
+     */
+    private String localizeDigits(String text)
+    {
+        if(zeroDigit == '0')
+        {
+            return text;
+        }
+
+        char[] chars = text.toCharArray();
+        for(int catx=0;catx<chars.length;catx++)
+        {
+            if(chars[catx] >= '0' && chars[catx] <= '9')
+            {
+                chars[catx] = (char) (zeroDigit + chars[catx] - '0');
+            }
+        }
+
+        return new String(chars);
+    }
+
+    /**
+     * Gets the locale narrow weekday names, Android formats "EEEEE" with the narrow names while the JVM formats it
+     * with the full names
+     *
+     * @param fullWeekdays The Monday first full weekday names
+     *
+     * @param narrowWeekdays The Monday first narrow weekday names to fill
+     *
+     * @param locale The locale
+     *
+     * @return True - narrow names found, False - if otherwise
+     */
+    private static boolean getNarrowWeekdays(String[] fullWeekdays, String[] narrowWeekdays, Locale locale)
+    {
+        try
+        {
+            SimpleDateFormat narrowFormat = new SimpleDateFormat(NARROW_WEEKDAY_FORMAT, locale);
+            narrowFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+            // 5/1/1970 (epoch day 4) is a Monday
+            for(int catx=0;catx<narrowWeekdays.length;catx++)
+            {
+                narrowWeekdays[catx] = narrowFormat.format(new Date((4L + catx) * MILLIS_PER_DAY));
+
+                if(narrowWeekdays[catx].length() == 0 || narrowWeekdays[catx].length() >= fullWeekdays[catx].length())
+                {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+        catch (Exception e)
+        {
+            e.printStackTrace();
+        }
+
+        return false;
+    }
+
+    /**
+     * Derives the narrow weekday names from the first letter of the short names after their common prefix (e.g. the
+     * chinese weekday numbers), the short names are used if the derived names are not unique
+     *
+     * @param shortWeekdays The Monday first short weekday names
+     *
+     * @param narrowWeekdays The Monday first narrow weekday names to fill
+     *
+     * @param locale The locale
+     */
+    private static void deriveNarrowWeekdays(String[] shortWeekdays, String[] narrowWeekdays, Locale locale)
+    {
+        int prefixLength = shortWeekdays[0].length();
+        for(int catx=1;catx<shortWeekdays.length;catx++)
+        {
+            int length = 0;
+            while(length < prefixLength && length < shortWeekdays[catx].length() && shortWeekdays[catx].charAt(length) == shortWeekdays[0].charAt(length))
+            {
+                length++;
+            }
+
+            prefixLength = length;
+        }
+
+        Set<String> uniqueWeekdays = new HashSet<>();
+        for(int catx=0;catx<shortWeekdays.length;catx++)
+        {
+            String shortWeekday = shortWeekdays[catx];
+            int start = Character.isLowSurrogate(shortWeekday.length() > prefixLength ? shortWeekday.charAt(prefixLength) : ' ') ? prefixLength - 1 : prefixLength;
+
+            narrowWeekdays[catx] = shortWeekday.length() > start ? shortWeekday.substring(start, shortWeekday.offsetByCodePoints(start, 1)).toUpperCase(locale) : "";
+            uniqueWeekdays.add(narrowWeekdays[catx]);
+        }
+
+        if(uniqueWeekdays.size() < narrowWeekdays.length)
+        {
+            System.arraycopy(shortWeekdays, 0, narrowWeekdays, 0, shortWeekdays.length);
+        }
+    }
+
+    /**
+     * Rotates the Monday first weekday names to start from the first day of week
+     *
+     * @param weekdays The Monday first weekday names
+     *
+     * @param offset The first day of week offset from Monday (0 - 6)
+     *
+     * @return The rotated weekday names
+     */
+    private static String[] rotate(String[] weekdays, int offset)
+    {
+        String[] rotatedWeekdays = new String[weekdays.length];
+        for(int catx=0;catx<weekdays.length;catx++)
+        {
+            rotatedWeekdays[catx] = weekdays[(offset + catx) % weekdays.length];
+        }
+
+        return rotatedWeekdays;
+    }
+}
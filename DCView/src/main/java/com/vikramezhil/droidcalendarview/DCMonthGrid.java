@@ -0,0 +1,107 @@
+package com.vikramezhil.droidcalendarview;
+
+/**
+ * Droid Calendar Month Grid
+ *
+ * Computes the visible cells of a month (leading dates of the previous month, the month dates and trailing dates of the next month)
+ * from the year & month using plain epoch day arithmetic
+ *
+ * @author Vikram Ezhil
+ */
+
+class DCMonthGrid
+{
+    static final int DAYS_IN_A_WEEK = 7;
+
+    final int firstDayOfWeek;
+    final int monthStartEpochDay;
+    final int monthEndEpochDay;
+    final int firstCellEpochDay;
+    final int cellCount;
+
+    /**
+     * Droid Calendar Month Grid Constructor
+     *
+     * @param year The year
+     *
+     * @param month The month of year (1 - 12)
+     *
+     * @param firstDayOfWeek The ISO first day of week (1 - Monday, 7 - Sunday)
+     */
+    DCMonthGrid(int year, int month, int firstDayOfWeek)
+    {
+        this.firstDayOfWeek = firstDayOfWeek;
+
+        monthStartEpochDay = DCUtil.getEpochDay(year, month, 1);
+        monthEndEpochDay = monthStartEpochDay + getDaysInMonth(year, month) - 1;
+        firstCellEpochDay = monthStartEpochDay - getLeadingDays(monthStartEpochDay, firstDayOfWeek);
+        cellCount = monthEndEpochDay + getTrailingDays(monthEndEpochDay, firstDayOfWeek) - firstCellEpochDay + 1;
+    }
+
+    /**
+     * Gets the days count in the month
+     *
+     * @param year The year
+     *
+     * @param month The month of year (1 - 12)
+     *
+     * @return The days count
+     */
+    static int getDaysInMonth(int year, int month)
+    {
+        switch (month)
+        {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Checks if the year is a leap year
+     *
+     * @param year The year
+     *
+     * @return True - leap year, False - if otherwise
+     */
+    static boolean isLeapYear(int year)
+    {
+        return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+    }
+
+    /**
+     * Gets the leading dates count (dates from the previous month shown before the month start)
+     *
+     * @param monthStartEpochDay The epoch day of the first date in the month
+     *
+     * @param firstDayOfWeek The ISO first day of week (1 - Monday, 7 - Sunday)
+     *
+     * @return The leading dates count (0 - 6)
+     */
+    static int getLeadingDays(int monthStartEpochDay, int firstDayOfWeek)
+    {
+        return (DCUtil.getDayOfWeek(monthStartEpochDay) - firstDayOfWeek + DAYS_IN_A_WEEK) % DAYS_IN_A_WEEK;
+    }
+
+    /**
+     * Gets the trailing dates count (dates from the next month shown after the month end)
+     *
+     * @param monthEndEpochDay The epoch day of the last date in the month
+     *
+     * @param firstDayOfWeek The ISO first day of week (1 - Monday, 7 - Sunday)
+     *
+     * @return The trailing dates count (0 - 6)
+     */
+    static int getTrailingDays(int monthEndEpochDay, int firstDayOfWeek)
+    {
+        return DAYS_IN_A_WEEK - 1 - getLeadingDays(monthEndEpochDay, firstDayOfWeek);
+    }
+}
@@ -0,0 +1,200 @@
+package com.vikramezhil.droidcalendarview;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Droid Calendar Month Prefetcher
+ *
+ * Builds the months around the on screen month on a background thread, so navigating only swaps in a ready month
+ *
+ * @author Vikram Ezhil
+ */
+
+class DCMonthPrefetcher
+{
+    static final int DEFAULT_PREFETCH_MONTHS = 1;
+
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactory()
+    {
+        public Thread newThread(Runnable runnable)
+        {
+            Thread thread = new Thread(runnable, "DCMonthPrefetcher");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+
+            return thread;
+        }
+    });
+
+    private final Map<Integer, Future<?>> pendingMonths = new HashMap<>();
+    private DCMonthProvider dcMonthProvider;
+    private int prefetchMonths = DEFAULT_PREFETCH_MONTHS;
+    private long prefetchHits = 0;
+    private long prefetchMisses = 0;
+
+    // MARK: DCMonthPrefetcher Methods
+
+    /**
+     * Sets the month provider to prefetch from, pending prefetches of the previous provider are cancelled
+     *
+     * @param dcMonthProvider The month provider
+     */
+    void setMonthProvider(DCMonthProvider dcMonthProvider)
+    {
+        cancel();
+
+        this.dcMonthProvider = dcMonthProvider;
+
+        ensureWindowSize();
+    }
+
+    /**
+     * Sets the number of months to be prefetched on each side of the on screen month
+     *
+     * @param prefetchMonths The desired number of months, 0 disables prefetching
+     */
+    void setPrefetchMonths(int prefetchMonths)
+    {
+        this.prefetchMonths = Math.max(0, prefetchMonths);
+
+        ensureWindowSize();
+    }
+
+    /**
+     * Records if the month navigated to was already prefetched
+     *
+     * @param ready True - month was ready, False - month was built on navigation
+     */
+    void recordNavigation(boolean ready)
+    {
+        if(ready)
+        {
+            prefetchHits++;
+        }
+        else
+        {
+            prefetchMisses++;
+        }
+    }
+
+    /**
+     * Prefetches the months around the position, prefetches which fell out of range are cancelled
+     *
+     * @param position The on screen month position
+     */
+    void prefetch(int position)
+    {
+        // Cancelling the prefetches which are no longer around the position (e.g. quick flings in one direction)
+        Iterator<Map.Entry<Integer, Future<?>>> iterator = pendingMonths.entrySet().iterator();
+        while(iterator.hasNext())
+        {
+            Map.Entry<Integer, Future<?>> pendingMonth = iterator.next();
+            if(pendingMonth.getValue().isDone() || Math.abs(pendingMonth.getKey() - position) > prefetchMonths)
+            {
+                // Interrupting a running build, so its month is not put into the window
+                pendingMonth.getValue().cancel(true);
+                iterator.remove();
+            }
+        }
+
+        if(dcMonthProvider == null)
+        {
+            return;
+        }
+
+        for(int offset=1;offset<=prefetchMonths;offset++)
+        {
+            // Nearest months are queued first
+            prefetchMonth(position + offset);
+            prefetchMonth(position - offset);
+        }
+    }
+
+    /**
+     * Cancels all the pending prefetches, a running build is interrupted and its month is dropped
+     */
+    void cancel()
+    {
+        for(Future<?> pendingMonth: pendingMonths.values())
+        {
+            pendingMonth.cancel(true);
+        }
+
+        pendingMonths.clear();
+    }
+
+    /**
+     * Gets the number of months prefetched on each side of the on screen month
+     *
+     * @return The number of months
+     */
+    int getPrefetchMonths()
+    {
+        return prefetchMonths;
+    }
+
+    /**
+     * Gets the prefetch hits count
+     *
+     * @return The prefetch hits count
+     */
+    long getPrefetchHits()
+    {
+        return prefetchHits;
+    }
+
+    /**
+     * Gets the prefetch misses count
+     *
+     * @return The prefetch misses count
+     */
+    long getPrefetchMisses()
+    {
+        return prefetchMisses;
+    }
+
+    /**
+     * Prefetches the month on the background thread if it is not ready or pending
+     *
+     * @param position The month position
+     */
+    private void prefetchMonth(final int position)
+    {
+        if(position < 0 || position >= dcMonthProvider.getCount() || pendingMonths.containsKey(position) || dcMonthProvider.isMonthReady(position))
+        {
+            return;
+        }
+
+        final DCMonthProvider provider = dcMonthProvider;
+        pendingMonths.put(position, executor.submit(new Runnable()
+        {
+            public void run()
+            {
+                DCData dcData = provider.buildMonth(position);
+
+                // Cancelled while building (cancel interrupts the prefetch thread)
+                if(dcData != null && !Thread.currentThread().isInterrupted())
+                {
+                    provider.putMonth(position, dcData);
+                }
+            }
+        }));
+    }
+
+    /**
+     * Ensures the provider window can hold the on screen month and the prefetched months
+     */
+    void ensureWindowSize()
+    {
+        if(dcMonthProvider != null && dcMonthProvider.getWindowSize() < prefetchMonths * 2 + 1)
+        {
+            dcMonthProvider.setWindowSize(prefetchMonths * 2 + 1);
+        }
+    }
+}
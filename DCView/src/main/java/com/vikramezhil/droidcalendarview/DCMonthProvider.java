@@ -0,0 +1,555 @@
+package com.vikramezhil.droidcalendarview;
+
+import org.joda.time.DateTime;
+import org.joda.time.format.DateTimeFormatter;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Future;
+
+/**
+ * Droid Calendar Month Provider
+ *
+ * Builds the Droid Calendar data of a month on demand and keeps only a window of recently used months,
+ * months can be built on a background thread and put in the window later
+ *
+ * @author Vikram Ezhil
+ */
+
+class DCMonthProvider
+{
+    static final int DEFAULT_WINDOW_SIZE = 7;
+
+    private final int startMonthIndex;
+    private final int monthCount;
+    private final String monthYearHeaderFormat;
+    private final String displayDateFormat;
+    private final String clickedDateFormat;
+    private final Locale locale;
+    private int firstDayOfWeek;
+    private int windowSize = DEFAULT_WINDOW_SIZE;
+    private final LinkedHashMap<Integer, DCData> dcDataWindow = new LinkedHashMap<Integer, DCData>(16, 0.75f, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, DCData> eldest)
+        {
+            return size() > windowSize;
+        }
+    };
+    private final DCSubValueStore subValueStore;
+    private DCDiskCache diskCache;
+
+    /**
+     * Droid Calendar Month Provider Constructor (empty month range)
+     */
+    DCMonthProvider()
+    {
+        this.startMonthIndex = 0;
+        this.monthCount = 0;
+        this.monthYearHeaderFormat = DCFormats.DC_MY_FORMAT;
+        this.displayDateFormat = DCFormats.D_FORMAT;
+        this.clickedDateFormat = DCFormats.DC_DMY_FORMAT;
+        this.locale = Locale.US;
+        this.firstDayOfWeek = DCFormats.DEFAULT_FIRST_DAY_OF_WEEK;
+        this.subValueStore = new DCSubValueStore(0, -1);
+    }
+
+    /**
+     * Droid Calendar Month Provider Constructor
+     *
+     * @param startMonthYear The start month & year
+     *
+     * @param endMonthYear The end month & year
+     *
+     * @param passedMonthYearRangeFormat The passed month & year format
+     *
+     * @param monthYearHeaderFormat The desired month & year header format
+     *
+     * @param displayDateFormat The desired display date format
+     *
+     * @param clickedDateFormat The desired clicked date format
+     *
+     * @param locale The date locale
+     *
+     * @param firstDayOfWeek The ISO first day of week (1 - Monday, 7 - Sunday)
+     *
+     * @param manualMonthRange True - Manual month range (end month included), False - if otherwise
+     */
+    DCMonthProvider(String startMonthYear, String endMonthYear, String passedMonthYearRangeFormat, String monthYearHeaderFormat, String displayDateFormat, String clickedDateFormat, Locale locale, int firstDayOfWeek, boolean manualMonthRange)
+    {
+        DateTimeFormatter dateTimeFormatter = DCUtil.getFormatter(passedMonthYearRangeFormat, locale);
+
+        DateTime start = dateTimeFormatter.parseDateTime(startMonthYear);
+        DateTime end = dateTimeFormatter.parseDateTime(endMonthYear);
+
+        int endMonthIndex = getMonthIndex(end.getYear(), end.getMonthOfYear());
+
+        this.startMonthIndex = getMonthIndex(start.getYear(), start.getMonthOfYear());
+        this.monthCount = Math.max(0, endMonthIndex - startMonthIndex + (manualMonthRange ? 1 : 0));
+        this.monthYearHeaderFormat = monthYearHeaderFormat;
+        this.displayDateFormat = displayDateFormat;
+        this.clickedDateFormat = clickedDateFormat;
+        this.locale = locale;
+        this.firstDayOfWeek = firstDayOfWeek;
+
+        // Sub values of the leading & trailing dates of the first & last months are stored as well
+        this.subValueStore = new DCSubValueStore(getMonthStartEpochDay(0) - (DCMonthGrid.DAYS_IN_A_WEEK - 1), getMonthEndEpochDay(monthCount - 1) + (DCMonthGrid.DAYS_IN_A_WEEK - 1));
+    }
+
+    /**
+     * Gets the months count in the range
+     *
+     * @return The months count
+     */
+    int getCount()
+    {
+        return monthCount;
+    }
+
+    /**
+     * Sets the window size (number of months kept in memory)
+     *
+     * @param windowSize The desired window size
+     */
+    synchronized void setWindowSize(int windowSize)
+    {
+        this.windowSize = Math.max(1, windowSize);
+
+        while(dcDataWindow.size() > this.windowSize)
+        {
+            dcDataWindow.remove(dcDataWindow.keySet().iterator().next());
+        }
+    }
+
+    /**
+     * Sets the first day of week, the months in the window are rebuilt on demand (sub values are kept, they are stored by date)
+     *
+     * @param firstDayOfWeek The ISO first day of week (1 - Monday, 7 - Sunday)
+     */
+    synchronized void setFirstDayOfWeek(int firstDayOfWeek)
+    {
+        if(firstDayOfWeek == this.firstDayOfWeek)
+        {
+            return;
+        }
+
+        this.firstDayOfWeek = firstDayOfWeek;
+
+        dcDataWindow.clear();
+    }
+
+    /**
+     * Gets the first day of week
+     *
+     * @return The ISO first day of week (1 - Monday, 7 - Sunday)
+     */
+    synchronized int getFirstDayOfWeek()
+    {
+        return firstDayOfWeek;
+    }
+
+    /**
+     * Gets the window size (number of months kept in memory)
+     *
+     * @return The window size
+     */
+    synchronized int getWindowSize()
+    {
+        return windowSize;
+    }
+
+    /**
+     * Gets the month grid (visible dates) of the month, without building the month
+     *
+     * @param position The month position
+     *
+     * @return The month grid, null if the position is out of range
+     */
+    DCMonthGrid getMonthGrid(int position)
+    {
+        if(position < 0 || position >= monthCount)
+        {
+            return null;
+        }
+
+        int monthIndex = startMonthIndex + position;
+
+        return new DCMonthGrid(monthIndex / 12, monthIndex % 12 + 1, getFirstDayOfWeek());
+    }
+
+    /**
+     * Gets the locale of the month dates
+     *
+     * @return The locale
+     */
+    Locale getLocale()
+    {
+        return locale;
+    }
+
+    /**
+     * Checks if the Droid Calendar data of the month is already built and in the window
+     *
+     * @param position The month position
+     *
+     * @return True - month is ready, False - if otherwise
+     */
+    synchronized boolean isMonthReady(int position)
+    {
+        return dcDataWindow.containsKey(position);
+    }
+
+    /**
+     * Gets the Droid Calendar data of the month, the month is built if it is not in the window
+     *
+     * @param position The month position
+     *
+     * @return The Droid Calendar data, null if the position is out of range
+     */
+    DCData getMonth(int position)
+    {
+        if(position < 0 || position >= monthCount)
+        {
+            return null;
+        }
+
+        DCData dcData;
+        synchronized (this)
+        {
+            dcData = dcDataWindow.get(position);
+        }
+
+        return dcData != null ? dcData : putMonth(position, buildMonth(position));
+    }
+
+    /**
+     * Builds the Droid Calendar data of the month without adding it to the window
+     *
+     * NOTE: Safe to be called from a background thread
+     *
+     * @param position The month position
+     *
+     * @return The Droid Calendar data, null if the position is out of range
+     */
+    DCData buildMonth(int position)
+    {
+        if(position < 0 || position >= monthCount)
+        {
+            return null;
+        }
+
+        return getCalendarData(position);
+    }
+
+    /**
+     * Puts the built Droid Calendar data of the month in the window, unless the month was already added
+     *
+     * @param position The month position
+     *
+     * @param dcData The built Droid Calendar data
+     *
+     * @return The Droid Calendar data in the window
+     */
+    synchronized DCData putMonth(int position, DCData dcData)
+    {
+        DCData windowDCData = dcDataWindow.get(position);
+        if(windowDCData != null || dcData.firstDayOfWeek != firstDayOfWeek)
+        {
+            // Month already added (or) built with a stale first day of week
+            return windowDCData != null ? windowDCData : getCalendarData(position);
+        }
+
+        dcDataWindow.put(position, dcData);
+
+        return dcData;
+    }
+
+    /**
+     * Gets the month position which contains the epoch day
+     *
+     * @param epochDay The epoch day
+     *
+     * @return The month position, -1 if the epoch day is out of range
+     */
+    int getPosition(int epochDay)
+    {
+        int position = getMonthIndex(DCUtil.getYear(epochDay), DCUtil.getMonthOfYear(epochDay)) - startMonthIndex;
+
+        return position >= 0 && position < monthCount ? position : -1;
+    }
+
+    /**
+     * Sets the date sub value of the month
+     *
+     * @param position The month position
+     *
+     * @param date The date, NOTE: Date format should be "d/M/YYYY"
+     *
+     * @param subValue The sub value, null to remove it
+     */
+    synchronized void setDateSubValue(int position, String date, String subValue)
+    {
+        DCData dcData = getMonth(position);
+        if(dcData != null)
+        {
+            dcData.setDateSubValue(date, subValue);
+        }
+    }
+
+    /**
+     * Sets the dates sub values of the month
+     *
+     * @param position The month position
+     *
+     * @param subValues The dates & sub values map, NOTE: Date key format should be "d/M/YYYY"
+     */
+    synchronized void setDatesSubValues(int position, Map<String, String> subValues)
+    {
+        DCData dcData = getMonth(position);
+        if(dcData != null)
+        {
+            dcData.setDatesSubValues(subValues);
+        }
+    }
+
+    /**
+     * Sets the loaded dates sub values of the month grid, the previous sub values of the month dates are replaced (the
+     * leading & trailing dates keep the sub values set for their own months)
+     *
+     * @param dcMonthGrid The month grid the sub values were loaded for
+     *
+     * @param epochDays The dates epoch days
+     *
+     * @param subValues The sub values (null sub values are removed)
+     *
+     * @param count The dates count
+     */
+    void setDatesSubValues(DCMonthGrid dcMonthGrid, int[] epochDays, String[] subValues, int count)
+    {
+        int lastCellEpochDay = dcMonthGrid.firstCellEpochDay + dcMonthGrid.cellCount - 1;
+
+        subValueStore.clearRange(dcMonthGrid.monthStartEpochDay, dcMonthGrid.monthEndEpochDay);
+
+        for(int catx=0;catx<count;catx++)
+        {
+            if(epochDays[catx] >= dcMonthGrid.firstCellEpochDay && epochDays[catx] <= lastCellEpochDay)
+            {
+                subValueStore.set(epochDays[catx], subValues[catx]);
+            }
+        }
+    }
+
+    /**
+     * Clears the dates sub values of the month
+     *
+     * @param position The month position
+     */
+    synchronized void clearDatesSubValues(int position)
+    {
+        DCData dcData = getMonth(position);
+        if(dcData != null)
+        {
+            dcData.clearDatesSubValues();
+        }
+    }
+
+    /**
+     * Sets the sub value of the date, independent of the month position (every month showing the date shows the sub value)
+     *
+     * @param epochDay The date epoch day
+     *
+     * @param subValue The sub value, null to remove it
+     *
+     * @return True - sub value changed, False - if otherwise (same value or out of range)
+     */
+    boolean setSubValue(int epochDay, String subValue)
+    {
+        return subValueStore.set(epochDay, subValue);
+    }
+
+    /**
+     * Clears the sub values of the date range, independent of the month position
+     *
+     * @param startEpochDay The range start epoch day
+     *
+     * @param endEpochDay The range end epoch day (included)
+     */
+    void clearSubValues(int startEpochDay, int endEpochDay)
+    {
+        subValueStore.clearRange(startEpochDay, endEpochDay);
+    }
+
+    /**
+     * Gets the epoch day of the date in the dates format
+     *
+     * @param date The date, NOTE: Date format should be "d/M/YYYY"
+     *
+     * @return The epoch day
+     */
+    int getEpochDay(String date)
+    {
+        return DCUtil.getEpochDay(date, DCFormats.DC_DMY_FORMAT, locale);
+    }
+
+    /**
+     * Sets the disk cache directory, the dates sub values are kept on disk and the cached sub values are loaded on a
+     * background thread
+     *
+     * NOTE: The cache files are keyed by the month range
+     *
+     * @param directory The cache directory, null disables the disk cache
+     *
+     * @param onSubValuesLoaded Runs on the background thread once the cached sub values are loaded, can be null
+     *
+     * @return The pending load of the cached sub values, null if the disk cache is disabled
+     */
+    Future<?> setDiskCache(File directory, Runnable onSubValuesLoaded)
+    {
+        closeDiskCache();
+
+        if(directory == null || monthCount == 0)
+        {
+            return null;
+        }
+
+        DCDiskCache dcDiskCache = new DCDiskCache(directory, getCacheKey());
+
+        synchronized (this)
+        {
+            diskCache = dcDiskCache;
+        }
+
+        return dcDiskCache.loadSubValues(subValueStore, onSubValuesLoaded);
+    }
+
+    /**
+     * Saves the dates sub values to the disk cache on a background thread, if they changed
+     */
+    void saveDiskCache()
+    {
+        DCDiskCache dcDiskCache = getDiskCache();
+        if(dcDiskCache != null)
+        {
+            dcDiskCache.saveSubValues(subValueStore);
+        }
+    }
+
+    /**
+     * Saves the dates sub values & stops using the disk cache
+     */
+    void closeDiskCache()
+    {
+        DCDiskCache dcDiskCache;
+        synchronized (this)
+        {
+            dcDiskCache = diskCache;
+            diskCache = null;
+        }
+
+        if(dcDiskCache != null)
+        {
+            dcDiskCache.saveSubValues(subValueStore);
+        }
+    }
+
+    /**
+     * Gets the estimated heap bytes used by the dates sub values of the month (month dates only, so the months of the range add up)
+     *
+     * @param position The month position
+     *
+     * @return The estimated bytes, 0 if the position is out of range
+     */
+    long getSubValueBytes(int position)
+    {
+        if(position < 0 || position >= monthCount)
+        {
+            return 0;
+        }
+
+        return subValueStore.getBytesUsed(getMonthStartEpochDay(position), getMonthEndEpochDay(position));
+    }
+
+    /**
+     * Gets the first epoch day of the month
+     *
+     * @param position The month position
+     *
+     * @return The month start epoch day
+     */
+    private int getMonthStartEpochDay(int position)
+    {
+        int monthIndex = startMonthIndex + position;
+
+        return DCUtil.getEpochDay(monthIndex / 12, monthIndex % 12 + 1, 1);
+    }
+
+    /**
+     * Gets the last epoch day of the month
+     *
+     * @param position The month position
+     *
+     * @return The month end epoch day
+     */
+    private int getMonthEndEpochDay(int position)
+    {
+        int monthIndex = startMonthIndex + position;
+
+        return getMonthStartEpochDay(position) + DCMonthGrid.getDaysInMonth(monthIndex / 12, monthIndex % 12 + 1) - 1;
+    }
+
+    /**
+     * Gets the Droid Calendar data of the month
+     *
+     * @param position The month position
+     *
+     * @return The Droid Calendar data
+     */
+    private DCData getCalendarData(int position)
+    {
+        int monthIndex = startMonthIndex + position;
+        DCMonthGrid dcMonthGrid = new DCMonthGrid(monthIndex / 12, monthIndex % 12 + 1, getFirstDayOfWeek());
+
+        String monthYearHeader = DCLocaleTable.get(locale).getMonthYearTitle(monthYearHeaderFormat, monthIndex / 12, monthIndex % 12 + 1);
+
+        DCData dcData = new DCData(monthYearHeader, monthYearHeaderFormat, displayDateFormat, clickedDateFormat, DCFormats.DC_DMY_FORMAT, dcMonthGrid, subValueStore, locale);
+        dcData.prepareRenderData();
+
+        return dcData;
+    }
+
+    /**
+     * Gets the disk cache
+     *
+     * @return The disk cache, null if disabled
+     */
+    private synchronized DCDiskCache getDiskCache()
+    {
+        return diskCache;
+    }
+
+    /**
+     * Gets the disk cache key of the month range (the sub values are stored by date, independent of the locale & formats)
+     *
+     * @return The cache key
+     */
+    private String getCacheKey()
+    {
+        return startMonthIndex + "|" + monthCount;
+    }
+
+    /**
+     * Gets the month index (months since year 0)
+     *
+     * @param year The year
+     *
+     * @param month The month of year (1 - 12)
+     *
+     * @return The month index
+     */
+    private static int getMonthIndex(int year, int month)
+    {
+        return year * 12 + month - 1;
+    }
+}
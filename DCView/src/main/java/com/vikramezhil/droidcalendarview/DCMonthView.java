@@ -0,0 +1,552 @@
+package com.vikramezhil.droidcalendarview;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.Typeface;
+import android.os.Bundle;
+import android.support.v4.view.ViewCompat;
+import android.support.v4.view.accessibility.AccessibilityNodeInfoCompat;
+import android.support.v4.widget.ExploreByTouchHelper;
+import android.util.AttributeSet;
+import android.util.DisplayMetrics;
+import android.util.TypedValue;
+import android.view.MotionEvent;
+import android.view.SoundEffectConstants;
+import android.view.View;
+import android.view.accessibility.AccessibilityEvent;
+
+import java.util.List;
+
+/**
+ * Droid Calendar Month View
+ *
+ * Draws the days headers, dates, sub values, event indicators, separators and the clicked date of a month straight onto the canvas
+ * (single view alternative to the grid view of date cells). The days headers & day cells are exposed to the accessibility
+ * services as virtual views
+ *
+ * @author Vikram Ezhil
+ */
+
+class DCMonthView extends View
+{
+    private DCData dcData;
+    private DCProperties dcProperties = new DCProperties();
+    private OnDCDatesListener onDCDatesListener;
+
+    private final Paint bgPaint = new Paint();
+    private final Paint separatorPaint = new Paint();
+    private final Paint headerTextPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint textPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint subTextPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private DCEventPainter dcEventPainter;
+    private DCMonthAccessibilityHelper accessibilityHelper;
+
+    private float cellHeight;
+    private float margin;
+    private float separatorSize;
+    private float rowHeight;
+    private int downCell = -1;
+
+    // MARK: View Constructors
+
+    public DCMonthView(Context context)
+    {
+        super(context);
+
+        init(context);
+    }
+
+    public DCMonthView(Context context, AttributeSet attrs)
+    {
+        super(context, attrs);
+
+        init(context);
+    }
+
+    public DCMonthView(Context context, AttributeSet attrs, int defStyleAttr)
+    {
+        super(context, attrs, defStyleAttr);
+
+        init(context);
+    }
+
+    // MARK: DCMonthView Methods
+
+    /**
+     * Sets the Droid Calendar Data
+     *
+     * @param dcData The droid calendar data
+     */
+    void setDcData(DCData dcData)
+    {
+        boolean rowsChanged = this.dcData == null || dcData == null || this.dcData.cellCount != dcData.cellCount;
+
+        this.dcData = dcData;
+
+        if(rowsChanged)
+        {
+            requestLayout();
+        }
+
+        invalidate();
+        accessibilityHelper.invalidateRoot();
+    }
+
+    /**
+     * Sets the Droid Calendar properties
+     *
+     * @param dcProperties The droid calendar properties
+     */
+    void setDCProperties(DCProperties dcProperties)
+    {
+        this.dcProperties = dcProperties;
+
+        updatePaints();
+        requestLayout();
+        invalidate();
+        accessibilityHelper.invalidateRoot();
+    }
+
+    /**
+     * Redraws the month with the current properties (no relayout)
+     */
+    void redraw()
+    {
+        updatePaints();
+        invalidate();
+        accessibilityHelper.invalidateRoot();
+    }
+
+    /**
+     * Sets the Droid Calendar dates listener
+     *
+     * @param onDCDatesListener The class instance to initialize the listener
+     */
+    void setOnDCDatesListener(OnDCDatesListener onDCDatesListener)
+    {
+        this.onDCDatesListener = onDCDatesListener;
+    }
+
+    // MARK: View Methods
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec)
+    {
+        int rows = 1 + (dcData != null ? (dcData.cellCount + DCFormats.DAYS_IN_A_WEEK.length - 1) / DCFormats.DAYS_IN_A_WEEK.length : 0);
+        int height = (int) Math.ceil(rows * rowHeight) + getPaddingTop() + getPaddingBottom();
+
+        setMeasuredDimension(getDefaultSize(getSuggestedMinimumWidth(), widthMeasureSpec), resolveSize(height, heightMeasureSpec));
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas)
+    {
+        if(dcData == null)
+        {
+            return;
+        }
+
+        float left = getPaddingLeft();
+        float top = getPaddingTop();
+        float columnWidth = (getWidth() - getPaddingLeft() - getPaddingRight()) / (float) DCFormats.DAYS_IN_A_WEEK.length;
+
+        // Days headers
+
+        bgPaint.setColor(dcProperties.style.daysHeadersLayoutBGColor);
+        canvas.drawRect(left, top, left + columnWidth * DCFormats.DAYS_IN_A_WEEK.length, top + rowHeight, bgPaint);
+
+        String[] daysHeaders = dcData.getDaysHeaders(dcProperties.style.daysHeaderStyle);
+
+        headerTextPaint.setColor(dcProperties.style.daysHeadersTextColor);
+        for(int column=0;column<DCFormats.DAYS_IN_A_WEEK.length;column++)
+        {
+            float cellLeft = left + column * columnWidth;
+
+            drawCenteredText(canvas, daysHeaders[column], cellLeft, top + margin, columnWidth, cellHeight, headerTextPaint);
+            drawSeparators(canvas, cellLeft, top, columnWidth, dcProperties.style.showDaysHeaderColSeparator, dcProperties.style.showDaysHeaderRowSeparator);
+        }
+
+        // Days
+
+        float daysTop = top + rowHeight;
+        int rows = (dcData.cellCount + DCFormats.DAYS_IN_A_WEEK.length - 1) / DCFormats.DAYS_IN_A_WEEK.length;
+
+        bgPaint.setColor(dcProperties.style.daysLayoutBGColor);
+        canvas.drawRect(left, daysTop, left + columnWidth * DCFormats.DAYS_IN_A_WEEK.length, daysTop + rows * rowHeight, bgPaint);
+
+        // Event indicators are drawn in a strip at the bottom of the cells, if the month has events
+        DCEventLayout eventLayout = dcData.getEventLayout(dcProperties.eventIndex);
+        float contentHeight = eventLayout.empty ? cellHeight : cellHeight - dcEventPainter.stripHeight;
+
+        for(int cell=0;cell<dcData.cellCount;cell++)
+        {
+            float cellLeft = left + (cell % DCFormats.DAYS_IN_A_WEEK.length) * columnWidth;
+            float cellTop = daysTop + (cell / DCFormats.DAYS_IN_A_WEEK.length) * rowHeight;
+            int state = DCCellState.getState(dcData, dcProperties, cell);
+            float alpha = DCCellState.getAlpha(state);
+
+            int bgColor = DCCellState.getBGColor(state, dcProperties);
+            if(Color.alpha(bgColor) != 0)
+            {
+                bgPaint.setColor(DCCellState.applyAlpha(bgColor, alpha));
+                canvas.drawRect(cellLeft + margin, cellTop + margin, cellLeft + columnWidth - margin, cellTop + margin + cellHeight, bgPaint);
+            }
+
+            if(state != DCCellState.HIDDEN)
+            {
+                textPaint.setColor(DCCellState.applyAlpha(DCCellState.getTextColor(state, dcProperties), alpha));
+
+                if(dcProperties.style.showDaySubValue)
+                {
+                    // Date & sub value stacked in the middle of the cell
+                    float textHeight = textPaint.descent() - textPaint.ascent();
+                    float subTextHeight = subTextPaint.descent() - subTextPaint.ascent();
+                    float textTop = cellTop + margin + (contentHeight - textHeight - subTextHeight) / 2;
+
+                    subTextPaint.setColor(DCCellState.applyAlpha(DCCellState.getSubTextColor(state, dcProperties), alpha));
+
+                    drawCenteredText(canvas, dcData.displayDates[cell], cellLeft, textTop, columnWidth, textHeight, textPaint);
+                    drawCenteredText(canvas, dcData.getDateSubValue(cell), cellLeft, textTop + textHeight, columnWidth, subTextHeight, subTextPaint);
+                }
+                else
+                {
+                    drawCenteredText(canvas, dcData.displayDates[cell], cellLeft, cellTop + margin, columnWidth, contentHeight, textPaint);
+                }
+
+                if(!eventLayout.empty)
+                {
+                    dcEventPainter.draw(canvas, eventLayout, cell, dcProperties.style.eventIndicatorStyle, DCCellState.getSubTextColor(state, dcProperties), alpha, cellLeft + margin, cellTop + margin + contentHeight, columnWidth - margin * 2);
+                }
+            }
+
+            drawSeparators(canvas, cellLeft, cellTop, columnWidth, dcProperties.style.showColSeparator, dcProperties.style.showRowSeparator);
+        }
+    }
+
+    @Override
+    protected boolean dispatchHoverEvent(MotionEvent event)
+    {
+        // Touch exploration of the days headers & day cells
+        return accessibilityHelper.dispatchHoverEvent(event) || super.dispatchHoverEvent(event);
+    }
+
+    @Override
+    public boolean onTouchEvent(MotionEvent event)
+    {
+        switch (event.getActionMasked())
+        {
+            case MotionEvent.ACTION_DOWN:
+                downCell = getCell(event.getX(), event.getY());
+
+                // Consuming the gesture, so the swipes across the month keep reaching the Droid Calendar View
+                return true;
+
+            case MotionEvent.ACTION_UP:
+                int upCell = getCell(event.getX(), event.getY());
+                if(upCell >= 0 && upCell == downCell)
+                {
+                    onCellClicked(upCell);
+                }
+
+                downCell = -1;
+
+                return true;
+
+            case MotionEvent.ACTION_CANCEL:
+                downCell = -1;
+
+                return true;
+
+            default:
+                return true;
+        }
+    }
+
+    // MARK: DCMonthView Private Methods
+
+    /**
+     * Initializes the Droid Calendar Month View
+     *
+     * @param context The application context
+     */
+    private void init(Context context)
+    {
+        cellHeight = DCCellMetrics.getCellHeight(context);
+        margin = context.getResources().getDimension(R.dimen.dc_margin);
+        separatorSize = context.getResources().getDimension(R.dimen.dc_separator_line_height);
+        dcEventPainter = new DCEventPainter(context);
+
+        // Same metrics as the date cell layout (cell + cell margins + row separator with its margins)
+        rowHeight = cellHeight + margin * 2 + separatorSize + margin * 2;
+
+        headerTextPaint.setTextAlign(Paint.Align.CENTER);
+        textPaint.setTextAlign(Paint.Align.CENTER);
+        subTextPaint.setTextAlign(Paint.Align.CENTER);
+
+        updatePaints();
+
+        accessibilityHelper = new DCMonthAccessibilityHelper(this);
+        ViewCompat.setAccessibilityDelegate(this, accessibilityHelper);
+    }
+
+    /**
+     * Updates the text paints from the droid calendar properties
+     */
+    private void updatePaints()
+    {
+        DisplayMetrics displayMetrics = getResources().getDisplayMetrics();
+
+        headerTextPaint.setTextSize(TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_SP, dcProperties.style.daysHeaderTextSize, displayMetrics));
+        headerTextPaint.setTypeface(Typeface.create(Typeface.DEFAULT, dcProperties.style.daysHeaderTextStyle));
+
+        textPaint.setTextSize(TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_SP, dcProperties.style.daysTextSize, displayMetrics));
+        textPaint.setTypeface(Typeface.create(Typeface.DEFAULT, dcProperties.style.daysTextStyle));
+
+        subTextPaint.setTextSize(TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_SP, dcProperties.style.daysSubTextSize, displayMetrics));
+        subTextPaint.setTypeface(Typeface.create(Typeface.DEFAULT, dcProperties.style.daysSubTextStyle));
+    }
+
+    /**
+     * Draws the text centered in the passed bounds
+     *
+     * @param canvas The canvas
+     *
+     * @param text The text
+     *
+     * @param left The bounds left
+     *
+     * @param top The bounds top
+     *
+     * @param width The bounds width
+     *
+     * @param height The bounds height
+     *
+     * @param paint The text paint
+     */
+    private void drawCenteredText(Canvas canvas, String text, float left, float top, float width, float height, Paint paint)
+    {
+        float baseline = top + (height - paint.descent() - paint.ascent()) / 2;
+
+        canvas.drawText(text, left + width / 2, baseline, paint);
+    }
+
+    /**
+     * Draws the column (left) & row (bottom) separators of a cell
+     *
+     * @param canvas The canvas
+     *
+     * @param cellLeft The cell left
+     *
+     * @param cellTop The cell top
+     *
+     * @param columnWidth The column width
+     *
+     * @param showColSeparator True - draws the column separator, False - if otherwise
+     *
+     * @param showRowSeparator True - draws the row separator, False - if otherwise
+     */
+    private void drawSeparators(Canvas canvas, float cellLeft, float cellTop, float columnWidth, boolean showColSeparator, boolean showRowSeparator)
+    {
+        if(showColSeparator)
+        {
+            separatorPaint.setColor(dcProperties.style.colSeparatorColor);
+            canvas.drawRect(cellLeft, cellTop, cellLeft + separatorSize, cellTop + rowHeight, separatorPaint);
+        }
+
+        if(showRowSeparator)
+        {
+            float separatorTop = cellTop + rowHeight - margin - separatorSize;
+
+            separatorPaint.setColor(dcProperties.style.rowSeparatorColor);
+            canvas.drawRect(cellLeft + (showColSeparator ? separatorSize : 0), separatorTop, cellLeft + columnWidth, separatorTop + separatorSize, separatorPaint);
+        }
+    }
+
+    /**
+     * Gets the days header or day cell (virtual view) at the position
+     *
+     * @param x The x position
+     *
+     * @param y The y position
+     *
+     * @return The virtual view id (days header column, or the days headers count + the day cell position), -1 if there is none
+     */
+    private int getVirtualView(float x, float y)
+    {
+        if(dcData == null)
+        {
+            return -1;
+        }
+
+        float columnWidth = (getWidth() - getPaddingLeft() - getPaddingRight()) / (float) DCFormats.DAYS_IN_A_WEEK.length;
+        int column = (int) ((x - getPaddingLeft()) / columnWidth);
+        int row = (int) ((y - getPaddingTop()) / rowHeight);
+
+        if(x < getPaddingLeft() || y < getPaddingTop() || column >= DCFormats.DAYS_IN_A_WEEK.length)
+        {
+            return -1;
+        }
+
+        // The days headers are the first row, so the ids follow the rows (day cell = days headers count + cell)
+        int virtualView = row * DCFormats.DAYS_IN_A_WEEK.length + column;
+
+        return virtualView < DCFormats.DAYS_IN_A_WEEK.length + dcData.cellCount ? virtualView : -1;
+    }
+
+    /**
+     * Gets the day cell at the touch position
+     *
+     * @param x The touch x position
+     *
+     * @param y The touch y position
+     *
+     * @return The enabled day cell position, -1 if there is no enabled day cell
+     */
+    private int getCell(float x, float y)
+    {
+        int cell = getVirtualView(x, y) - DCFormats.DAYS_IN_A_WEEK.length;
+
+        return cell >= 0 && DCCellState.isEnabled(DCCellState.getState(dcData, dcProperties, cell)) ? cell : -1;
+    }
+
+    /**
+     * Sets the clicked date and sends back an update
+     *
+     * @param cell The clicked day cell position
+     */
+    private void onCellClicked(int cell)
+    {
+        playSoundEffect(SoundEffectConstants.CLICK);
+
+        // Getting and setting the clicked date
+        dcProperties.clickedEpochDay = dcData.getEpochDay(cell);
+
+        if(onDCDatesListener != null)
+        {
+            // Sending back an update with the clicked date
+            onDCDatesListener.onDateClicked(DCUtil.getDateInFormat(dcProperties.clickedEpochDay, dcData.clickedDateFormat, dcData.locale));
+        }
+
+        invalidate();
+
+        // The clicked date is the selected virtual view now
+        accessibilityHelper.invalidateRoot();
+        accessibilityHelper.sendEventForVirtualView(DCFormats.DAYS_IN_A_WEEK.length + cell, AccessibilityEvent.TYPE_VIEW_CLICKED);
+    }
+
+    /**
+     * Droid Calendar Month Accessibility Helper
+     *
+     * Exposes the days headers (full weekday names) and the day cells (full date & sub value, with the clicked & disabled
+     * state) of the month as virtual views, the hidden dates are left out
+     */
+    private class DCMonthAccessibilityHelper extends ExploreByTouchHelper
+    {
+        private final Rect bounds = new Rect();
+
+        /**
+         * Droid Calendar Month Accessibility Helper Constructor
+         *
+         * @param host The month view
+         */
+        DCMonthAccessibilityHelper(View host)
+        {
+            super(host);
+        }
+
+        @Override
+        protected int getVirtualViewAt(float x, float y)
+        {
+            int virtualView = getVirtualView(x, y);
+
+            return virtualView >= 0 && isVisible(virtualView) ? virtualView : INVALID_ID;
+        }
+
+        @Override
+        protected void getVisibleVirtualViews(List<Integer> virtualViewIds)
+        {
+            if(dcData == null)
+            {
+                return;
+            }
+
+            for(int virtualView=0;virtualView<DCFormats.DAYS_IN_A_WEEK.length + dcData.cellCount;virtualView++)
+            {
+                if(isVisible(virtualView))
+                {
+                    virtualViewIds.add(virtualView);
+                }
+            }
+        }
+
+        @Override
+        protected void onPopulateNodeForVirtualView(int virtualViewId, AccessibilityNodeInfoCompat node)
+        {
+            float columnWidth = (getWidth() - getPaddingLeft() - getPaddingRight()) / (float) DCFormats.DAYS_IN_A_WEEK.length;
+            float left = getPaddingLeft() + (virtualViewId % DCFormats.DAYS_IN_A_WEEK.length) * columnWidth;
+            float top = getPaddingTop() + (virtualViewId / DCFormats.DAYS_IN_A_WEEK.length) * rowHeight;
+
+            bounds.set((int) left, (int) top, (int) (left + columnWidth), (int) (top + rowHeight));
+            node.setBoundsInParent(bounds);
+
+            int cell = virtualViewId - DCFormats.DAYS_IN_A_WEEK.length;
+
+            if(dcData == null || cell >= dcData.cellCount)
+            {
+                // Month changed since the virtual view was reported
+                node.setContentDescription("");
+            }
+            else if(cell < 0)
+            {
+                node.setContentDescription(dcData.getDaysHeaders(DCLocaleTable.WEEKDAY_FULL)[virtualViewId]);
+            }
+            else
+            {
+                int state = DCCellState.getState(dcData, dcProperties, cell);
+
+                node.setContentDescription(dcData.getCellDescription(cell, dcProperties.style.showDaySubValue));
+                node.setEnabled(DCCellState.isEnabled(state));
+                node.setSelected(state == DCCellState.CLICKED);
+
+                if(DCCellState.isEnabled(state))
+                {
+                    node.setClickable(true);
+                    node.addAction(AccessibilityNodeInfoCompat.ACTION_CLICK);
+                }
+            }
+        }
+
+        @Override
+        protected boolean onPerformActionForVirtualView(int virtualViewId, int action, Bundle arguments)
+        {
+            int cell = virtualViewId - DCFormats.DAYS_IN_A_WEEK.length;
+
+            if(action == AccessibilityNodeInfoCompat.ACTION_CLICK && dcData != null && cell >= 0 && cell < dcData.cellCount
+                    && DCCellState.isEnabled(DCCellState.getState(dcData, dcProperties, cell)))
+            {
+                onCellClicked(cell);
+
+                return true;
+            }
+
+            return false;
+        }
+
+        /**
+         * Checks if the virtual view is read by the accessibility services (the hidden dates are not)
+         *
+         * @param virtualView The virtual view id
+         *
+         * @return True - visible, False - if otherwise
+         */
+        private boolean isVisible(int virtualView)
+        {
+            int cell = virtualView - DCFormats.DAYS_IN_A_WEEK.length;
+
+            return cell < 0 || DCCellState.getState(dcData, dcProperties, cell) != DCCellState.HIDDEN;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.vikramezhil.droidcalendarview;
+
+import android.content.Context;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Droid Calendar Prewarm
+ *
+ * Loads & initializes the process wide pieces the first Droid Calendar view needs (Joda-Time & the time zone data,
+ * the date formatters, the locale tables, the font awesome typeface & a pool of date cells) ahead of time, timing each phase
+ *
+ * @author Vikram Ezhil
+ */
+
+class DCPrewarm
+{
+    static final String PHASE_TIME_ZONE = "timeZone";
+    static final String PHASE_FORMATTERS = "formatters";
+    static final String PHASE_LOCALE_TABLES = "localeTables";
+    static final String PHASE_TYPEFACE = "typeface";
+    static final String PHASE_CELL_VIEWS = "cellViews";
+
+    // MARK: DCPrewarm Methods
+
+    /**
+     * Prewarms the Droid Calendar stack
+     *
+     * NOTE: Safe to be called from a background thread, the pieces already loaded are only looked up again
+     *
+     * @param context The application context
+     *
+     * @param locale The locale the app will show the calendars in
+     *
+     * @return The phases & their durations in nanoseconds, in the order they ran
+     */
+    static Map<String, Long> prewarm(Context context, Locale locale)
+    {
+        Map<String, Long> phaseDurations = new LinkedHashMap<>();
+
+        long phaseStart = System.nanoTime();
+        DateTimeZone.getDefault();
+        new DateTime().getYear();
+        DCClock.getTodayEpochDay();
+        phaseStart = endPhase(phaseDurations, PHASE_TIME_ZONE, phaseStart);
+
+        // The default data is always built in Locale.US
+        Locale[] locales = locale.equals(Locale.US) ? new Locale[]{locale} : new Locale[]{locale, Locale.US};
+
+        String[] formats = new String[]{DCFormats.DC_DMY_FORMAT, DCFormats.DC_MY_FORMAT, DCFormats.D_FORMAT, DCFormats.DC_EEEE_FORMAT, DCFormats.DC_EEE_FORMAT};
+        for(Locale formatLocale: locales)
+        {
+            for(String format: formats)
+            {
+                // Printing once also initializes the formatter chronology
+                DCUtil.getCurrentDate(format, formatLocale);
+            }
+        }
+        phaseStart = endPhase(phaseDurations, PHASE_FORMATTERS, phaseStart);
+
+        int todayEpochDay = DCClock.getTodayEpochDay();
+        int monthIndex = DCUtil.getYear(todayEpochDay) * 12 + DCUtil.getMonthOfYear(todayEpochDay) - 1;
+
+        // Months of the default data (current month & the next 11 months, the range end month is excluded)
+        for(Locale tableLocale: locales)
+        {
+            DCLocaleTable localeTable = DCLocaleTable.get(tableLocale);
+            for(int month = monthIndex; month < monthIndex + DCFormats.DEFAULT_MONTH_RANGE; month++)
+            {
+                localeTable.getMonthYearTitle(DCFormats.DC_MY_FORMAT, month / 12, month % 12 + 1);
+            }
+        }
+        phaseStart = endPhase(phaseDurations, PHASE_LOCALE_TABLES, phaseStart);
+
+        DCAssets.getFATypeface(context);
+        phaseStart = endPhase(phaseDurations, PHASE_TYPEFACE, phaseStart);
+
+        DCCellPool.fill(context);
+        endPhase(phaseDurations, PHASE_CELL_VIEWS, phaseStart);
+
+        return phaseDurations;
+    }
+
+    // MARK: DCPrewarm Private Methods
+
+    /**
+     * Records the phase duration
+     *
+     * @param phaseDurations The phases & their durations
+     *
+     * @param phase The phase name
+     *
+     * @param phaseStart The phase start time in nanoseconds
+     *
+     * @return The phase end time in nanoseconds (the next phase start)
+     */
+    private static long endPhase(Map<String, Long> phaseDurations, String phase, long phaseStart)
+    {
+        long phaseEnd = System.nanoTime();
+        phaseDurations.put(phase, phaseEnd - phaseStart);
+
+        return phaseEnd;
+    }
+}
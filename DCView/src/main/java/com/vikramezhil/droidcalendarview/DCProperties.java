@@ -1,68 +1,36 @@
 package com.vikramezhil.droidcalendarview;
 
-import android.graphics.Color;
-import android.graphics.Typeface;
-
-import java.util.ArrayList;
-import java.util.List;
+import java.io.File;
 
 /**
  * Droid Calendar Properties
  *
+ * Per view state & behaviour, the styling is kept in the shared immutable DCStyle
+ *
  * @author Vikram Ezhil
  */
 
 class DCProperties
 {
-    List<String> clickableDates = new ArrayList<>();
+    DCStyle style = DCStyle.DEFAULT;
 
-    String clickedDate;
+    DCDateSet clickableDates = new DCDateSet();
 
-    float maxHeaderTextSize = 22f;
+    DCEventIndex eventIndex = new DCEventIndex();
 
-    float maxDaysTextSize = 22f;
+    int clickedEpochDay = DCUtil.NO_DATE;
 
-    float maxDaysSubTextSize = 14f;
+    float maxHeaderTextSize = 22f;
 
     float maxPrevNextButtonSize = 30f;
 
-    float daysHeaderTextSize = 18f;
-
-    float daysTextSize = 18f;
-
-    float daysSubTextSize = 15f;
-
     int dcPosition = 0;
 
-    int daysHeaderTextStyle = Typeface.NORMAL;
-
-    int daysTextStyle = Typeface.NORMAL;
-
-    int daysSubTextStyle = Typeface.NORMAL;
-
-    int daysHeadersLayoutBGColor = Color.parseColor("#F5F5F5");
-
-    int daysHeadersTextColor = Color.parseColor("#999898");
-
-    int daysLayoutBGColor = Color.WHITE;
-
-    int daysTextColor = Color.parseColor("#999898");
+    int monthWindowSize = DCMonthProvider.DEFAULT_WINDOW_SIZE;
 
-    int daysSubTextColor = Color.parseColor("#999898");
+    int firstDayOfWeek = DCFormats.DEFAULT_FIRST_DAY_OF_WEEK;
 
-    int clickableDaysBGColor = Color.WHITE;
-
-    int clickableDaysTextColor = Color.parseColor("#999898");
-
-    int clickedDayBGColor = Color.parseColor("#00ADEF");
-
-    int clickedDayTextColor = Color.WHITE;
-
-    int clickedDaySubTextColor = Color.WHITE;
-
-    int colSeparatorColor = Color.parseColor("#F5F5F5");
-
-    int rowSeparatorColor = Color.parseColor("#F5F5F5");
+    File diskCacheDirectory = null;
 
     int horizontalSwipeAnimation = R.anim.anim_fadein;
 
@@ -76,18 +44,6 @@ class DCProperties
 
     boolean showSwipeAnimation = false;
 
-    boolean showDaysHeaderColSeparator = false;
-
-    boolean showDaysHeaderRowSeparator = false;
-
-    boolean showColSeparator = false;
-
-    boolean showRowSeparator = true;
-
-    boolean showPastAndFutureMonthDates = false;
-
-    boolean showDaySubValue = false;
-
     boolean allDatesClickable = true;
 
     boolean enableOnlyFutureDates = false;
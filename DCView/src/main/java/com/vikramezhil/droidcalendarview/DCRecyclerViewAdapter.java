@@ -0,0 +1,329 @@
+package com.vikramezhil.droidcalendarview;
+
+import android.content.Context;
+import android.support.v7.widget.RecyclerView;
+import android.view.View;
+import android.view.ViewGroup;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Droid Calendar Recycler View Adapter
+ *
+ * Stable ids (day cells are keyed by their epoch day) and payload based partial rebinds, so moving the clicked date
+ * or updating a sub value only rebinds the affected day cells
+ *
+ * @author Vikram Ezhil
+ */
+
+class DCRecyclerViewAdapter extends RecyclerView.Adapter<DCRecyclerViewAdapter.ViewHolder>
+{
+    static final Object PAYLOAD_STATE = new Object();
+    static final Object PAYLOAD_SUB_VALUE = new Object();
+
+    private static final long HEADER_ID_OFFSET = (long) Integer.MAX_VALUE + 1;
+
+    private Context context;
+    private DCData dcData;
+    private DCProperties dcProperties;
+    private OnDCDatesListener onDCDatesListener;
+    private DCCellMetrics dcCellMetrics;
+
+    // MARK: View Holder Class
+
+    class ViewHolder extends RecyclerView.ViewHolder implements View.OnClickListener
+    {
+        DCDayCellView dcDayCell;
+
+        ViewHolder(DCDayCellView itemView)
+        {
+            super(itemView);
+
+            dcDayCell = itemView;
+            dcDayCell.setOnClickListener(this);
+        }
+
+        public void onClick(View view)
+        {
+            int clickPosition = getAdapterPosition() - DCFormats.DAYS_IN_A_WEEK.length;
+            if(dcData != null && clickPosition >= 0 && clickPosition < dcData.cellCount && DCCellState.isEnabled(DCCellState.getState(dcData, dcProperties, clickPosition)))
+            {
+                // Getting and setting the clicked date
+                setClickedEpochDay(dcData.getEpochDay(clickPosition));
+
+                // Sending back an update with the clicked date
+                onDCDatesListener.onDateClicked(DCUtil.getDateInFormat(dcProperties.clickedEpochDay, dcData.clickedDateFormat, dcData.locale));
+            }
+        }
+    }
+
+    // MARK: DCRecyclerViewAdapter Constructor
+
+    /**
+     * Droid Calendar Recycler View Adapter Constructor
+     *
+     * @param context The class instance to initialize the context
+     *
+     * @param dcProperties The droid calendar properties
+     *
+     * @param onDCDatesListener The class instance to initialize the listener
+     */
+    DCRecyclerViewAdapter(Context context, DCProperties dcProperties, OnDCDatesListener onDCDatesListener)
+    {
+        this.context = context;
+        this.dcProperties = dcProperties;
+        this.onDCDatesListener = onDCDatesListener;
+
+        setHasStableIds(true);
+    }
+
+    // MARK: DCRecyclerViewAdapter Methods
+
+    /**
+     * Sets the Droid Calendar Data
+     *
+     * @param dcData The droid calendar data
+     */
+    void setDcData(DCData dcData)
+    {
+        this.dcData = dcData;
+
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Sets the Droid Calendar properties
+     *
+     * @param dcProperties The droid calendar properties
+     */
+    void setDCProperties(DCProperties dcProperties)
+    {
+        this.dcProperties = dcProperties;
+
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Sets the clicked date, only the previously clicked & the newly clicked day cells are rebound
+     *
+     * @param clickedEpochDay The clicked date epoch day, DCUtil.NO_DATE to clear it
+     */
+    void setClickedEpochDay(int clickedEpochDay)
+    {
+        int previousClickedEpochDay = dcProperties.clickedEpochDay;
+
+        dcProperties.clickedEpochDay = clickedEpochDay;
+
+        if(previousClickedEpochDay != clickedEpochDay)
+        {
+            notifyDateChanged(previousClickedEpochDay, PAYLOAD_STATE);
+            notifyDateChanged(clickedEpochDay, PAYLOAD_STATE);
+        }
+    }
+
+    /**
+     * Rebinds the sub values of the dates
+     *
+     * @param dates The changed dates, null if all the month dates changed. NOTE: Date format should be "d/M/YYYY"
+     */
+    void notifyDatesSubValuesChanged(Collection<String> dates)
+    {
+        if(dcData == null)
+        {
+            return;
+        }
+
+        if(dates == null)
+        {
+            notifyItemRangeChanged(DCFormats.DAYS_IN_A_WEEK.length, dcData.cellCount, PAYLOAD_SUB_VALUE);
+
+            return;
+        }
+
+        for(String date: dates)
+        {
+            try
+            {
+                notifyDateChanged(DCUtil.getEpochDay(date, dcData.datesFormat, dcData.locale), PAYLOAD_SUB_VALUE);
+            }
+            catch (Exception e)
+            {
+                onDCDatesListener.onDateError(e);
+            }
+        }
+    }
+
+    /**
+     * Rebinds the on screen cells in place with the current properties (no relayout unless a cell size changes)
+     *
+     * @param recyclerView The recycler view showing the cells
+     */
+    void rebindVisibleCells(RecyclerView recyclerView)
+    {
+        for(int catx=0;catx<recyclerView.getChildCount();catx++)
+        {
+            ViewHolder holder = (ViewHolder) recyclerView.getChildViewHolder(recyclerView.getChildAt(catx));
+
+            int position = holder.getAdapterPosition();
+            if(position != RecyclerView.NO_POSITION)
+            {
+                onBindViewHolder(holder, position);
+            }
+        }
+    }
+
+    /**
+     * Gets the Droid Calendar Data
+     *
+     * @return The droid calendar data
+     */
+    DCData getDcData()
+    {
+        return dcData;
+    }
+
+    // MARK: RecyclerView Adapter Methods
+
+    @Override
+    public ViewHolder onCreateViewHolder(ViewGroup parent, int viewType)
+    {
+        return new ViewHolder(DCCellPool.obtain(context));
+    }
+
+    @Override
+    public void onBindViewHolder(ViewHolder holder, int position)
+    {
+        try
+        {
+            if(position < DCFormats.DAYS_IN_A_WEEK.length)
+            {
+                // Days headers
+                holder.dcDayCell.setDaysHeader(getCellMetrics(), dcData.getDaysHeaders(dcProperties.style.daysHeaderStyle)[position], dcData.getDaysHeaders(DCLocaleTable.WEEKDAY_FULL)[position]);
+            }
+            else
+            {
+                // Days
+                bindDayState(holder, position - DCFormats.DAYS_IN_A_WEEK.length);
+            }
+        }
+        catch (Exception e)
+        {
+            onDCDatesListener.onDateError(e);
+        }
+    }
+
+    @Override
+    public void onBindViewHolder(ViewHolder holder, int position, List<Object> payloads)
+    {
+        if(payloads.isEmpty() || position < DCFormats.DAYS_IN_A_WEEK.length)
+        {
+            onBindViewHolder(holder, position);
+
+            return;
+        }
+
+        try
+        {
+            int cell = position - DCFormats.DAYS_IN_A_WEEK.length;
+
+            if(payloads.contains(PAYLOAD_STATE))
+            {
+                // Date state (also rebinds the sub value & events)
+                bindDayState(holder, cell);
+            }
+            else if(dcProperties.style.showDaySubValue && cell < dcData.cellCount)
+            {
+                // Date sub value only
+                holder.dcDayCell.setDaySubValue(dcData.getDateSubValue(cell));
+            }
+        }
+        catch (Exception e)
+        {
+            onDCDatesListener.onDateError(e);
+        }
+    }
+
+    @Override
+    public int getItemCount()
+    {
+        if(dcData != null)
+        {
+            return DCFormats.DAYS_IN_A_WEEK.length + dcData.cellCount;
+        }
+        else
+        {
+            return 0;
+        }
+    }
+
+    @Override
+    public long getItemId(int position)
+    {
+        if(position < DCFormats.DAYS_IN_A_WEEK.length)
+        {
+            // Days headers are keyed out of the epoch day range
+            return HEADER_ID_OFFSET + position;
+        }
+
+        return dcData.getEpochDay(position - DCFormats.DAYS_IN_A_WEEK.length);
+    }
+
+    // MARK: DCRecyclerViewAdapter Private Methods
+
+    /**
+     * Gets the cell metrics of the current style, the metrics are only computed again when the style changes
+     *
+     * @return The cell metrics
+     */
+    private DCCellMetrics getCellMetrics()
+    {
+        dcCellMetrics = DCCellMetrics.get(context, dcProperties.style, dcCellMetrics);
+
+        return dcCellMetrics;
+    }
+
+    /**
+     * Binds the date, sub value & state of the day cell
+     *
+     * @param holder The view holder
+     *
+     * @param cell The day cell position
+     */
+    private void bindDayState(ViewHolder holder, int cell)
+    {
+        if(cell < 0 || cell >= dcData.cellCount)
+        {
+            return;
+        }
+
+        DCStyle style = dcProperties.style;
+        int state = DCCellState.getState(dcData, dcProperties, cell);
+        DCEventLayout eventLayout = dcData.getEventLayout(dcProperties.eventIndex);
+
+        holder.dcDayCell.setDay(getCellMetrics(), state == DCCellState.HIDDEN ? "" : dcData.displayDates[cell], style.showDaySubValue ? dcData.getDateSubValue(cell) : null,
+                state, DCCellState.getBGColor(state, dcProperties), DCCellState.getTextColor(state, dcProperties), DCCellState.getSubTextColor(state, dcProperties),
+                eventLayout.empty || state == DCCellState.HIDDEN ? null : eventLayout, dcData, cell);
+    }
+
+    /**
+     * Rebinds the day cell of the date with the payload, if the date is on screen
+     *
+     * @param epochDay The date epoch day
+     *
+     * @param payload The rebind payload
+     */
+    private void notifyDateChanged(int epochDay, Object payload)
+    {
+        if(dcData == null || epochDay == DCUtil.NO_DATE)
+        {
+            return;
+        }
+
+        int cell = dcData.getCell(epochDay);
+        if(cell >= 0)
+        {
+            notifyItemChanged(DCFormats.DAYS_IN_A_WEEK.length + cell, payload);
+        }
+    }
+}
@@ -0,0 +1,625 @@
+package com.vikramezhil.droidcalendarview;
+
+import android.graphics.Color;
+import android.graphics.Typeface;
+
+/**
+ * Droid Calendar Style
+ *
+ * Immutable snapshot of the Droid Calendar days styling (text sizes & styles, colors, separators and visibility),
+ * built once and shared by reference between the Droid Calendar views (directly or through a DCTheme)
+ *
+ * @author Vikram Ezhil
+ */
+
+public final class DCStyle
+{
+    public static final float MAX_DAYS_TEXT_SIZE = 22f;
+    public static final float MAX_DAYS_SUB_TEXT_SIZE = 14f;
+
+    static final DCStyle DEFAULT = new Builder().build();
+
+    final float daysHeaderTextSize;
+    final float daysTextSize;
+    final float daysSubTextSize;
+    final int daysHeaderStyle;
+    final int daysHeaderTextStyle;
+    final int daysTextStyle;
+    final int daysSubTextStyle;
+    final int daysHeadersLayoutBGColor;
+    final int daysHeadersTextColor;
+    final int daysLayoutBGColor;
+    final int daysTextColor;
+    final int daysSubTextColor;
+    final int clickableDaysBGColor;
+    final int clickableDaysTextColor;
+    final int clickedDayBGColor;
+    final int clickedDayTextColor;
+    final int clickedDaySubTextColor;
+    final int colSeparatorColor;
+    final int rowSeparatorColor;
+    final boolean showDaysHeaderColSeparator;
+    final boolean showDaysHeaderRowSeparator;
+    final boolean showColSeparator;
+    final boolean showRowSeparator;
+    final boolean showPastAndFutureMonthDates;
+    final boolean showDaySubValue;
+    final int eventIndicatorStyle;
+
+    /**
+     * Droid Calendar Style Constructor
+     *
+     * @param builder The style builder
+     */
+    private DCStyle(Builder builder)
+    {
+        this.daysHeaderTextSize = builder.daysHeaderTextSize;
+        this.daysTextSize = builder.daysTextSize;
+        this.daysSubTextSize = builder.daysSubTextSize;
+        this.daysHeaderStyle = builder.daysHeaderStyle;
+        this.daysHeaderTextStyle = builder.daysHeaderTextStyle;
+        this.daysTextStyle = builder.daysTextStyle;
+        this.daysSubTextStyle = builder.daysSubTextStyle;
+        this.daysHeadersLayoutBGColor = builder.daysHeadersLayoutBGColor;
+        this.daysHeadersTextColor = builder.daysHeadersTextColor;
+        this.daysLayoutBGColor = builder.daysLayoutBGColor;
+        this.daysTextColor = builder.daysTextColor;
+        this.daysSubTextColor = builder.daysSubTextColor;
+        this.clickableDaysBGColor = builder.clickableDaysBGColor;
+        this.clickableDaysTextColor = builder.clickableDaysTextColor;
+        this.clickedDayBGColor = builder.clickedDayBGColor;
+        this.clickedDayTextColor = builder.clickedDayTextColor;
+        this.clickedDaySubTextColor = builder.clickedDaySubTextColor;
+        this.colSeparatorColor = builder.colSeparatorColor;
+        this.rowSeparatorColor = builder.rowSeparatorColor;
+        this.showDaysHeaderColSeparator = builder.showDaysHeaderColSeparator;
+        this.showDaysHeaderRowSeparator = builder.showDaysHeaderRowSeparator;
+        this.showColSeparator = builder.showColSeparator;
+        this.showRowSeparator = builder.showRowSeparator;
+        this.showPastAndFutureMonthDates = builder.showPastAndFutureMonthDates;
+        this.showDaySubValue = builder.showDaySubValue;
+        this.eventIndicatorStyle = builder.eventIndicatorStyle;
+    }
+
+    // MARK: DCStyle Methods
+
+    /**
+     * Gets a builder initialized with this style, to derive a modified style
+     *
+     * @return The style builder
+     */
+    public Builder buildUpon()
+    {
+        return new Builder(this);
+    }
+
+    /**
+     * Gets the changes from the previous style
+     *
+     * @param previous The previous style
+     *
+     * @return The changes (DCView.CHANGE_LAYOUT - sizes & visibility, DCView.CHANGE_DRAW - colors & states, 0 - no changes)
+     */
+    int getChanges(DCStyle previous)
+    {
+        if(previous == this)
+        {
+            return 0;
+        }
+
+        if(Float.compare(daysHeaderTextSize, previous.daysHeaderTextSize) != 0 ||
+                Float.compare(daysTextSize, previous.daysTextSize) != 0 ||
+                Float.compare(daysSubTextSize, previous.daysSubTextSize) != 0 ||
+                daysHeaderTextStyle != previous.daysHeaderTextStyle ||
+                daysTextStyle != previous.daysTextStyle ||
+                daysSubTextStyle != previous.daysSubTextStyle ||
+                showDaysHeaderColSeparator != previous.showDaysHeaderColSeparator ||
+                showColSeparator != previous.showColSeparator ||
+                showDaySubValue != previous.showDaySubValue)
+        {
+            return DCView.CHANGE_LAYOUT;
+        }
+
+        if(daysHeaderStyle != previous.daysHeaderStyle ||
+                daysHeadersLayoutBGColor != previous.daysHeadersLayoutBGColor ||
+                daysHeadersTextColor != previous.daysHeadersTextColor ||
+                daysLayoutBGColor != previous.daysLayoutBGColor ||
+                daysTextColor != previous.daysTextColor ||
+                daysSubTextColor != previous.daysSubTextColor ||
+                clickableDaysBGColor != previous.clickableDaysBGColor ||
+                clickableDaysTextColor != previous.clickableDaysTextColor ||
+                clickedDayBGColor != previous.clickedDayBGColor ||
+                clickedDayTextColor != previous.clickedDayTextColor ||
+                clickedDaySubTextColor != previous.clickedDaySubTextColor ||
+                colSeparatorColor != previous.colSeparatorColor ||
+                rowSeparatorColor != previous.rowSeparatorColor ||
+                showDaysHeaderRowSeparator != previous.showDaysHeaderRowSeparator ||
+                showRowSeparator != previous.showRowSeparator ||
+                showPastAndFutureMonthDates != previous.showPastAndFutureMonthDates ||
+                eventIndicatorStyle != previous.eventIndicatorStyle)
+        {
+            return DCView.CHANGE_DRAW;
+        }
+
+        return 0;
+    }
+
+    // MARK: Builder Class
+
+    public static final class Builder
+    {
+        private float daysHeaderTextSize = 18f;
+
+        private float daysTextSize = 18f;
+
+        private float daysSubTextSize = 15f;
+
+        private int daysHeaderStyle = DCLocaleTable.WEEKDAY_SHORT;
+
+        private int daysHeaderTextStyle = Typeface.NORMAL;
+
+        private int daysTextStyle = Typeface.NORMAL;
+
+        private int daysSubTextStyle = Typeface.NORMAL;
+
+        private int daysHeadersLayoutBGColor = Color.parseColor("#F5F5F5");
+
+        private int daysHeadersTextColor = Color.parseColor("#999898");
+
+        private int daysLayoutBGColor = Color.WHITE;
+
+        private int daysTextColor = Color.parseColor("#999898");
+
+        private int daysSubTextColor = Color.parseColor("#999898");
+
+        private int clickableDaysBGColor = Color.WHITE;
+
+        private int clickableDaysTextColor = Color.parseColor("#999898");
+
+        private int clickedDayBGColor = Color.parseColor("#00ADEF");
+
+        private int clickedDayTextColor = Color.WHITE;
+
+        private int clickedDaySubTextColor = Color.WHITE;
+
+        private int colSeparatorColor = Color.parseColor("#F5F5F5");
+
+        private int rowSeparatorColor = Color.parseColor("#F5F5F5");
+
+        private boolean showDaysHeaderColSeparator = false;
+
+        private boolean showDaysHeaderRowSeparator = false;
+
+        private boolean showColSeparator = false;
+
+        private boolean showRowSeparator = true;
+
+        private boolean showPastAndFutureMonthDates = false;
+
+        private boolean showDaySubValue = false;
+
+        private int eventIndicatorStyle = DCEventLayout.INDICATOR_DOTS;
+
+        /**
+         * Droid Calendar Style Builder Constructor (default style)
+         */
+        public Builder()
+        {
+        }
+
+        /**
+         * Droid Calendar Style Builder Constructor
+         *
+         * @param style The style to start from
+         */
+        public Builder(DCStyle style)
+        {
+            this.daysHeaderTextSize = style.daysHeaderTextSize;
+            this.daysTextSize = style.daysTextSize;
+            this.daysSubTextSize = style.daysSubTextSize;
+            this.daysHeaderStyle = style.daysHeaderStyle;
+            this.daysHeaderTextStyle = style.daysHeaderTextStyle;
+            this.daysTextStyle = style.daysTextStyle;
+            this.daysSubTextStyle = style.daysSubTextStyle;
+            this.daysHeadersLayoutBGColor = style.daysHeadersLayoutBGColor;
+            this.daysHeadersTextColor = style.daysHeadersTextColor;
+            this.daysLayoutBGColor = style.daysLayoutBGColor;
+            this.daysTextColor = style.daysTextColor;
+            this.daysSubTextColor = style.daysSubTextColor;
+            this.clickableDaysBGColor = style.clickableDaysBGColor;
+            this.clickableDaysTextColor = style.clickableDaysTextColor;
+            this.clickedDayBGColor = style.clickedDayBGColor;
+            this.clickedDayTextColor = style.clickedDayTextColor;
+            this.clickedDaySubTextColor = style.clickedDaySubTextColor;
+            this.colSeparatorColor = style.colSeparatorColor;
+            this.rowSeparatorColor = style.rowSeparatorColor;
+            this.showDaysHeaderColSeparator = style.showDaysHeaderColSeparator;
+            this.showDaysHeaderRowSeparator = style.showDaysHeaderRowSeparator;
+            this.showColSeparator = style.showColSeparator;
+            this.showRowSeparator = style.showRowSeparator;
+            this.showPastAndFutureMonthDates = style.showPastAndFutureMonthDates;
+            this.showDaySubValue = style.showDaySubValue;
+            this.eventIndicatorStyle = style.eventIndicatorStyle;
+        }
+
+        /**
+         * Sets the days headers text size
+         *
+         * NOTE: Max size allowed "22f"
+         *
+         * @param size The desired size
+         *
+         * @return The builder
+         */
+        public Builder setDaysHeaderTextSize(float size)
+        {
+            this.daysHeaderTextSize = Math.min(size, MAX_DAYS_TEXT_SIZE);
+
+            return this;
+        }
+
+        /**
+         * Sets the days text size
+         *
+         * NOTE: Max size allowed "22f"
+         *
+         * @param size The desired size
+         *
+         * @return The builder
+         */
+        public Builder setDaysTextSize(float size)
+        {
+            this.daysTextSize = Math.min(size, MAX_DAYS_TEXT_SIZE);
+
+            return this;
+        }
+
+        /**
+         * Sets the days sub text size
+         *
+         * NOTE: Max size allowed "14f"
+         *
+         * @param size The desired size
+         *
+         * @return The builder
+         */
+        public Builder setDaysSubTextSize(float size)
+        {
+            this.daysSubTextSize = Math.min(size, MAX_DAYS_SUB_TEXT_SIZE);
+
+            return this;
+        }
+
+        /**
+         * Sets the days header style (DCView.DAYS_HEADER_SHORT, DAYS_HEADER_NARROW, DAYS_HEADER_FULL)
+         *
+         * @param style The desired style
+         *
+         * @return The builder
+         */
+        public Builder setDaysHeaderStyle(int style)
+        {
+            this.daysHeaderStyle = style;
+
+            return this;
+        }
+
+        /**
+         * Sets the days header text style (NORMAL, BOLD, ITALIC, BOLD ITALIC)
+         *
+         * @param style The desired style
+         *
+         * @return The builder
+         */
+        public Builder setDaysHeaderTextStyle(int style)
+        {
+            this.daysHeaderTextStyle = style;
+
+            return this;
+        }
+
+        /**
+         * Sets the days text style (NORMAL, BOLD, ITALIC, BOLD ITALIC)
+         *
+         * @param style The desired style
+         *
+         * @return The builder
+         */
+        public Builder setDaysTextStyle(int style)
+        {
+            this.daysTextStyle = style;
+
+            return this;
+        }
+
+        /**
+         * Sets the days sub text style (NORMAL, BOLD, ITALIC, BOLD ITALIC)
+         *
+         * @param style The desired style
+         *
+         * @return The builder
+         */
+        public Builder setDaysSubTextStyle(int style)
+        {
+            this.daysSubTextStyle = style;
+
+            return this;
+        }
+
+        /**
+         * Sets the days headers layout bg color
+         *
+         * @param color The desired color
+         *
+         * @return The builder
+         */
+        public Builder setDaysHeadersLayoutBGColor(int color)
+        {
+            this.daysHeadersLayoutBGColor = color;
+
+            return this;
+        }
+
+        /**
+         * Sets the days headers text color
+         *
+         * @param color The desired color
+         *
+         * @return The builder
+         */
+        public Builder setDaysHeadersTextColor(int color)
+        {
+            this.daysHeadersTextColor = color;
+
+            return this;
+        }
+
+        /**
+         * Sets the days layout bg color
+         *
+         * @param color The desired color
+         *
+         * @return The builder
+         */
+        public Builder setDaysLayoutBGColor(int color)
+        {
+            this.daysLayoutBGColor = color;
+
+            return this;
+        }
+
+        /**
+         * Sets the days text color
+         *
+         * @param color The desired color
+         *
+         * @return The builder
+         */
+        public Builder setDaysTextColor(int color)
+        {
+            this.daysTextColor = color;
+
+            return this;
+        }
+
+        /**
+         * Sets the days sub text color
+         *
+         * @param color The desired color
+         *
+         * @return The builder
+         */
+        public Builder setDaysSubTextColor(int color)
+        {
+            this.daysSubTextColor = color;
+
+            return this;
+        }
+
+        /**
+         * Sets the clickable days bg color
+         *
+         * @param color The desired color
+         *
+         * @return The builder
+         */
+        public Builder setClickableDaysBGColor(int color)
+        {
+            this.clickableDaysBGColor = color;
+
+            return this;
+        }
+
+        /**
+         * Sets the clickable days text color
+         *
+         * @param color The desired color
+         *
+         * @return The builder
+         */
+        public Builder setClickableDaysTextColor(int color)
+        {
+            this.clickableDaysTextColor = color;
+
+            return this;
+        }
+
+        /**
+         * Sets the clicked day bg color
+         *
+         * @param color The desired color
+         *
+         * @return The builder
+         */
+        public Builder setClickedDayBGColor(int color)
+        {
+            this.clickedDayBGColor = color;
+
+            return this;
+        }
+
+        /**
+         * Sets the clicked day text color
+         *
+         * @param color The desired color
+         *
+         * @return The builder
+         */
+        public Builder setClickedDayTextColor(int color)
+        {
+            this.clickedDayTextColor = color;
+
+            return this;
+        }
+
+        /**
+         * Sets the clicked day sub text color
+         *
+         * @param color The desired color
+         *
+         * @return The builder
+         */
+        public Builder setClickedDaySubTextColor(int color)
+        {
+            this.clickedDaySubTextColor = color;
+
+            return this;
+        }
+
+        /**
+         * Sets the column separator color
+         *
+         * @param color The desired color
+         *
+         * @return The builder
+         */
+        public Builder setColSeparatorColor(int color)
+        {
+            this.colSeparatorColor = color;
+
+            return this;
+        }
+
+        /**
+         * Sets the row separator color
+         *
+         * @param color The desired color
+         *
+         * @return The builder
+         */
+        public Builder setRowSeparatorColor(int color)
+        {
+            this.rowSeparatorColor = color;
+
+            return this;
+        }
+
+        /**
+         * Sets the show column separator status for days headers
+         *
+         * @param show True - show days header column separator, False - if otherwise
+         *
+         * @return The builder
+         */
+        public Builder setShowDaysHeaderColSeparator(boolean show)
+        {
+            this.showDaysHeaderColSeparator = show;
+
+            return this;
+        }
+
+        /**
+         * Sets the show row separator status for days headers
+         *
+         * @param show True - show days header row separator, False - if otherwise
+         *
+         * @return The builder
+         */
+        public Builder setShowDaysHeaderRowSeparator(boolean show)
+        {
+            this.showDaysHeaderRowSeparator = show;
+
+            return this;
+        }
+
+        /**
+         * Sets the show column separator status
+         *
+         * @param show True - show column separator, False - if otherwise
+         *
+         * @return The builder
+         */
+        public Builder setShowColSeparator(boolean show)
+        {
+            this.showColSeparator = show;
+
+            return this;
+        }
+
+        /**
+         * Sets the show row separator status
+         *
+         * @param show True - show row separator, False - if otherwise
+         *
+         * @return The builder
+         */
+        public Builder setShowRowSeparator(boolean show)
+        {
+            this.showRowSeparator = show;
+
+            return this;
+        }
+
+        /**
+         * Sets the show past and future month dates status
+         *
+         * @param show True - shows past and future months dates if applicable, False if otherwise
+         *
+         * @return The builder
+         */
+        public Builder setShowPastAndFutureMonthDates(boolean show)
+        {
+            this.showPastAndFutureMonthDates = show;
+
+            return this;
+        }
+
+        /**
+         * Sets the show day sub value status
+         *
+         * @param show True - show day sub value, False - if otherwise
+         *
+         * @return The builder
+         */
+        public Builder setShowDaySubValue(boolean show)
+        {
+            this.showDaySubValue = show;
+
+            return this;
+        }
+
+        /**
+         * Sets the event indicator style (DCView.EVENT_INDICATOR_DOTS, EVENT_INDICATOR_BARS)
+         *
+         * @param style The desired style
+         *
+         * @return The builder
+         */
+        public Builder setEventIndicatorStyle(int style)
+        {
+            this.eventIndicatorStyle = style;
+
+            return this;
+        }
+
+        /**
+         * Builds the immutable style
+         *
+         * @return The style
+         */
+        public DCStyle build()
+        {
+            return new DCStyle(this);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.vikramezhil.droidcalendarview;
+
+/**
+ * Droid Calendar Style Override
+ *
+ * A style property set on a single Droid Calendar view, applied on top of the theme style the view follows
+ *
+ * @author Vikram Ezhil
+ */
+
+interface DCStyleOverride
+{
+    /**
+     * Applies the overridden style property
+     *
+     * @param builder The style builder
+     */
+    void apply(DCStyle.Builder builder);
+}
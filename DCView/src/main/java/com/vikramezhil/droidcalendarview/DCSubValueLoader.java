@@ -0,0 +1,242 @@
+package com.vikramezhil.droidcalendarview;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Droid Calendar Sub Value Loader
+ *
+ * Loads the dates sub values of the on screen month (and the months around it) from the sub value provider on
+ * background threads, each month is loaded once and its result is sent back to the UI thread as a single update
+ *
+ * NOTE: The loads only read a month grid snapshot taken on the UI thread, the loaded date keys are parsed to epoch days
+ * on the loader threads
+ *
+ * @author Vikram Ezhil
+ */
+
+class DCSubValueLoader
+{
+    private static final int LOADER_THREADS = 2;
+
+    private static final ExecutorService executor = Executors.newFixedThreadPool(LOADER_THREADS, new ThreadFactory()
+    {
+        public Thread newThread(Runnable runnable)
+        {
+            Thread thread = new Thread(runnable, "DCSubValueLoader");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+
+            return thread;
+        }
+    });
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Map<Integer, Future<?>> pendingMonths = new HashMap<>();
+    private final Set<Integer> loadedMonths = new HashSet<>();
+    private final OnDCSubValuesListener onDCSubValuesListener;
+    private DCSubValueProvider dcSubValueProvider;
+    private DCMonthProvider dcMonthProvider;
+
+    /**
+     * Droid Calendar Sub Value Loader Constructor
+     *
+     * @param onDCSubValuesListener The class instance to initialize the listener
+     */
+    DCSubValueLoader(OnDCSubValuesListener onDCSubValuesListener)
+    {
+        this.onDCSubValuesListener = onDCSubValuesListener;
+    }
+
+    // MARK: DCSubValueLoader Methods
+
+    /**
+     * Sets the sub value provider, the months are loaded again from the new provider
+     *
+     * @param dcSubValueProvider The sub value provider, null stops loading
+     */
+    void setSubValueProvider(DCSubValueProvider dcSubValueProvider)
+    {
+        this.dcSubValueProvider = dcSubValueProvider;
+
+        reset();
+    }
+
+    /**
+     * Sets the month provider to load the months of, the months are loaded again for the new provider
+     *
+     * @param dcMonthProvider The month provider
+     */
+    void setMonthProvider(DCMonthProvider dcMonthProvider)
+    {
+        this.dcMonthProvider = dcMonthProvider;
+
+        reset();
+    }
+
+    /**
+     * Loads the on screen month first and then the months around it, loads which fell out of range are cancelled
+     *
+     * @param position The on screen month position
+     *
+     * @param range The number of months to be loaded on each side of the on screen month
+     */
+    void load(int position, int range)
+    {
+        // Cancelling the loads of the months which scrolled away (interrupting the provider)
+        Iterator<Map.Entry<Integer, Future<?>>> iterator = pendingMonths.entrySet().iterator();
+        while(iterator.hasNext())
+        {
+            Map.Entry<Integer, Future<?>> pendingMonth = iterator.next();
+            if(Math.abs(pendingMonth.getKey() - position) > range)
+            {
+                pendingMonth.getValue().cancel(true);
+                iterator.remove();
+            }
+        }
+
+        if(dcSubValueProvider == null || dcMonthProvider == null)
+        {
+            return;
+        }
+
+        loadMonth(position);
+
+        for(int offset=1;offset<=range;offset++)
+        {
+            loadMonth(position + offset);
+            loadMonth(position - offset);
+        }
+    }
+
+    /**
+     * Loads all the months again on the next load (e.g. the provider data changed)
+     */
+    void reset()
+    {
+        cancel();
+
+        loadedMonths.clear();
+    }
+
+    /**
+     * Cancels all the pending loads (results of the cancelled loads are dropped), the cancelled months are loaded again on the next load
+     */
+    void cancel()
+    {
+        for(Future<?> pendingMonth: pendingMonths.values())
+        {
+            pendingMonth.cancel(true);
+        }
+
+        pendingMonths.clear();
+    }
+
+    /**
+     * Loads the month sub values on a background thread if the month is not loaded or pending
+     *
+     * @param position The month position
+     */
+    private void loadMonth(final int position)
+    {
+        if(position < 0 || position >= dcMonthProvider.getCount() || pendingMonths.containsKey(position) || loadedMonths.contains(position))
+        {
+            return;
+        }
+
+        // Month snapshot taken on the UI thread, the loads don't touch the month provider window
+        final DCSubValueProvider subValueProvider = dcSubValueProvider;
+        final DCMonthGrid dcMonthGrid = dcMonthProvider.getMonthGrid(position);
+        final Locale locale = dcMonthProvider.getLocale();
+        final FutureTask<?>[] load = new FutureTask<?>[1];
+
+        load[0] = new FutureTask<>(new Runnable()
+        {
+            public void run()
+            {
+                Map<String, String> datesSubValues = null;
+
+                try
+                {
+                    List<String> dates = new ArrayList<>(dcMonthGrid.cellCount);
+                    for(int cell=0;cell<dcMonthGrid.cellCount;cell++)
+                    {
+                        dates.add(DCUtil.getDateInFormat(dcMonthGrid.firstCellEpochDay + cell, DCFormats.DC_DMY_FORMAT, locale));
+                    }
+
+                    datesSubValues = subValueProvider.getDCSubValues(position, dates);
+                }
+                catch (Exception e)
+                {
+                    e.printStackTrace();
+                }
+
+                if(Thread.currentThread().isInterrupted())
+                {
+                    return;
+                }
+
+                // Parsing the date keys here, so the UI thread only stores the sub values by epoch day
+                final int[] epochDays = datesSubValues != null ? new int[datesSubValues.size()] : null;
+                final String[] subValues = datesSubValues != null ? new String[datesSubValues.size()] : null;
+                int count = 0;
+
+                if(datesSubValues != null)
+                {
+                    for(Map.Entry<String, String> dateSubValue: datesSubValues.entrySet())
+                    {
+                        try
+                        {
+                            epochDays[count] = DCUtil.getEpochDay(dateSubValue.getKey(), DCFormats.DC_DMY_FORMAT, locale);
+                            subValues[count] = dateSubValue.getValue();
+                            count++;
+                        }
+                        catch (Exception e)
+                        {
+                            e.printStackTrace();
+                        }
+                    }
+                }
+
+                final int loadedCount = count;
+                handler.post(new Runnable()
+                {
+                    public void run()
+                    {
+                        // Dropping the results of the loads which were replaced (or) reset
+                        if(pendingMonths.get(position) != load[0])
+                        {
+                            return;
+                        }
+
+                        pendingMonths.remove(position);
+                        loadedMonths.add(position);
+
+                        if(epochDays != null)
+                        {
+                            onDCSubValuesListener.onSubValuesLoaded(position, dcMonthGrid, epochDays, subValues, loadedCount);
+                        }
+                    }
+                });
+            }
+        }, null);
+
+        pendingMonths.put(position, load[0]);
+
+        executor.execute(load[0]);
+    }
+}
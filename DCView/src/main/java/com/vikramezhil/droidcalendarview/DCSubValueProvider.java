@@ -0,0 +1,30 @@
+package com.vikramezhil.droidcalendarview;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Droid Calendar Sub Value Provider
+ *
+ * Source of the dates sub values of a month (e.g. a local cache of remote data), called on a background thread
+ * when the month is shown or prefetched
+ *
+ * @author Vikram Ezhil
+ */
+
+public interface DCSubValueProvider
+{
+    /**
+     * Gets the dates sub values of the month
+     *
+     * NOTE: Called on a background thread. The thread is interrupted when the month scrolls away, long running providers
+     * should check Thread.currentThread().isInterrupted() and return early
+     *
+     * @param calendarPosition The position of the calendar
+     *
+     * @param calendarDatesWithPastPresentFuture The month dates (past month values, present month values, future month values), NOTE: Date format is "d/M/YYYY"
+     *
+     * @return The dates & sub values map (replaces the month sub values), null if there are no changes
+     */
+    Map<String, String> getDCSubValues(int calendarPosition, List<String> calendarDatesWithPastPresentFuture);
+}
@@ -0,0 +1,197 @@
+package com.vikramezhil.droidcalendarview;
+
+/**
+ * Droid Calendar Sub Value Store
+ *
+ * Dates sub values of the whole month range indexed by epoch day, stored in fixed size pages of days which are only
+ * allocated when a date in the page has a sub value. A date shown by two months (leading or trailing dates) is stored once
+ *
+ * @author Vikram Ezhil
+ */
+
+class DCSubValueStore
+{
+    static final int PAGE_SHIFT = 5;
+    static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+
+    // Estimated heap bytes of a sub value slot (reference) and of a sub value string (object & chars array headers)
+    static final int SLOT_BYTES = 4;
+    static final int STRING_BYTES = 40;
+
+    final int startEpochDay;
+    final int endEpochDay;
+
+    private final String[][] pages;
+    private final int[] pageCounts;
+    private int version = 0;
+
+    /**
+     * Droid Calendar Sub Value Store Constructor
+     *
+     * @param startEpochDay The first epoch day of the store range
+     *
+     * @param endEpochDay The last epoch day of the store range (included)
+     */
+    DCSubValueStore(int startEpochDay, int endEpochDay)
+    {
+        this.startEpochDay = startEpochDay;
+        this.endEpochDay = Math.max(startEpochDay - 1, endEpochDay);
+
+        int pagesCount = ((this.endEpochDay - startEpochDay + 1) + PAGE_SIZE - 1) >> PAGE_SHIFT;
+
+        pages = new String[pagesCount][];
+        pageCounts = new int[pagesCount];
+    }
+
+    // MARK: DCSubValueStore Methods
+
+    /**
+     * Checks if the epoch day is in the store range
+     *
+     * @param epochDay The epoch day
+     *
+     * @return True - epoch day is in range, False - if otherwise
+     */
+    boolean inRange(int epochDay)
+    {
+        return epochDay >= startEpochDay && epochDay <= endEpochDay;
+    }
+
+    /**
+     * Gets the sub value of the date
+     *
+     * @param epochDay The date epoch day
+     *
+     * @return The sub value, null if not available
+     */
+    synchronized String get(int epochDay)
+    {
+        if(!inRange(epochDay))
+        {
+            return null;
+        }
+
+        int index = epochDay - startEpochDay;
+
+        String[] page = pages[index >> PAGE_SHIFT];
+
+        return page != null ? page[index & (PAGE_SIZE - 1)] : null;
+    }
+
+    /**
+     * Sets the sub value of the date
+     *
+     * @param epochDay The date epoch day
+     *
+     * @param subValue The sub value, null to remove it
+     *
+     * @return True - sub value changed, False - if otherwise (same value or out of range)
+     */
+    synchronized boolean set(int epochDay, String subValue)
+    {
+        if(!inRange(epochDay))
+        {
+            return false;
+        }
+
+        int index = epochDay - startEpochDay;
+        int pageIndex = index >> PAGE_SHIFT;
+
+        String[] page = pages[pageIndex];
+        if(page == null)
+        {
+            if(subValue == null)
+            {
+                return false;
+            }
+
+            page = new String[PAGE_SIZE];
+            pages[pageIndex] = page;
+        }
+
+        String previousSubValue = page[index & (PAGE_SIZE - 1)];
+        if(subValue == null ? previousSubValue == null : subValue.equals(previousSubValue))
+        {
+            return false;
+        }
+
+        page[index & (PAGE_SIZE - 1)] = subValue;
+        version++;
+
+        if(previousSubValue == null)
+        {
+            pageCounts[pageIndex]++;
+        }
+        else if(subValue == null && --pageCounts[pageIndex] == 0)
+        {
+            // Releasing the empty page
+            pages[pageIndex] = null;
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the store version, the version changes on every change of the sub values
+     *
+     * @return The store version
+     */
+    synchronized int getVersion()
+    {
+        return version;
+    }
+
+    /**
+     * Removes the sub values of the date range
+     *
+     * @param startEpochDay The range start epoch day
+     *
+     * @param endEpochDay The range end epoch day (included)
+     */
+    synchronized void clearRange(int startEpochDay, int endEpochDay)
+    {
+        int start = Math.max(startEpochDay, this.startEpochDay);
+        int end = Math.min(endEpochDay, this.endEpochDay);
+
+        for(int epochDay = start; epochDay <= end; epochDay++)
+        {
+            set(epochDay, null);
+        }
+    }
+
+    /**
+     * Gets the estimated heap bytes used by the sub values of the date range (allocated slots & sub value strings)
+     *
+     * @param startEpochDay The range start epoch day
+     *
+     * @param endEpochDay The range end epoch day (included)
+     *
+     * @return The estimated bytes
+     */
+    synchronized long getBytesUsed(int startEpochDay, int endEpochDay)
+    {
+        int start = Math.max(startEpochDay, this.startEpochDay);
+        int end = Math.min(endEpochDay, this.endEpochDay);
+
+        long bytes = 0;
+        for(int epochDay = start; epochDay <= end; epochDay++)
+        {
+            int index = epochDay - this.startEpochDay;
+
+            String[] page = pages[index >> PAGE_SHIFT];
+            if(page != null)
+            {
+                bytes += SLOT_BYTES;
+
+                String subValue = page[index & (PAGE_SIZE - 1)];
+                if(subValue != null)
+                {
+                    // Strings are 8 byte aligned
+                    bytes += (STRING_BYTES + 2L * subValue.length() + 7) & ~7L;
+                }
+            }
+        }
+
+        return bytes;
+    }
+}
@@ -0,0 +1,98 @@
+package com.vikramezhil.droidcalendarview;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Droid Calendar Theme
+ *
+ * Shared holder of a Droid Calendar style, changing the theme style restyles every Droid Calendar view using the theme
+ *
+ * NOTE: The theme should be used from the UI thread
+ *
+ * @author Vikram Ezhil
+ */
+
+public class DCTheme
+{
+    private DCStyle style;
+    private final List<WeakReference<DCView>> dcViews = new ArrayList<>();
+
+    /**
+     * Droid Calendar Theme Constructor
+     *
+     * @param style The theme style
+     */
+    public DCTheme(DCStyle style)
+    {
+        this.style = style != null ? style : DCStyle.DEFAULT;
+    }
+
+    // MARK: DCTheme Methods
+
+    /**
+     * Gets the theme style
+     *
+     * @return The theme style
+     */
+    public DCStyle getStyle()
+    {
+        return style;
+    }
+
+    /**
+     * Sets the theme style, the Droid Calendar views using the theme are updated in one pass
+     *
+     * @param style The desired style
+     */
+    public void setStyle(DCStyle style)
+    {
+        this.style = style != null ? style : DCStyle.DEFAULT;
+
+        Iterator<WeakReference<DCView>> iterator = dcViews.iterator();
+        while(iterator.hasNext())
+        {
+            DCView dcView = iterator.next().get();
+            if(dcView == null)
+            {
+                iterator.remove();
+            }
+            else
+            {
+                dcView.onDCThemeChanged(this);
+            }
+        }
+    }
+
+    /**
+     * Adds a Droid Calendar view using the theme
+     *
+     * @param dcView The droid calendar view
+     */
+    void addView(DCView dcView)
+    {
+        removeView(dcView);
+
+        dcViews.add(new WeakReference<>(dcView));
+    }
+
+    /**
+     * Removes a Droid Calendar view from the theme
+     *
+     * @param dcView The droid calendar view
+     */
+    void removeView(DCView dcView)
+    {
+        Iterator<WeakReference<DCView>> iterator = dcViews.iterator();
+        while(iterator.hasNext())
+        {
+            DCView themedView = iterator.next().get();
+            if(themedView == null || themedView == dcView)
+            {
+                iterator.remove();
+            }
+        }
+    }
+}
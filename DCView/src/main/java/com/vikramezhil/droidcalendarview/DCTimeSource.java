@@ -0,0 +1,28 @@
+package com.vikramezhil.droidcalendarview;
+
+import java.util.TimeZone;
+
+/**
+ * Droid Calendar Time Source
+ *
+ * Source of the current time & time zone used by Droid Calendar to find today's date (e.g. a fixed time for tests)
+ *
+ * @author Vikram Ezhil
+ */
+
+public interface DCTimeSource
+{
+    /**
+     * Gets the current time
+     *
+     * @return The current time in milliseconds since 1/1/1970 UTC
+     */
+    long getCurrentTimeMillis();
+
+    /**
+     * Gets the current time zone
+     *
+     * @return The time zone of today's date
+     */
+    TimeZone getTimeZone();
+}
@@ -1,13 +1,13 @@
 package com.vikramezhil.droidcalendarview;
 
-import android.content.Context;
-import android.graphics.Typeface;
-
 import org.joda.time.DateTime;
+import org.joda.time.LocalDate;
 import org.joda.time.format.DateTimeFormat;
 import org.joda.time.format.DateTimeFormatter;
 
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
 
 /**
  * Droid Calendar Utility
@@ -17,16 +17,117 @@ import java.util.Locale;
 
 class DCUtil
 {
+    static final int NO_DATE = Integer.MIN_VALUE;
+
+    private static final int FORMATTER_CACHE_SIZE = 32;
+
+    private static final Map<FormatterKey, DateTimeFormatter> formatterCache = new LinkedHashMap<FormatterKey, DateTimeFormatter>(FORMATTER_CACHE_SIZE, 0.75f, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<FormatterKey, DateTimeFormatter> eldest)
+        {
+            return size() > FORMATTER_CACHE_SIZE;
+        }
+    };
+
+    private static long formatterCacheHits = 0;
+
+    private static long formatterCacheMisses = 0;
+
+    // MARK: Formatter Cache Key Class
+
+    private static final class FormatterKey
+    {
+        final String pattern;
+        final Locale locale;
+
+        FormatterKey(String pattern, Locale locale)
+        {
+            this.pattern = pattern;
+            this.locale = locale;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if(!(o instanceof FormatterKey))
+            {
+                return false;
+            }
+
+            FormatterKey key = (FormatterKey) o;
+
+            return pattern.equals(key.pattern) && (locale == null ? key.locale == null : locale.equals(key.locale));
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 31 * pattern.hashCode() + (locale != null ? locale.hashCode() : 0);
+        }
+    }
+
+    /**
+     * Gets the date time formatter from the formatter cache (least recently used formatters are evicted)
+     *
+     * @param pattern The date format pattern
+     *
+     * @param locale The date locale
+     *
+     * @return The date time formatter
+     */
+    static DateTimeFormatter getFormatter(String pattern, Locale locale)
+    {
+        FormatterKey key = new FormatterKey(pattern, locale);
+
+        synchronized (formatterCache)
+        {
+            DateTimeFormatter dateFormatter = formatterCache.get(key);
+            if(dateFormatter != null)
+            {
+                formatterCacheHits++;
+
+                return dateFormatter;
+            }
+
+            formatterCacheMisses++;
+        }
+
+        // Formatters are immutable, building one outside the lock is safe
+        DateTimeFormatter dateFormatter = DateTimeFormat.forPattern(pattern).withLocale(locale);
+
+        synchronized (formatterCache)
+        {
+            formatterCache.put(key, dateFormatter);
+        }
+
+        return dateFormatter;
+    }
+
     /**
-     * Gets the font awesome typeface
+     * Gets the formatter cache hits count
      *
-     * @param context The application context
+     * @return The formatter cache hits count
+     */
+    static long getFormatterCacheHits()
+    {
+        synchronized (formatterCache)
+        {
+            return formatterCacheHits;
+        }
+    }
+
+    /**
+     * Gets the formatter cache misses count
      *
-     * @return The font awesome typeface
+     * @return The formatter cache misses count
      */
-    static Typeface getFATypeface(Context context)
+    static long getFormatterCacheMisses()
     {
-        return Typeface.createFromAsset(context.getAssets(), "fontawesome-webfont.ttf");
+        synchronized (formatterCache)
+        {
+            return formatterCacheMisses;
+        }
     }
 
     /**
@@ -40,10 +141,7 @@ class DCUtil
      */
     static String getCurrentDate(String format, Locale locale)
     {
-        DateTime date = DateTime.now();
-        DateTimeFormatter dateFormatter = DateTimeFormat.forPattern(format).withLocale(locale);
-
-        return date.toString(dateFormatter);
+        return getDateInFormat(getCurrentEpochDay(), format, locale);
     }
 
     /**
@@ -63,9 +161,9 @@ class DCUtil
      */
     static String getDateInFormat(String date, String passedDateFormat, String requiredDateFormat, Locale passedLocale, Locale requiredLocale)
     {
-        DateTimeFormatter dateFormatter = DateTimeFormat.forPattern(passedDateFormat).withLocale(passedLocale);
+        DateTimeFormatter dateFormatter = getFormatter(passedDateFormat, passedLocale);
         DateTime passedDate = dateFormatter.parseDateTime(date);
-        dateFormatter = DateTimeFormat.forPattern(requiredDateFormat).withLocale(requiredLocale);
+        dateFormatter = getFormatter(requiredDateFormat, requiredLocale);
 
         return dateFormatter.print(passedDate);
     }
@@ -83,7 +181,7 @@ class DCUtil
      */
     static String getPreviousDate(String date, String passedDateFormat, Locale passedLocale)
     {
-        DateTimeFormatter dateFormatter = DateTimeFormat.forPattern(passedDateFormat).withLocale(passedLocale);
+        DateTimeFormatter dateFormatter = getFormatter(passedDateFormat, passedLocale);
         DateTime passedDate = dateFormatter.parseDateTime(date);
 
         return dateFormatter.print(passedDate.minusDays(1));
@@ -102,7 +200,7 @@ class DCUtil
      */
     static String getNextDate(String date, String passedDateFormat, Locale passedLocale)
     {
-        DateTimeFormatter dateFormatter = DateTimeFormat.forPattern(passedDateFormat).withLocale(passedLocale);
+        DateTimeFormatter dateFormatter = getFormatter(passedDateFormat, passedLocale);
         DateTime passedDate = dateFormatter.parseDateTime(date);
 
         return dateFormatter.print(passedDate.plusDays(1));
@@ -121,10 +219,163 @@ class DCUtil
      */
     static boolean checkIfDateIsCurrentOrFuture(String date, String passedDateFormat, Locale locale)
     {
-        DateTimeFormatter dateFormatter = DateTimeFormat.forPattern(passedDateFormat).withLocale(locale);
-        DateTime currentDate = dateFormatter.parseDateTime(getCurrentDate(passedDateFormat, locale));
-        DateTime dateToCheck = dateFormatter.parseDateTime(date);
+        return checkIfDateIsCurrentOrFuture(getEpochDay(date, passedDateFormat, locale));
+    }
+
+    /**
+     * Checks if the epoch day is future/current date or passed date
+     *
+     * @param epochDay The epoch day to be checked
+     *
+     * @return True - date is future or current, False - if otherwise
+     */
+    static boolean checkIfDateIsCurrentOrFuture(int epochDay)
+    {
+        return epochDay >= getCurrentEpochDay();
+    }
+
+    /**
+     * Gets the current epoch day
+     *
+     * @return The current epoch day
+     */
+    static int getCurrentEpochDay()
+    {
+        return DCClock.getTodayEpochDay();
+    }
+
+    /**
+     * Gets the epoch day (days since 1/1/1970) of the passed date
+     *
+     * @param date The date to be converted
+     *
+     * @param passedDateFormat The passed date format
+     *
+     * @param passedLocale The passed date locale
+     *
+     * @return The epoch day
+     */
+    static int getEpochDay(String date, String passedDateFormat, Locale passedLocale)
+    {
+        LocalDate passedDate = getFormatter(passedDateFormat, passedLocale).parseLocalDate(date);
+
+        return getEpochDay(passedDate.getYear(), passedDate.getMonthOfYear(), passedDate.getDayOfMonth());
+    }
+
+    /**
+     * Gets the epoch day (days since 1/1/1970) of the passed date
+     *
+     * @param year The year
+     *
+     * @param month The month of year (1 - 12)
+     *
+     * @param dayOfMonth The day of month (1 - 31)
+     *
+     * @return The epoch day
+     */
+    static int getEpochDay(int year, int month, int dayOfMonth)
+    {
+        int y = month <= 2 ? year - 1 : year;
+        int era = (y >= 0 ? y : y - 399) / 400;
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + dayOfMonth - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    /**
+     * Gets the year of the epoch day
+     *
+     * @param epochDay The epoch day
+     *
+     * @return The year
+     */
+    static int getYear(int epochDay)
+    {
+        int z = epochDay + 719468;
+        int era = (z >= 0 ? z : z - 146096) / 146097;
+        int dayOfEra = z - era * 146097;
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int mp = (5 * dayOfYear + 2) / 153;
+
+        return yearOfEra + era * 400 + (mp < 10 ? 0 : 1);
+    }
+
+    /**
+     * Gets the month of year (1 - 12) of the epoch day
+     *
+     * @param epochDay The epoch day
+     *
+     * @return The month of year
+     */
+    static int getMonthOfYear(int epochDay)
+    {
+        int mp = (5 * getDayOfMarchYear(epochDay) + 2) / 153;
+
+        return mp < 10 ? mp + 3 : mp - 9;
+    }
+
+    /**
+     * Gets the day of month (1 - 31) of the epoch day
+     *
+     * @param epochDay The epoch day
+     *
+     * @return The day of month
+     */
+    static int getDayOfMonth(int epochDay)
+    {
+        int dayOfYear = getDayOfMarchYear(epochDay);
+        int mp = (5 * dayOfYear + 2) / 153;
+
+        return dayOfYear - (153 * mp + 2) / 5 + 1;
+    }
+
+    /**
+     * Gets the ISO day of week (1 - Monday, 7 - Sunday) of the epoch day
+     *
+     * @param epochDay The epoch day
+     *
+     * @return The day of week
+     */
+    static int getDayOfWeek(int epochDay)
+    {
+        return ((epochDay + 3) % 7 + 7) % 7 + 1;
+    }
+
+    /**
+     * Gets the epoch day in desired format
+     *
+     * @param epochDay The epoch day to be formatted
+     *
+     * @param requiredDateFormat The required date format
+     *
+     * @param requiredLocale The required date locale
+     *
+     * @return The formatted date
+     */
+    static String getDateInFormat(int epochDay, String requiredDateFormat, Locale requiredLocale)
+    {
+        LocalDate date = new LocalDate(getYear(epochDay), getMonthOfYear(epochDay), getDayOfMonth(epochDay));
+
+        return getFormatter(requiredDateFormat, requiredLocale).print(date);
+    }
+
+    /**
+     * Gets the day of the year starting from 1st March (0 - 365) of the epoch day
+     *
+     * @param epochDay The epoch day
+     *
+     * @return The day of the March based year
+     */
+    private static int getDayOfMarchYear(int epochDay)
+    {
+        int z = epochDay + 719468;
+        int era = (z >= 0 ? z : z - 146096) / 146097;
+        int dayOfEra = z - era * 146097;
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
 
-        return dateToCheck.isAfter(currentDate) || dateToCheck.equals(currentDate);
+        return dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
     }
 }
@@ -1,6 +1,12 @@
 package com.vikramezhil.droidcalendarview;
 
+import android.content.BroadcastReceiver;
 import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.support.v7.widget.GridLayoutManager;
+import android.support.v7.widget.RecyclerView;
+import android.support.v7.widget.SimpleItemAnimator;
 import android.util.AttributeSet;
 import android.view.GestureDetector;
 import android.view.MotionEvent;
@@ -11,11 +17,13 @@ import android.widget.TextView;
 
 import org.apache.commons.lang3.text.WordUtils;
 import org.joda.time.DateTime;
-import org.joda.time.format.DateTimeFormat;
 import org.joda.time.format.DateTimeFormatter;
 
-import java.util.ArrayList;
+import java.io.File;
+import java.io.InputStream;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -28,16 +36,93 @@ import java.util.Map;
 
 public class DCView extends LinearLayout implements OnDCDatesListener
 {
+    public static final int RENDER_MODE_GRID = 0;
+    public static final int RENDER_MODE_CANVAS = 1;
+    public static final int RENDER_MODE_RECYCLER = 2;
+    public static final int DAYS_HEADER_SHORT = DCLocaleTable.WEEKDAY_SHORT;
+    public static final int DAYS_HEADER_NARROW = DCLocaleTable.WEEKDAY_NARROW;
+    public static final int DAYS_HEADER_FULL = DCLocaleTable.WEEKDAY_FULL;
+    public static final int EVENT_INDICATOR_DOTS = DCEventLayout.INDICATOR_DOTS;
+    public static final int EVENT_INDICATOR_BARS = DCEventLayout.INDICATOR_BARS;
+    public static final String PREWARM_PHASE_TIME_ZONE = DCPrewarm.PHASE_TIME_ZONE;
+    public static final String PREWARM_PHASE_FORMATTERS = DCPrewarm.PHASE_FORMATTERS;
+    public static final String PREWARM_PHASE_LOCALE_TABLES = DCPrewarm.PHASE_LOCALE_TABLES;
+    public static final String PREWARM_PHASE_TYPEFACE = DCPrewarm.PHASE_TYPEFACE;
+    public static final String PREWARM_PHASE_CELL_VIEWS = DCPrewarm.PHASE_CELL_VIEWS;
+
+    static final int CHANGE_DRAW = 1;
+    static final int CHANGE_LAYOUT = 2;
+    static final int CHANGE_DATA = 4;
+
     private LinearLayout dcHeaderLayout;
     private TextView previous;
     private TextView dcHeader;
     private TextView next;
     private DCGridView dcGV;
     private DCGridViewAdapter dcGridViewAdapter;
-    private List<DCData> dcDataList = new ArrayList<>();
+    private DCMonthView dcMonthView;
+    private RecyclerView dcRV;
+    private DCRecyclerViewAdapter dcRecyclerViewAdapter;
+    private int renderMode = RENDER_MODE_GRID;
+    private DCMonthProvider dcMonthProvider = new DCMonthProvider();
+    private DCMonthPrefetcher dcMonthPrefetcher = new DCMonthPrefetcher();
+    private final OnDCSubValuesListener onDCSubValuesListener = new OnDCSubValuesListener()
+    {
+        public void onSubValuesLoaded(int calendarPosition, DCMonthGrid dcMonthGrid, int[] epochDays, String[] subValues, int count)
+        {
+            if(calendarPosition >= 0 && calendarPosition < dcMonthProvider.getCount())
+            {
+                dcMonthProvider.setDatesSubValues(dcMonthGrid, epochDays, subValues, count);
+
+                // Updating the month dates in the Droid Calendar renderer with a single rebind
+                updateMonthSubValuesInRenderer(calendarPosition);
+            }
+        }
+    };
+    private final OnDCEventBatchListener onDCEventBatchListener = new OnDCEventBatchListener()
+    {
+        public void onEventsImported(int startEpochDay, int endEpochDay, int eventsImported, long bytesRead)
+        {
+            // Showing the imported batch if any of its dates is on screen
+            updateEventsInRenderer(startEpochDay, endEpochDay);
+        }
+    };
+    private DCSubValueLoader dcSubValueLoader = new DCSubValueLoader(onDCSubValuesListener);
+    private DCEventImportRunner dcEventImportRunner = new DCEventImportRunner(onDCEventBatchListener);
     private DCProperties dcProperties = new DCProperties();
     private OnDCListener onDCListener;
     private GestureDetector gestureDetector;
+    private DCTheme dcTheme;
+    private final Map<Class<?>, DCStyleOverride> dcStyleOverrides = new LinkedHashMap<>();
+    private int editDepth = 0;
+    private int pendingChanges = 0;
+    private int pendingMovePosition = -1;
+    private boolean defaultDCDataPending = false;
+    private final Runnable diskCacheLoaded = new Runnable()
+    {
+        public void run()
+        {
+            // Cached sub values are loaded on the disk cache thread, showing them on the UI thread
+            post(new Runnable()
+            {
+                public void run()
+                {
+                    updateMonthSubValuesInRenderer(dcProperties.dcPosition);
+                }
+            });
+        }
+    };
+    private final BroadcastReceiver timeChangedReceiver = new BroadcastReceiver()
+    {
+        @Override
+        public void onReceive(Context context, Intent intent)
+        {
+            // Today's date may have changed, refreshing the clock & the on screen dates
+            DCClock.refresh();
+
+            updateDCProperties(CHANGE_DRAW);
+        }
+    };
 
     // MARK: Droid Calendar Constructor Methods
 
@@ -80,6 +165,58 @@ public class DCView extends LinearLayout implements OnDCDatesListener
         return super.onTouchEvent(event);
     }
 
+    // MARK: Droid Calendar Layout Methods
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec)
+    {
+        // Setting the default data before the first layout, if the app didn't set any
+        setDefaultDCData();
+
+        super.onMeasure(widthMeasureSpec, heightMeasureSpec);
+    }
+
+    // MARK: Droid Calendar Window Methods
+
+    @Override
+    protected void onAttachedToWindow()
+    {
+        super.onAttachedToWindow();
+
+        // Listening for the time & time zone changes
+        IntentFilter intentFilter = new IntentFilter(Intent.ACTION_TIME_CHANGED);
+        intentFilter.addAction(Intent.ACTION_TIMEZONE_CHANGED);
+        intentFilter.addAction(Intent.ACTION_DATE_CHANGED);
+
+        getContext().registerReceiver(timeChangedReceiver, intentFilter);
+
+        // Time may have changed while detached
+        DCClock.refresh();
+    }
+
+    @Override
+    protected void onDetachedFromWindow()
+    {
+        super.onDetachedFromWindow();
+
+        // Cancelling the pending month prefetches, sub value loads & event imports
+        dcMonthPrefetcher.cancel();
+        dcSubValueLoader.cancel();
+        dcEventImportRunner.cancel();
+
+        // Keeping the changed sub values for the next start
+        dcMonthProvider.saveDiskCache();
+
+        try
+        {
+            getContext().unregisterReceiver(timeChangedReceiver);
+        }
+        catch (Exception e)
+        {
+            e.printStackTrace();
+        }
+    }
+
     // MARK: Droid Calendar Listener
 
     /**
@@ -89,13 +226,17 @@ public class DCView extends LinearLayout implements OnDCDatesListener
      */
     public void setOnDCListener(OnDCListener onDCListener)
     {
+        // Setting the default data (if needed) before the listener, the on screen data update is sent once below
+        setDefaultDCData();
+
         this.onDCListener = onDCListener;
 
         final int dcPosition = dcProperties.dcPosition;
-        if(onDCListener != null && dcPosition >= 0 && dcPosition < dcDataList.size())
+        final DCData dcData = dcMonthProvider.getMonth(dcPosition);
+        if(onDCListener != null && dcData != null)
         {
             // Sending an update with the on screen droid calendar data
-            onDCListener.onDCScreenData(dcPosition, dcDataList.get(dcPosition).dates, dcDataList.get(dcPosition).recalibrateDates);
+            onDCListener.onDCScreenData(dcPosition, dcData.getDates(), dcData.getRecalibrateDates());
         }
     }
 
@@ -113,7 +254,7 @@ public class DCView extends LinearLayout implements OnDCDatesListener
         dcHeaderLayout = rootView.findViewById(R.id.dcHeaderLayout);
 
         previous = rootView.findViewById(R.id.previous);
-        previous.setTypeface(DCUtil.getFATypeface(context));
+        previous.setTypeface(DCAssets.getFATypeface(context));
         previous.setOnClickListener(new OnClickListener() {
 
             public void onClick(View view)
@@ -126,7 +267,7 @@ public class DCView extends LinearLayout implements OnDCDatesListener
         dcHeader = rootView.findViewById(R.id.dcHeader);
 
         next = rootView.findViewById(R.id.next);
-        next.setTypeface(DCUtil.getFATypeface(context));
+        next.setTypeface(DCAssets.getFATypeface(context));
         next.setOnClickListener(new OnClickListener() {
 
             public void onClick(View view)
@@ -205,10 +346,43 @@ public class DCView extends LinearLayout implements OnDCDatesListener
                 return true;
             }
         });
-        
-        // Setting default droid calendar data initially
-        setDCData(12, DCFormats.DC_MY_FORMAT, DCFormats.D_FORMAT, true, Locale.US);
-        setDCClickedDate(DCUtil.getCurrentDate(DCFormats.DC_DMY_FORMAT, Locale.US), true);
+
+        dcMonthView = rootView.findViewById(R.id.dcMonthView);
+        dcMonthView.setDCProperties(dcProperties);
+        dcMonthView.setOnDCDatesListener(this);
+
+        dcRV = rootView.findViewById(R.id.dcRV);
+        dcRV.setLayoutManager(new GridLayoutManager(context, DCFormats.DAYS_IN_A_WEEK.length));
+        dcRecyclerViewAdapter = new DCRecyclerViewAdapter(context, dcProperties, this);
+        dcRV.setAdapter(dcRecyclerViewAdapter);
+        if(dcRV.getItemAnimator() instanceof SimpleItemAnimator)
+        {
+            // Partial rebinds swap the cell contents in place, without the change cross fade
+            ((SimpleItemAnimator) dcRV.getItemAnimator()).setSupportsChangeAnimations(false);
+        }
+
+        // Default droid calendar data is set on the first measure, if the app doesn't set any data before
+        defaultDCDataPending = true;
+    }
+
+    /**
+     * Sets the default Droid Calendar data (12 months from the current month, current date clicked), if no data was set yet
+     */
+    private void setDefaultDCData()
+    {
+        if(!defaultDCDataPending)
+        {
+            return;
+        }
+
+        defaultDCDataPending = false;
+
+        setDCData(DCFormats.DEFAULT_MONTH_RANGE, DCFormats.DC_MY_FORMAT, DCFormats.D_FORMAT, true, Locale.US);
+
+        if(dcProperties.clickedEpochDay == DCUtil.NO_DATE)
+        {
+            setDCClickedDate(DCUtil.getCurrentDate(DCFormats.DC_DMY_FORMAT, Locale.US), true);
+        }
     }
 
     /**
@@ -218,8 +392,17 @@ public class DCView extends LinearLayout implements OnDCDatesListener
      */
     private void moveCalendar(int position)
     {
-        if(position >= 0 && position < dcDataList.size())
+        boolean monthReady = dcMonthProvider.isMonthReady(position);
+
+        DCData dcData = dcMonthProvider.getMonth(position);
+        if(dcData != null)
         {
+            if(position != dcProperties.dcPosition)
+            {
+                // Recording if the navigated month was prefetched
+                dcMonthPrefetcher.recordNavigation(monthReady);
+            }
+
             // Setting the month position
             dcProperties.dcPosition = position;
 
@@ -230,15 +413,21 @@ public class DCView extends LinearLayout implements OnDCDatesListener
             }
 
             // Setting the month & year header
-            dcHeader.setText(dcDataList.get(position).monthYearHeader);
+            dcHeader.setText(dcData.monthYearHeader);
 
-            // Setting the calendar data in the Droid Calendar adapter
-            dcGridViewAdapter.setDcData(dcDataList.get(position));
+            // Setting the calendar data in the Droid Calendar renderer
+            setDcDataInRenderer(dcData);
+
+            // Prefetching the months around the on screen month
+            dcMonthPrefetcher.prefetch(position);
+
+            // Loading the sub values of the on screen & the prefetched months
+            dcSubValueLoader.load(position, dcMonthPrefetcher.getPrefetchMonths());
 
             if(onDCListener != null)
             {
                 // Sending an update with the on screen droid calendar data
-                onDCListener.onDCScreenData(position, dcDataList.get(position).dates, dcDataList.get(position).recalibrateDates);
+                onDCListener.onDCScreenData(position, dcData.getDates(), dcData.getRecalibrateDates());
             }
         }
     }
@@ -254,10 +443,11 @@ public class DCView extends LinearLayout implements OnDCDatesListener
      */
     private void startAnimation(Context context, int animation, int position)
     {
-        if(dcProperties.showSwipeAnimation && position >= 0 && position < dcDataList.size())
+        if(dcProperties.showSwipeAnimation && position >= 0 && position < dcMonthProvider.getCount())
         {
-            dcGV.clearAnimation();
-            dcGV.setAnimation(AnimationUtils.loadAnimation(context, animation));
+            View renderView = getRenderView();
+            renderView.clearAnimation();
+            renderView.setAnimation(AnimationUtils.loadAnimation(context, animation));
         }
     }
 
@@ -270,452 +460,618 @@ public class DCView extends LinearLayout implements OnDCDatesListener
         previous.setVisibility(nextDecrementPosition < 0 ? View.INVISIBLE : View.VISIBLE);
 
         int nextIncrementPosition = dcProperties.dcPosition + 1;
-        this.next.setVisibility(nextIncrementPosition > dcDataList.size() - 1 ? View.INVISIBLE : View.VISIBLE);
+        this.next.setVisibility(nextIncrementPosition > dcMonthProvider.getCount() - 1 ? View.INVISIBLE : View.VISIBLE);
     }
 
     /**
-     * Gets the Droid Calendar data list
-     *
-     * @param startMonthYear The start month & year
-     *
-     * @param endMonthYear The end month & year
-     *
-     * @param passedMonthYearRangeFormat The passed month & year format
-     *
-     * @param monthYearHeaderFormat The desired month & year header format
-     *
-     * @param displayDateFormat The desired display date format
-     *
-     * @param clickedDateFormat The desired clicked date format
-     *
-     * @param locale The date locale
+     * Updates the changed Droid Calendar Properties, the changes are coalesced till the edits are applied
      *
-     * @param manualMonthRange True - Manual month range, False - if otherwise
-     *
-     * @return The Droid Calendar Data
+     * @param change The change (CHANGE_DRAW - colors & states, CHANGE_LAYOUT - sizes & visibility, CHANGE_DATA - on screen month data)
      */
-    private List<DCData> getCalendarData(String startMonthYear, String endMonthYear, String passedMonthYearRangeFormat, String monthYearHeaderFormat, String displayDateFormat, String clickedDateFormat, Locale locale, boolean manualMonthRange)
+    private void updateDCProperties(int change)
     {
-        List<DCData> dcDataList = new ArrayList<>();
+        pendingChanges |= change;
 
-        try
+        if(editDepth == 0)
         {
-            DateTimeFormatter dateTimeFormatter = DateTimeFormat.forPattern(passedMonthYearRangeFormat).withLocale(locale);
-            DateTimeFormatter dateFormatter = DateTimeFormat.forPattern(DCFormats.DC_DMY_FORMAT).withLocale(locale);
-
-            DateTime start = dateTimeFormatter.parseDateTime(startMonthYear);
-            DateTime end = dateTimeFormatter.parseDateTime(endMonthYear);
+            int changes = pendingChanges;
+            pendingChanges = 0;
 
-            for(DateTime month = start; manualMonthRange ? month.isBefore(end) || month.equals(end) : month.isBefore(end); month = month.plusMonths(1))
+            if((changes & (CHANGE_LAYOUT | CHANGE_DATA)) != 0)
             {
-                String monthYearHeader = DCUtil.getDateInFormat(dateTimeFormatter.print(month), passedMonthYearRangeFormat, monthYearHeaderFormat, locale, locale);
-                DateTime startDate = month.withDayOfMonth(1);
-                DateTime endDate = month.plusMonths(1).withDayOfMonth(1).minusDays(1);
-                ArrayList<String> dates = new ArrayList<>();
+                // Rebinding (and measuring) the renderer
+                updateDCPropertiesInAdapter();
 
-                for(DateTime date = startDate; date.isBefore(endDate) || date.isEqual(endDate); date = date.plusDays(1))
+                if((changes & CHANGE_DATA) != 0)
                 {
-                    dates.add(dateFormatter.print(date));
+                    setDcDataInRenderer(dcMonthProvider.getMonth(dcProperties.dcPosition));
                 }
-
-                dcDataList.add(new DCData(monthYearHeader, monthYearHeaderFormat, displayDateFormat, clickedDateFormat, DCFormats.DC_DMY_FORMAT, dates, recalibrateDates(dates, DCFormats.DC_DMY_FORMAT, locale), locale));
+            }
+            else if((changes & CHANGE_DRAW) != 0)
+            {
+                // Redrawing the on screen cells in place, without a relayout
+                redrawRenderer();
             }
         }
-        catch (Exception e)
-        {
-            e.printStackTrace();
-
-            dcDataList.clear();
-        }
-
-        return dcDataList;
     }
 
     /**
-     * Recalibrate the dates required for Droid Calendar
-     *
-     * @param datesToBeRecalibrate The dates list to be recalibrate
-     *
-     * @param dateFormat The dates list format
-     *
-     * @param locale The date locale
+     * Sets a style property of the view, a view following a theme keeps the property as an override so it is applied
+     * on top of the changed theme styles
      *
-     * @return The recalibrate dates list
+     * @param override The style property override, each setter is kept once (the last value)
      */
-    private ArrayList<String> recalibrateDates(ArrayList<String> datesToBeRecalibrate, String dateFormat, Locale locale)
+    private void setDCStyleOverride(DCStyleOverride override)
     {
-        ArrayList<String> recalibrateDatesList = new ArrayList<>();
-        if(datesToBeRecalibrate.size() > 0)
+        if(dcTheme != null)
         {
-            DateTimeFormatter dateTimeFormatter = DateTimeFormat.forPattern(dateFormat).withLocale(locale);
-            DateTime startDate = dateTimeFormatter.parseDateTime(datesToBeRecalibrate.get(0));
-            DateTime endDate = dateTimeFormatter.parseDateTime(datesToBeRecalibrate.get(datesToBeRecalibrate.size() - 1));
-
-            int startWeekPos = startDate.getDayOfWeek();
-            int endWeekPos = endDate.getDayOfWeek();
-            for(int catx=0;catx<startWeekPos - 1;catx++)
-            {
-                // Adding empty data before the start date if applicable
-                // recalibrateDatesList.add(null);
-
-                // Adding dates from previous month if applicable
-                if(catx == 0)
-                {
-                    recalibrateDatesList.add(DCUtil.getPreviousDate(datesToBeRecalibrate.get(0), dateFormat, locale));
-                }
-                else
-                {
-                    recalibrateDatesList.add(DCUtil.getPreviousDate(recalibrateDatesList.get(recalibrateDatesList.size() - 1), dateFormat, locale));
-                }
-            }
-
-            if(recalibrateDatesList.size() > 0)
-            {
-                // Reversing the dates list
-                Collections.reverse(recalibrateDatesList);
-            }
-
-            for(String date: datesToBeRecalibrate)
-            {
-                // Adding the dates
-                recalibrateDatesList.add(date);
-            }
-
-            for(int caty=endWeekPos;caty<DCFormats.DAYS_IN_A_WEEK.length;caty++)
-            {
-                // Adding empty data after the end date if applicable
-                // recalibrateDatesList.add(null);
-
-                // Adding dates from next month if applicable
-                recalibrateDatesList.add(DCUtil.getNextDate(recalibrateDatesList.get(recalibrateDatesList.size() - 1), dateFormat, locale));
-            }
+            dcStyleOverrides.remove(override.getClass());
+            dcStyleOverrides.put(override.getClass(), override);
         }
 
-        return recalibrateDatesList;
-    }
+        DCStyle.Builder builder = dcProperties.style.buildUpon();
+        override.apply(builder);
 
-    /**
-     * Updates the Droid Calendar Properties in the adapter
-     */
-    private void updateDCPropertiesInAdapter()
-    {
-        dcGridViewAdapter.setDCProperties(dcProperties);
+        updateDCStyle(builder.build());
     }
 
-    // MARK: Droid Calendar Public Methods
-
     /**
-     * Sets the Droid Calendar Data
-     *
-     * @param monthRange The month range
-     *
-     * @param monthYearHeaderFormat The desired month & year header format
-     *
-     * @param displayDateFormat The desired display date format
+     * Gets the theme style with the style overrides applied, the theme style is shared as is without overrides
      *
-     * @param future True - current & future months will be retrieved, False - current and previous months will be retrieved
+     * @param theme The theme
      *
-     * @param locale The date locale
+     * @return The view style
      */
-    public void setDCData(int monthRange, String monthYearHeaderFormat, String displayDateFormat, boolean future, Locale locale)
+    private DCStyle getThemeStyle(DCTheme theme)
     {
-        DateTimeFormatter dateTimeFormatter = DateTimeFormat.forPattern(DCFormats.DC_MY_FORMAT).withLocale(locale);
-        DateTime dateTime;
-
-        String startMonthYear;
-        String endMonthYear;
-
-        if(future)
-        {
-            startMonthYear = DCUtil.getCurrentDate(DCFormats.DC_MY_FORMAT, locale);
-            dateTime = dateTimeFormatter.parseDateTime(startMonthYear).plusMonths(monthRange);
-            endMonthYear = dateTimeFormatter.print(dateTime);
-        }
-        else
+        if(dcStyleOverrides.isEmpty())
         {
-            endMonthYear = DCUtil.getCurrentDate(DCFormats.DC_MY_FORMAT, locale);
-            dateTime = dateTimeFormatter.parseDateTime(endMonthYear).minusMonths(monthRange);
-            startMonthYear = dateTimeFormatter.print(dateTime);
+            return theme.getStyle();
         }
 
-        dcDataList = getCalendarData(startMonthYear, endMonthYear, DCFormats.DC_MY_FORMAT, monthYearHeaderFormat, displayDateFormat, DCFormats.DC_DMY_FORMAT, locale, false);
-        if(dcDataList.size() > 0)
+        DCStyle.Builder builder = theme.getStyle().buildUpon();
+        for(DCStyleOverride override : dcStyleOverrides.values())
         {
-            // Initially moving the calendar to the first position
-            moveCalendar(0);
+            override.apply(builder);
         }
+
+        return builder.build();
     }
 
     /**
-     * Sets the Droid Calendar Data
-     *
-     * @param startMonthYear The start range month & year
-     *
-     * @param endMonthYear The end range month & year
-     *
-     * @param passedMonthYearRangeFormat The passed month & year range format
-     *
-     * @param monthYearHeaderFormat The desired month & year header format
-     *
-     * @param displayDateFormat The desired display date format
+     * Updates the Droid Calendar style, only the changed aspects are applied (redraw or relayout)
      *
-     * @param locale The date locale
+     * @param style The new style
      */
-    public void setDCData(String startMonthYear, String endMonthYear, String passedMonthYearRangeFormat, String monthYearHeaderFormat, String displayDateFormat, Locale locale)
+    private void updateDCStyle(DCStyle style)
     {
-        dcDataList = getCalendarData(startMonthYear, endMonthYear, passedMonthYearRangeFormat, monthYearHeaderFormat, displayDateFormat, DCFormats.DC_DMY_FORMAT, locale, true);
-        if(dcDataList.size() > 0)
+        int changes = style.getChanges(dcProperties.style);
+
+        dcProperties.style = style;
+
+        if(changes != 0)
         {
-            // Initially moving the calendar to the first position
-            moveCalendar(0);
+            updateDCProperties(changes);
         }
     }
 
     /**
-     * Sets the DC Dates sub data
-     *
-     * @param calendarPosition The calendar position
-     *
-     * @param date The date value in the calendar, NOTE: Date format should be "d/M/YYYY"
-     *
-     * @param subValue The sub value for the date
+     * Redraws the active renderer with the Droid Calendar Properties, the on screen cells are rebound in place
      */
-    public void setDCDatesSubData(int calendarPosition, String date, String subValue)
+    private void redrawRenderer()
     {
-        if(dcDataList != null && calendarPosition < dcDataList.size() && date != null && subValue != null)
+        switch (renderMode)
         {
-            dcDataList.get(calendarPosition).setDateSubValue(date, subValue);
+            case RENDER_MODE_CANVAS:
+                dcMonthView.redraw();
+                break;
 
-            if(dcProperties.dcPosition == calendarPosition)
-            {
-                // Setting the calendar data in Droid Calendar Adapter
-                dcGridViewAdapter.setDcData(dcDataList.get(calendarPosition));
-            }
+            case RENDER_MODE_RECYCLER:
+                dcRecyclerViewAdapter.rebindVisibleCells(dcRV);
+                break;
+
+            default:
+                dcGridViewAdapter.rebindVisibleCells(dcGV);
+                break;
         }
     }
 
     /**
-     * Removes the DC dates sub data by date
-     *
-     * @param calendarPosition The calendar position
-     *
-     * @param date The date value in the calendar, NOTE: Date format should be "d/M/YYYY"
+     * Updates the Droid Calendar Properties in the active renderer
      */
-    public void removeDCDatesSubDataByDate(int calendarPosition, String date)
+    private void updateDCPropertiesInAdapter()
     {
-        if(dcDataList != null && calendarPosition < dcDataList.size() && date != null)
+        switch (renderMode)
         {
-            dcDataList.get(calendarPosition).removeDateSubValue(date);
+            case RENDER_MODE_CANVAS:
+                dcMonthView.setDCProperties(dcProperties);
+                break;
 
-            if(dcProperties.dcPosition == calendarPosition)
-            {
-                // Setting the calendar data in Droid Calendar Adapter
-                dcGridViewAdapter.setDcData(dcDataList.get(calendarPosition));
-            }
+            case RENDER_MODE_RECYCLER:
+                dcRecyclerViewAdapter.setDCProperties(dcProperties);
+                break;
+
+            default:
+                dcGridViewAdapter.setDCProperties(dcProperties);
+                break;
         }
     }
 
     /**
-     * Clears the DC dates sub data
+     * Sets the calendar data in the active renderer
      *
-     * @param calendarPosition The calendar position
+     * @param dcData The droid calendar data
      */
-    public void clearDCDatesSubData(int calendarPosition)
+    private void setDcDataInRenderer(DCData dcData)
     {
-        if(dcDataList != null && calendarPosition < dcDataList.size())
+        switch (renderMode)
         {
-            dcDataList.get(calendarPosition).clearDatesSubValues();
+            case RENDER_MODE_CANVAS:
+                dcMonthView.setDcData(dcData);
+                break;
 
-            if(dcProperties.dcPosition == calendarPosition)
-            {
-                // Setting the calendar data in Droid Calendar Adapter
-                dcGridViewAdapter.setDcData(dcDataList.get(calendarPosition));
-            }
+            case RENDER_MODE_RECYCLER:
+                dcRecyclerViewAdapter.setDcData(dcData);
+                break;
+
+            default:
+                dcGridViewAdapter.setDcData(dcData);
+                break;
         }
     }
 
     /**
-     * Sets the DC Dates sub data
+     * Updates the changed dates sub values in the active renderer, if any of the changed dates is on screen
      *
-     * @param calendarPosition The calendar position
+     * @param startEpochDay The changed range start epoch day
      *
-     * @param datesSubValues The dates & sub values list map, NOTE: Date key format should be "d/M/YYYY"
+     * @param endEpochDay The changed range end epoch day (included)
+     *
+     * @param dates The changed dates, null if all the dates in the range changed. NOTE: Date format should be "d/M/YYYY"
      */
-    public void setDCDatesSubData(int calendarPosition, Map<String, String> datesSubValues)
+    private void updateDatesSubValuesInRenderer(int startEpochDay, int endEpochDay, Collection<String> dates)
     {
-        if(dcDataList != null && calendarPosition < dcDataList.size() && datesSubValues != null)
+        if(!isOnScreen(startEpochDay, endEpochDay))
         {
-            dcDataList.get(calendarPosition).setDatesSubValues(datesSubValues);
+            // Changed dates are not on screen, the other months read the sub values when they are shown
+            return;
+        }
 
-            if(dcProperties.dcPosition == calendarPosition)
-            {
-                // Setting the calendar data in Droid Calendar Adapter
-                dcGridViewAdapter.setDcData(dcDataList.get(calendarPosition));
-            }
+        if(editDepth > 0)
+        {
+            // Month is rebound once the edits are applied
+            pendingChanges |= CHANGE_DATA;
+
+            return;
+        }
+
+        DCData dcData = dcMonthProvider.getMonth(dcProperties.dcPosition);
+        if(renderMode == RENDER_MODE_RECYCLER && dcRecyclerViewAdapter.getDcData() == dcData)
+        {
+            // Rebinding only the changed day cells
+            dcRecyclerViewAdapter.notifyDatesSubValuesChanged(dates);
+        }
+        else
+        {
+            setDcDataInRenderer(dcData);
         }
     }
 
     /**
-     * Sets the Droid Calendar header bg color
+     * Checks if any date of the range is visible in the on screen month
      *
-     * @param color The desired color
+     * @param startEpochDay The range start epoch day
+     *
+     * @param endEpochDay The range end epoch day (included)
+     *
+     * @return True - range is on screen, False - if otherwise
      */
-    public void setDCHeaderBGColor(int color)
+    private boolean isOnScreen(int startEpochDay, int endEpochDay)
     {
-        dcHeaderLayout.setBackgroundColor(color);
+        DCData dcData = dcMonthProvider.getMonth(dcProperties.dcPosition);
+
+        return dcData != null && endEpochDay >= dcData.firstCellEpochDay && startEpochDay <= dcData.getEpochDay(dcData.cellCount - 1);
     }
 
     /**
-     * Sets the Droid Calendar header text color
+     * Redraws the on screen month if any date of the changed events range is visible
      *
-     * @param color The desired color
+     * @param startEpochDay The changed range start epoch day
+     *
+     * @param endEpochDay The changed range end epoch day (included)
      */
-    public void setDCHeaderTextColor(int color)
+    private void updateEventsInRenderer(int startEpochDay, int endEpochDay)
     {
-        dcHeader.setTextColor(color);
+        if(isOnScreen(startEpochDay, endEpochDay))
+        {
+            updateDCProperties(CHANGE_DRAW);
+        }
     }
 
     /**
-     * Sets the Droid Calendar header first letter of each word to be capitalized
+     * Updates the month dates sub values in the active renderer, if any of the month dates is on screen
+     *
+     * @param calendarPosition The calendar position
      */
-    public void setDCHeaderCapitalize()
+    private void updateMonthSubValuesInRenderer(int calendarPosition)
     {
-        dcHeader.setText(WordUtils.capitalize(dcHeader.getText().toString().toLowerCase()));
+        DCData dcData = dcMonthProvider.getMonth(calendarPosition);
+        if(dcData != null)
+        {
+            updateDatesSubValuesInRenderer(dcData.firstCellEpochDay, dcData.getEpochDay(dcData.cellCount - 1), null);
+        }
     }
 
     /**
-     * Sets the Droid Calendar header to be fully capitalized
+     * Updates the date sub value in the active renderer, if the date is on screen
+     *
+     * @param date The changed date, NOTE: Date format should be "d/M/YYYY"
      */
-    public void setDCHeaderFullyCapitalize()
+    private void updateDateSubValueInRenderer(String date)
     {
-        dcHeader.setText(dcHeader.getText().toString().toUpperCase());
+        try
+        {
+            int epochDay = dcMonthProvider.getEpochDay(date);
+
+            updateDatesSubValuesInRenderer(epochDay, epochDay, Collections.singletonList(date));
+        }
+        catch (Exception e)
+        {
+            e.printStackTrace();
+        }
     }
 
     /**
-     * Sets the Droid Calendar header text size
-     *
-     * NOTE: Max size allowed "22f"
+     * Gets the view of the active renderer
      *
-     * @param size The desired size
+     * @return The render view
      */
-    public void setDCHeaderTextSize(float size)
+    private View getRenderView()
     {
-        if(size > dcProperties.maxHeaderTextSize)
+        switch (renderMode)
         {
-            size = dcProperties.maxHeaderTextSize;
-        }
+            case RENDER_MODE_CANVAS:
+                return dcMonthView;
 
-        dcHeader.setTextSize(size);
+            case RENDER_MODE_RECYCLER:
+                return dcRV;
+
+            default:
+                return dcGV;
+        }
     }
 
     /**
-     * Sets the Droid Calendar header text style (NORMAL, BOLD, ITALIC, BOLD ITALIC)
+     * Sets the Droid Calendar month provider for the month range
      *
-     * @param style The desired style
-     */
-    public void setDCHeaderTextStyle(int style)
+     * @param startMonthYear The start range month & year
+     *
+     * @param endMonthYear The end range month & year
+     *
+     * @param passedMonthYearRangeFormat The passed month & year range format
+     *
+     * @param monthYearHeaderFormat The desired month & year header format
+     *
+     * @param displayDateFormat The desired display date format
+     *
+     * @param locale The date locale
+     *
+     * @param manualMonthRange True - Manual month range, False - if otherwise
+     */
+    private void setDCMonthProvider(String startMonthYear, String endMonthYear, String passedMonthYearRangeFormat, String monthYearHeaderFormat, String displayDateFormat, Locale locale, boolean manualMonthRange)
     {
-        dcHeader.setTypeface(null, style);
+        // The app data replaces the default data
+        defaultDCDataPending = false;
+
+        dcMonthProvider.closeDiskCache();
+
+        try
+        {
+            dcMonthProvider = new DCMonthProvider(startMonthYear, endMonthYear, passedMonthYearRangeFormat, monthYearHeaderFormat, displayDateFormat, DCFormats.DC_DMY_FORMAT, locale, dcProperties.firstDayOfWeek, manualMonthRange);
+            dcMonthProvider.setWindowSize(dcProperties.monthWindowSize);
+            dcMonthProvider.setDiskCache(dcProperties.diskCacheDirectory, diskCacheLoaded);
+        }
+        catch (Exception e)
+        {
+            e.printStackTrace();
+
+            dcMonthProvider = new DCMonthProvider();
+        }
+
+        dcMonthPrefetcher.setMonthProvider(dcMonthProvider);
+        dcSubValueLoader.setMonthProvider(dcMonthProvider);
+
+        if(dcMonthProvider.getCount() > 0)
+        {
+            // Initially moving the calendar to the first position
+            moveCalendar(0);
+        }
     }
 
+    // MARK: Droid Calendar Edit Methods
+
     /**
-     * Sets the Droid Calendar previous button color
+     * Starts editing the Droid Calendar, the changes made with the Droid Calendar setters are coalesced till apply() and
+     * then applied with a single rebind (or redraw). Edits can be nested, the changes are applied by the outermost apply()
      *
-     * @param color The desired color
+     * Example - dcView.edit(); try { dcView.setDCDaysTextColor(color); ... } finally { dcView.apply(); }
+     *
+     * NOTE: Color & state changes only redraw the on screen cells, size & visibility changes also measure them again
      */
-    public void setDCPreviousButtonColor(int color)
+    public void edit()
     {
-        previous.setTextColor(color);
+        editDepth++;
     }
 
     /**
-     * Sets the Droid Calendar previous button size
+     * Ends the edit started with edit(), the coalesced changes (and any month move) are applied after the outermost edit
+     */
+    public void apply()
+    {
+        if(editDepth == 0)
+        {
+            // Not editing
+            return;
+        }
+
+        editDepth--;
+
+        if(editDepth == 0)
+        {
+            int position = pendingMovePosition;
+            pendingMovePosition = -1;
+
+            if(position >= 0)
+            {
+                // Moving binds the month data, only the size & color changes are left to apply
+                pendingChanges &= ~CHANGE_DATA;
+
+                moveCalendar(position);
+            }
+
+            updateDCProperties(0);
+        }
+    }
+
+    // MARK: Droid Calendar Public Methods
+
+    /**
+     * Sets the Droid Calendar Data
      *
-     * NOTE: Max size allowed "30f"
+     * @param monthRange The month range
      *
-     * @param size The desired size
+     * @param monthYearHeaderFormat The desired month & year header format
+     *
+     * @param displayDateFormat The desired display date format
+     *
+     * @param future True - current & future months will be retrieved, False - current and previous months will be retrieved
+     *
+     * @param locale The date locale
      */
-    public void setDCPreviousButtonSize(float size)
+    public void setDCData(int monthRange, String monthYearHeaderFormat, String displayDateFormat, boolean future, Locale locale)
     {
-        if(size > dcProperties.maxPrevNextButtonSize)
+        DateTimeFormatter dateTimeFormatter = DCUtil.getFormatter(DCFormats.DC_MY_FORMAT, locale);
+        DateTime dateTime;
+
+        String startMonthYear;
+        String endMonthYear;
+
+        if(future)
         {
-            size = dcProperties.maxPrevNextButtonSize;
+            startMonthYear = DCUtil.getCurrentDate(DCFormats.DC_MY_FORMAT, locale);
+            dateTime = dateTimeFormatter.parseDateTime(startMonthYear).plusMonths(monthRange);
+            endMonthYear = dateTimeFormatter.print(dateTime);
+        }
+        else
+        {
+            endMonthYear = DCUtil.getCurrentDate(DCFormats.DC_MY_FORMAT, locale);
+            dateTime = dateTimeFormatter.parseDateTime(endMonthYear).minusMonths(monthRange);
+            startMonthYear = dateTimeFormatter.print(dateTime);
         }
 
-        previous.setTextSize(size);
+        setDCMonthProvider(startMonthYear, endMonthYear, DCFormats.DC_MY_FORMAT, monthYearHeaderFormat, displayDateFormat, locale, false);
     }
 
     /**
-     * Sets the Droid Calendar next button color
+     * Sets the Droid Calendar Data
      *
-     * @param color The desired color
+     * @param startMonthYear The start range month & year
+     *
+     * @param endMonthYear The end range month & year
+     *
+     * @param passedMonthYearRangeFormat The passed month & year range format
+     *
+     * @param monthYearHeaderFormat The desired month & year header format
+     *
+     * @param displayDateFormat The desired display date format
+     *
+     * @param locale The date locale
      */
-    public void setDCNextButtonColor(int color)
+    public void setDCData(String startMonthYear, String endMonthYear, String passedMonthYearRangeFormat, String monthYearHeaderFormat, String displayDateFormat, Locale locale)
     {
-        next.setTextColor(color);
+        setDCMonthProvider(startMonthYear, endMonthYear, passedMonthYearRangeFormat, monthYearHeaderFormat, displayDateFormat, locale, true);
     }
 
     /**
-     * Sets the Droid Calendar next button size
+     * Sets the DC Dates sub data
      *
-     * NOTE: Max size allowed "30f"
+     * @param calendarPosition The calendar position
      *
-     * @param size The desired size
+     * @param date The date value in the calendar, NOTE: Date format should be "d/M/YYYY"
+     *
+     * @param subValue The sub value for the date
      */
-    public void setDCNextButtonSize(float size)
+    public void setDCDatesSubData(int calendarPosition, String date, String subValue)
     {
-        if(size > dcProperties.maxPrevNextButtonSize)
+        setDefaultDCData();
+
+        if(calendarPosition >= 0 && calendarPosition < dcMonthProvider.getCount() && date != null && subValue != null)
         {
-            size = dcProperties.maxPrevNextButtonSize;
-        }
+            dcMonthProvider.setDateSubValue(calendarPosition, date, subValue);
 
-        next.setTextSize(size);
+            // Updating the date in the Droid Calendar renderer
+            updateDateSubValueInRenderer(date);
+        }
     }
 
     /**
-     * Sets the Droid Calendar clickable dates
+     * Removes the DC dates sub data by date
      *
-     * NOTE: Date format should be "d/M/YYYY". Examples - 15/6/1988, 1/1/2017
+     * @param calendarPosition The calendar position
      *
-     * @param clickableDates The desired clickable dates list
+     * @param date The date value in the calendar, NOTE: Date format should be "d/M/YYYY"
      */
-    public void setDCClickableDates(List<String> clickableDates)
+    public void removeDCDatesSubDataByDate(int calendarPosition, String date)
     {
-        dcProperties.clickableDates = clickableDates;
+        setDefaultDCData();
 
-        updateDCPropertiesInAdapter();
+        if(calendarPosition >= 0 && calendarPosition < dcMonthProvider.getCount() && date != null)
+        {
+            dcMonthProvider.setDateSubValue(calendarPosition, date, null);
+
+            // Updating the date in the Droid Calendar renderer
+            updateDateSubValueInRenderer(date);
+        }
     }
 
     /**
-     * Sets the Droid Calendar clicked date
+     * Clears the DC dates sub data of the month dates (the leading & trailing dates keep the sub values of their own months)
      *
-     * NOTE: The passed clicked date format should be "d/M/YYYY". Examples - 15/6/1988, 1/1/2017
+     * @param calendarPosition The calendar position
+     */
+    public void clearDCDatesSubData(int calendarPosition)
+    {
+        setDefaultDCData();
+
+        if(calendarPosition >= 0 && calendarPosition < dcMonthProvider.getCount())
+        {
+            dcMonthProvider.clearDatesSubValues(calendarPosition);
+
+            // Updating the month dates in the Droid Calendar renderer
+            updateMonthSubValuesInRenderer(calendarPosition);
+        }
+    }
+
+    /**
+     * Sets the DC Dates sub data, the previous sub data of the month dates is replaced (the leading & trailing dates keep
+     * the sub values of their own months)
      *
-     * @param clickedDate The date to be clicked
+     * @param calendarPosition The calendar position
      *
-     * @param moveMonthToClickedDate True - moves calendar month to the clicked date, False - if otherwise
+     * @param datesSubValues The dates & sub values list map, NOTE: Date key format should be "d/M/YYYY"
      */
-    public void setDCClickedDate(String clickedDate, boolean moveMonthToClickedDate)
+    public void setDCDatesSubData(int calendarPosition, Map<String, String> datesSubValues)
     {
-        dcProperties.clickedDate = clickedDate;
+        setDefaultDCData();
 
-        updateDCPropertiesInAdapter();
+        if(calendarPosition >= 0 && calendarPosition < dcMonthProvider.getCount() && datesSubValues != null)
+        {
+            dcMonthProvider.setDatesSubValues(calendarPosition, datesSubValues);
+
+            // Updating the month dates in the Droid Calendar renderer (previous month dates sub values are replaced)
+            updateMonthSubValuesInRenderer(calendarPosition);
+        }
+    }
+
+    /**
+     * Sets the DC date sub data, every month showing the date (including leading & trailing dates) shows the sub value
+     *
+     * @param date The date value, NOTE: Date format should be "d/M/YYYY"
+     *
+     * @param subValue The sub value for the date, null to remove it
+     */
+    public void setDCDatesSubData(String date, String subValue)
+    {
+        setDefaultDCData();
+
+        if(date == null)
+        {
+            return;
+        }
 
         try
         {
-            if(moveMonthToClickedDate && dcDataList != null)
+            int epochDay = dcMonthProvider.getEpochDay(date);
+            if(dcMonthProvider.setSubValue(epochDay, subValue))
             {
-                for(int catx=0;catx<dcDataList.size();catx++)
-                {
-                    String monthYear = DCUtil.getDateInFormat(clickedDate, dcDataList.get(catx).datesFormat, dcDataList.get(catx).monthYearHeaderFormat, dcDataList.get(catx).locale, dcDataList.get(catx).locale);
-                    if(monthYear.equals(dcDataList.get(catx).monthYearHeader))
-                    {
-                        moveCalendar(catx);
+                // Updating the date in the Droid Calendar renderer
+                updateDatesSubValuesInRenderer(epochDay, epochDay, Collections.singletonList(date));
+            }
+        }
+        catch (Exception e)
+        {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Sets the DC dates sub data of any dates in the range in one call, the on screen month is updated once
+     *
+     * NOTE: Sub values of the other dates are kept
+     *
+     * @param datesSubValues The dates & sub values map (null sub values are removed), NOTE: Date key format should be "d/M/YYYY"
+     */
+    public void setDCDatesSubData(Map<String, String> datesSubValues)
+    {
+        setDefaultDCData();
+
+        if(datesSubValues == null)
+        {
+            return;
+        }
+
+        int changedStartEpochDay = Integer.MAX_VALUE;
+        int changedEndEpochDay = Integer.MIN_VALUE;
 
-                        break;
-                    }
+        for(Map.Entry<String, String> dateSubValue: datesSubValues.entrySet())
+        {
+            try
+            {
+                int epochDay = dcMonthProvider.getEpochDay(dateSubValue.getKey());
+                if(dcMonthProvider.setSubValue(epochDay, dateSubValue.getValue()))
+                {
+                    changedStartEpochDay = Math.min(changedStartEpochDay, epochDay);
+                    changedEndEpochDay = Math.max(changedEndEpochDay, epochDay);
                 }
             }
+            catch (Exception e)
+            {
+                e.printStackTrace();
+            }
+        }
+
+        // Updating the changed dates in the Droid Calendar renderer
+        updateDatesSubValuesInRenderer(changedStartEpochDay, changedEndEpochDay, null);
+    }
+
+    /**
+     * Sets the DC dates sub data of consecutive dates in one call, the on screen month is updated once
+     *
+     * @param startDate The first date value, NOTE: Date format should be "d/M/YYYY"
+     *
+     * @param subValues The sub values of the dates from the start date (null sub values are removed)
+     */
+    public void setDCDatesSubDataRange(String startDate, List<String> subValues)
+    {
+        setDefaultDCData();
+
+        if(startDate == null || subValues == null || subValues.isEmpty())
+        {
+            return;
+        }
+
+        try
+        {
+            int startEpochDay = dcMonthProvider.getEpochDay(startDate);
+
+            int epochDay = startEpochDay;
+            for(String subValue: subValues)
+            {
+                dcMonthProvider.setSubValue(epochDay++, subValue);
+            }
+
+            // Updating the range dates in the Droid Calendar renderer
+            updateDatesSubValuesInRenderer(startEpochDay, epochDay - 1, null);
         }
         catch (Exception e)
         {
@@ -724,439 +1080,1338 @@ public class DCView extends LinearLayout implements OnDCDatesListener
     }
 
     /**
-     * Sets the Droid Calendar days headers layout bg color
+     * Clears the DC dates sub data of the date range, the on screen month is updated once
+     *
+     * @param startDate The range start date, NOTE: Date format should be "d/M/YYYY"
+     *
+     * @param endDate The range end date (included), NOTE: Date format should be "d/M/YYYY"
+     */
+    public void clearDCDatesSubData(String startDate, String endDate)
+    {
+        setDefaultDCData();
+
+        if(startDate == null || endDate == null)
+        {
+            return;
+        }
+
+        try
+        {
+            int startEpochDay = dcMonthProvider.getEpochDay(startDate);
+            int endEpochDay = dcMonthProvider.getEpochDay(endDate);
+
+            dcMonthProvider.clearSubValues(startEpochDay, endEpochDay);
+
+            // Updating the range dates in the Droid Calendar renderer
+            updateDatesSubValuesInRenderer(startEpochDay, endEpochDay, null);
+        }
+        catch (Exception e)
+        {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Gets the estimated memory used by the DC dates sub data of the month
+     *
+     * NOTE: Only the month dates are counted (leading & trailing dates are counted in their own months)
+     *
+     * @param calendarPosition The calendar position
+     *
+     * @return The estimated bytes
+     */
+    public long getDCDatesSubDataBytes(int calendarPosition)
+    {
+        setDefaultDCData();
+
+        return dcMonthProvider.getSubValueBytes(calendarPosition);
+    }
+
+    /**
+     * Sets the Droid Calendar header bg color
      *
      * @param color The desired color
      */
-    public void setDCDaysHeadersLayoutBGColor(int color)
+    public void setDCHeaderBGColor(int color)
     {
-        dcProperties.daysHeadersLayoutBGColor = color;
+        dcHeaderLayout.setBackgroundColor(color);
+    }
 
-        updateDCPropertiesInAdapter();
+    /**
+     * Sets the Droid Calendar header text color
+     *
+     * @param color The desired color
+     */
+    public void setDCHeaderTextColor(int color)
+    {
+        dcHeader.setTextColor(color);
     }
 
     /**
-     * Sets the Droid Calendar days headers text color
+     * Sets the Droid Calendar header first letter of each word to be capitalized
+     */
+    public void setDCHeaderCapitalize()
+    {
+        dcHeader.setText(WordUtils.capitalize(dcHeader.getText().toString().toLowerCase()));
+    }
+
+    /**
+     * Sets the Droid Calendar header to be fully capitalized
+     */
+    public void setDCHeaderFullyCapitalize()
+    {
+        dcHeader.setText(dcHeader.getText().toString().toUpperCase());
+    }
+
+    /**
+     * Sets the Droid Calendar header text size
+     *
+     * NOTE: Max size allowed "22f"
+     *
+     * @param size The desired size
+     */
+    public void setDCHeaderTextSize(float size)
+    {
+        if(size > dcProperties.maxHeaderTextSize)
+        {
+            size = dcProperties.maxHeaderTextSize;
+        }
+
+        dcHeader.setTextSize(size);
+    }
+
+    /**
+     * Sets the Droid Calendar header text style (NORMAL, BOLD, ITALIC, BOLD ITALIC)
+     *
+     * @param style The desired style
+     */
+    public void setDCHeaderTextStyle(int style)
+    {
+        dcHeader.setTypeface(null, style);
+    }
+
+    /**
+     * Sets the Droid Calendar previous button color
+     *
+     * @param color The desired color
+     */
+    public void setDCPreviousButtonColor(int color)
+    {
+        previous.setTextColor(color);
+    }
+
+    /**
+     * Sets the Droid Calendar previous button size
+     *
+     * NOTE: Max size allowed "30f"
+     *
+     * @param size The desired size
+     */
+    public void setDCPreviousButtonSize(float size)
+    {
+        if(size > dcProperties.maxPrevNextButtonSize)
+        {
+            size = dcProperties.maxPrevNextButtonSize;
+        }
+
+        previous.setTextSize(size);
+    }
+
+    /**
+     * Sets the Droid Calendar next button color
+     *
+     * @param color The desired color
+     */
+    public void setDCNextButtonColor(int color)
+    {
+        next.setTextColor(color);
+    }
+
+    /**
+     * Sets the Droid Calendar next button size
+     *
+     * NOTE: Max size allowed "30f"
+     *
+     * @param size The desired size
+     */
+    public void setDCNextButtonSize(float size)
+    {
+        if(size > dcProperties.maxPrevNextButtonSize)
+        {
+            size = dcProperties.maxPrevNextButtonSize;
+        }
+
+        next.setTextSize(size);
+    }
+
+    /**
+     * Sets the Droid Calendar clickable dates
+     *
+     * NOTE: Date format should be "d/M/YYYY". Examples - 15/6/1988, 1/1/2017
+     *
+     * @param clickableDates The desired clickable dates list
+     */
+    public void setDCClickableDates(List<String> clickableDates)
+    {
+        dcProperties.clickableDates.clear();
+
+        if(clickableDates != null)
+        {
+            int[] epochDays = new int[clickableDates.size()];
+            int count = 0;
+
+            for(String clickableDate: clickableDates)
+            {
+                try
+                {
+                    epochDays[count] = DCUtil.getEpochDay(clickableDate, DCFormats.DC_DMY_FORMAT, Locale.US);
+                    count++;
+                }
+                catch (Exception e)
+                {
+                    e.printStackTrace();
+                }
+            }
+
+            // Added at once, so the dates order (e.g. descending bookings) does not shift the set per date
+            dcProperties.clickableDates.addAll(epochDays, count);
+        }
+
+        updateDCProperties(CHANGE_DRAW);
+    }
+
+    /**
+     * Adds a Droid Calendar clickable date
+     *
+     * NOTE: Date format should be "d/M/YYYY". Examples - 15/6/1988, 1/1/2017
+     *
+     * @param clickableDate The desired clickable date
+     */
+    public void addDCClickableDate(String clickableDate)
+    {
+        addDCClickableDates(clickableDate, clickableDate);
+    }
+
+    /**
+     * Adds the Droid Calendar clickable dates range
+     *
+     * NOTE: Date format should be "d/M/YYYY". Examples - 15/6/1988, 1/1/2017
+     *
+     * @param startDate The range start date
+     *
+     * @param endDate The range end date (included)
+     */
+    public void addDCClickableDates(String startDate, String endDate)
+    {
+        try
+        {
+            dcProperties.clickableDates.addRange(DCUtil.getEpochDay(startDate, DCFormats.DC_DMY_FORMAT, Locale.US), DCUtil.getEpochDay(endDate, DCFormats.DC_DMY_FORMAT, Locale.US));
+
+            updateDCProperties(CHANGE_DRAW);
+        }
+        catch (Exception e)
+        {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Removes a Droid Calendar clickable date
+     *
+     * NOTE: Date format should be "d/M/YYYY". Examples - 15/6/1988, 1/1/2017
+     *
+     * @param clickableDate The clickable date to be removed
+     */
+    public void removeDCClickableDate(String clickableDate)
+    {
+        removeDCClickableDates(clickableDate, clickableDate);
+    }
+
+    /**
+     * Removes the Droid Calendar clickable dates range
+     *
+     * NOTE: Date format should be "d/M/YYYY". Examples - 15/6/1988, 1/1/2017
+     *
+     * @param startDate The range start date
+     *
+     * @param endDate The range end date (included)
+     */
+    public void removeDCClickableDates(String startDate, String endDate)
+    {
+        try
+        {
+            dcProperties.clickableDates.removeRange(DCUtil.getEpochDay(startDate, DCFormats.DC_DMY_FORMAT, Locale.US), DCUtil.getEpochDay(endDate, DCFormats.DC_DMY_FORMAT, Locale.US));
+
+            updateDCProperties(CHANGE_DRAW);
+        }
+        catch (Exception e)
+        {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Clears the Droid Calendar clickable dates
+     */
+    public void clearDCClickableDates()
+    {
+        dcProperties.clickableDates.clear();
+
+        updateDCProperties(CHANGE_DRAW);
+    }
+
+    /**
+     * Sets the Droid Calendar clicked date
+     *
+     * NOTE: The passed clicked date format should be "d/M/YYYY". Examples - 15/6/1988, 1/1/2017
+     *
+     * @param clickedDate The date to be clicked
+     *
+     * @param moveMonthToClickedDate True - moves calendar month to the clicked date, False - if otherwise
+     */
+    public void setDCClickedDate(String clickedDate, boolean moveMonthToClickedDate)
+    {
+        try
+        {
+            int clickedEpochDay = clickedDate != null ? DCUtil.getEpochDay(clickedDate, DCFormats.DC_DMY_FORMAT, Locale.US) : DCUtil.NO_DATE;
+
+            if(renderMode == RENDER_MODE_RECYCLER && editDepth == 0)
+            {
+                // Rebinding only the previously clicked & the newly clicked dates
+                dcRecyclerViewAdapter.setClickedEpochDay(clickedEpochDay);
+            }
+            else
+            {
+                dcProperties.clickedEpochDay = clickedEpochDay;
+
+                updateDCProperties(CHANGE_DRAW);
+            }
+
+            if(moveMonthToClickedDate && dcProperties.clickedEpochDay != DCUtil.NO_DATE)
+            {
+                setDefaultDCData();
+
+                int position = dcMonthProvider.getPosition(dcProperties.clickedEpochDay);
+                if(position >= 0 && editDepth > 0)
+                {
+                    // Month is moved once the edits are applied
+                    pendingMovePosition = position;
+                }
+                else if(position >= 0)
+                {
+                    moveCalendar(position);
+                }
+            }
+        }
+        catch (Exception e)
+        {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Sets the Droid Calendar days headers layout bg color
+     *
+     * @param color The desired color
+     */
+    public void setDCDaysHeadersLayoutBGColor(final int color)
+    {
+        setDCStyleOverride(new DCStyleOverride()
+        {
+            @Override
+            public void apply(DCStyle.Builder builder)
+            {
+                builder.setDaysHeadersLayoutBGColor(color);
+            }
+        });
+    }
+
+    /**
+     * Sets the Droid Calendar days headers text color
+     *
+     * @param color The desired color
+     */
+    public void setDCDaysHeadersTextColor(final int color)
+    {
+        setDCStyleOverride(new DCStyleOverride()
+        {
+            @Override
+            public void apply(DCStyle.Builder builder)
+            {
+                builder.setDaysHeadersTextColor(color);
+            }
+        });
+    }
+
+    /**
+     * Sets the Droid Calendar days headers text size
+     *
+     * NOTE: Max size allowed "22f"
+     *
+     * @param size The desired size
+     */
+    public void setDCDaysHeaderTextSize(final float size)
+    {
+        setDCStyleOverride(new DCStyleOverride()
+        {
+            @Override
+            public void apply(DCStyle.Builder builder)
+            {
+                builder.setDaysHeaderTextSize(size);
+            }
+        });
+    }
+
+    /**
+     * Sets the Droid Calendar days header style (DAYS_HEADER_SHORT - "Mon", DAYS_HEADER_NARROW - "M", DAYS_HEADER_FULL - "Monday")
+     *
+     * NOTE: Default is DAYS_HEADER_SHORT
+     *
+     * @param style The desired style
+     */
+    public void setDCDaysHeaderStyle(final int style)
+    {
+        if(style < DAYS_HEADER_SHORT || style > DAYS_HEADER_FULL)
+        {
+            return;
+        }
+
+        setDCStyleOverride(new DCStyleOverride()
+        {
+            @Override
+            public void apply(DCStyle.Builder builder)
+            {
+                builder.setDaysHeaderStyle(style);
+            }
+        });
+    }
+
+    /**
+     * Sets the Droid Calendar days header text style (NORMAL, BOLD, ITALIC, BOLD ITALIC)
+     *
+     * @param style The desired style
+     */
+    public void setDCDaysHeaderTextStyle(final int style)
+    {
+        setDCStyleOverride(new DCStyleOverride()
+        {
+            @Override
+            public void apply(DCStyle.Builder builder)
+            {
+                builder.setDaysHeaderTextStyle(style);
+            }
+        });
+    }
+
+    /**
+     * Sets the Droid Calendar days layout bg color
+     *
+     * @param color The desired color
+     */
+    public void setDCDaysLayoutBGColor(final int color)
+    {
+        setDCStyleOverride(new DCStyleOverride()
+        {
+            @Override
+            public void apply(DCStyle.Builder builder)
+            {
+                builder.setDaysLayoutBGColor(color);
+            }
+        });
+    }
+
+    /**
+     * Sets the Droid Calendar days text color
+     *
+     * @param color The desired color
+     */
+    public void setDCDaysTextColor(final int color)
+    {
+        setDCStyleOverride(new DCStyleOverride()
+        {
+            @Override
+            public void apply(DCStyle.Builder builder)
+            {
+                builder.setDaysTextColor(color);
+            }
+        });
+    }
+
+    /**
+     * Sets the Droid Calendar days sub text color
+     *
+     * @param color The desired color
+     */
+    public void setDCDaysSubTextColor(final int color)
+    {
+        setDCStyleOverride(new DCStyleOverride()
+        {
+            @Override
+            public void apply(DCStyle.Builder builder)
+            {
+                builder.setDaysSubTextColor(color);
+            }
+        });
+    }
+
+    /**
+     * Sets the Droid Calendar days text size
+     *
+     * NOTE: Max size allowed "22f"
+     *
+     * @param size The desired size
+     */
+    public void setDCDaysTextSize(final float size)
+    {
+        setDCStyleOverride(new DCStyleOverride()
+        {
+            @Override
+            public void apply(DCStyle.Builder builder)
+            {
+                builder.setDaysTextSize(size);
+            }
+        });
+    }
+
+    /**
+     * Sets the Droid Calendar days sub text size
+     *
+     * NOTE: Max size allowed "14f"
+     *
+     * @param size The desired size
+     */
+    public void setDCDaysSubTextSize(final float size)
+    {
+        setDCStyleOverride(new DCStyleOverride()
+        {
+            @Override
+            public void apply(DCStyle.Builder builder)
+            {
+                builder.setDaysSubTextSize(size);
+            }
+        });
+    }
+
+    /**
+     * Sets the Droid Calendar text style (NORMAL, BOLD, ITALIC, BOLD ITALIC)
+     *
+     * @param style The desired style
+     */
+    public void setDCDaysTextStyle(final int style)
+    {
+        setDCStyleOverride(new DCStyleOverride()
+        {
+            @Override
+            public void apply(DCStyle.Builder builder)
+            {
+                builder.setDaysTextStyle(style);
+            }
+        });
+    }
+
+    /**
+     * Sets the Droid Calendar sub text style (NORMAL, BOLD, ITALIC, BOLD ITALIC)
+     *
+     * @param style The desired style
+     */
+    public void setDCDaysSubTextStyle(final int style)
+    {
+        setDCStyleOverride(new DCStyleOverride()
+        {
+            @Override
+            public void apply(DCStyle.Builder builder)
+            {
+                builder.setDaysSubTextStyle(style);
+            }
+        });
+    }
+
+    /**
+     * Sets the Droid Calendar clickable days bg color
+     *
+     * @param color The desired color
+     */
+    public void setDCClickableDaysBGColor(final int color)
+    {
+        setDCStyleOverride(new DCStyleOverride()
+        {
+            @Override
+            public void apply(DCStyle.Builder builder)
+            {
+                builder.setClickableDaysBGColor(color);
+            }
+        });
+    }
+
+    /**
+     * Sets the Droid Calendar clickable days text color
+     *
+     * @param color The desired color
+     */
+    public void setDCClickableDaysTextColor(final int color)
+    {
+        setDCStyleOverride(new DCStyleOverride()
+        {
+            @Override
+            public void apply(DCStyle.Builder builder)
+            {
+                builder.setClickableDaysTextColor(color);
+            }
+        });
+    }
+
+    /**
+     * Sets the Droid Calendar clicked day bg color
+     *
+     * @param color The desired color
+     */
+    public void setDCClickedDayBGColor(final int color)
+    {
+        setDCStyleOverride(new DCStyleOverride()
+        {
+            @Override
+            public void apply(DCStyle.Builder builder)
+            {
+                builder.setClickedDayBGColor(color);
+            }
+        });
+    }
+
+    /**
+     * Sets the Droid Calendar clicked day text color
+     *
+     * @param color The desired color
+     */
+    public void setDCClickedDayTextColor(final int color)
+    {
+        setDCStyleOverride(new DCStyleOverride()
+        {
+            @Override
+            public void apply(DCStyle.Builder builder)
+            {
+                builder.setClickedDayTextColor(color);
+            }
+        });
+    }
+
+    /**
+     * Sets the Droid Calendar clicked day sub text color
+     *
+     * @param color The desired color
+     */
+    public void setDCClickedDaySubTextColor(final int color)
+    {
+        setDCStyleOverride(new DCStyleOverride()
+        {
+            @Override
+            public void apply(DCStyle.Builder builder)
+            {
+                builder.setClickedDaySubTextColor(color);
+            }
+        });
+    }
+
+    /**
+     * Sets the Droid Calendar column separator color
+     *
+     * @param color The desired color
+     */
+    public void setDCColSeparatorColor(final int color)
+    {
+        setDCStyleOverride(new DCStyleOverride()
+        {
+            @Override
+            public void apply(DCStyle.Builder builder)
+            {
+                builder.setColSeparatorColor(color);
+            }
+        });
+    }
+
+    /**
+     * Sets the Droid Calendar row separator color
+     *
+     * @param color The desired color
+     */
+    public void setDCRowSeparatorColor(final int color)
+    {
+        setDCStyleOverride(new DCStyleOverride()
+        {
+            @Override
+            public void apply(DCStyle.Builder builder)
+            {
+                builder.setRowSeparatorColor(color);
+            }
+        });
+    }
+
+    /**
+     * Sets the horizontal swipe animation
+     *
+     * NOTE: Default animation is "fade in"
+     *
+     * @param horizontalSwipeAnimation The horizontal swipe animation file
+     */
+    public void setHorizontalSwipeAnimation(int horizontalSwipeAnimation)
+    {
+        dcProperties.horizontalSwipeAnimation = horizontalSwipeAnimation;
+    }
+
+    /**
+     * Sets the vertical swipe animation
+     *
+     * NOTE: Default animation is "fade in"
+     *
+     * @param verticalSwipeAnimation The vertical swipe animation file
+     */
+    public void setVerticalSwipeAnimation(int verticalSwipeAnimation)
+    {
+        dcProperties.verticalSwipeAnimation = verticalSwipeAnimation;
+    }
+
+    /**
+     * Sets the show previous and next buttons status
+     *
+     * NOTE: Default is true
+     *
+     * @param showPrevAndNextButtons True - show previous and next buttons, False - if otherwise
+     */
+    public void setShowPrevAndNextButtons(boolean showPrevAndNextButtons)
+    {
+        dcProperties.showPrevAndNextButtons = showPrevAndNextButtons;
+
+        previous.setVisibility(showPrevAndNextButtons ? VISIBLE : INVISIBLE);
+        next.setVisibility(showPrevAndNextButtons ? VISIBLE : INVISIBLE);
+    }
+
+    /**
+     * Sets the Droid Calendar horizontal swipe status
+     *
+     * NOTE: Default is false
+     *
+     * @param enableHorizontalSwipe True - horizontal swipe will be enabled, False - if otherwise
+     */
+    public void setDCEnableHorizontalSwipe(boolean enableHorizontalSwipe)
+    {
+        dcProperties.enableHorizontalSwipe = enableHorizontalSwipe;
+    }
+
+    /**
+     * Sets the Droid Calendar vertical swipe status
+     *
+     * NOTE: Default is false
+     *
+     * @param enableVerticalSwipe True - vertical swipe will be enabled, False - if otherwise
+     */
+    public void setDCEnableVerticalSwipe(boolean enableVerticalSwipe)
+    {
+        dcProperties.enableVerticalSwipe = enableVerticalSwipe;
+    }
+
+    /**
+     * Sets the Droid Calendar show swipe animation status
+     *
+     * NOTE: Default is false
+     *
+     * @param showSwipeAnimation True - show swipe animation, False - if otherwise
+     */
+    public void setDCShowSwipeAnimation(boolean showSwipeAnimation)
+    {
+        dcProperties.showSwipeAnimation = showSwipeAnimation;
+    }
+
+    /**
+     * Sets the Droid Calendar show column separator status for day headers
+     *
+     * NOTE: Default is false
+     *
+     * @param showDaysHeaderColSeparator True - show days header column separator, False - if otherwise
+     */
+    public void setDCShowDaysHeaderColSeparator(final boolean showDaysHeaderColSeparator)
+    {
+        setDCStyleOverride(new DCStyleOverride()
+        {
+            @Override
+            public void apply(DCStyle.Builder builder)
+            {
+                builder.setShowDaysHeaderColSeparator(showDaysHeaderColSeparator);
+            }
+        });
+    }
+
+    /**
+     * Sets the Droid Calendar show column separator status
+     *
+     * NOTE: Default is false
+     *
+     * @param showColSeparator True - show column separator, False - if otherwise
+     */
+    public void setDCShowColSeparator(final boolean showColSeparator)
+    {
+        setDCStyleOverride(new DCStyleOverride()
+        {
+            @Override
+            public void apply(DCStyle.Builder builder)
+            {
+                builder.setShowColSeparator(showColSeparator);
+            }
+        });
+    }
+
+    /**
+     * Sets the Droid Calendar show row separator status for day headers
+     *
+     * NOTE: Default is false
+     *
+     * @param showDaysHeaderRowSeparator True - show days header row separator, False - if otherwise
+     */
+    public void setDCShowDaysHeaderRowSeparator(final boolean showDaysHeaderRowSeparator)
+    {
+        setDCStyleOverride(new DCStyleOverride()
+        {
+            @Override
+            public void apply(DCStyle.Builder builder)
+            {
+                builder.setShowDaysHeaderRowSeparator(showDaysHeaderRowSeparator);
+            }
+        });
+    }
+
+    /**
+     * Sets the Droid Calendar show row separator status
+     *
+     * NOTE: Default is true
      *
-     * @param color The desired color
+     * @param showRowSeparator True - show row separator, False - if otherwise
      */
-    public void setDCDaysHeadersTextColor(int color)
+    public void setDCShowRowSeparator(final boolean showRowSeparator)
     {
-        dcProperties.daysHeadersTextColor = color;
-
-        updateDCPropertiesInAdapter();
+        setDCStyleOverride(new DCStyleOverride()
+        {
+            @Override
+            public void apply(DCStyle.Builder builder)
+            {
+                builder.setShowRowSeparator(showRowSeparator);
+            }
+        });
     }
 
     /**
-     * Sets the Droid Calendar days headers text size
+     * Sets the Droid Calendar show past and future month dates status
      *
-     * NOTE: Max size allowed "22f"
+     * NOTE: Default is false
      *
-     * @param size The desired size
+     * @param showPastAndFutureMonthDates True - shows past and future months dates if applicable, False if otherwise
      */
-    public void setDCDaysHeaderTextSize(float size)
+    public void setDCShowPastAndFutureMonthDates(final boolean showPastAndFutureMonthDates)
     {
-        if(size > dcProperties.maxDaysTextSize)
+        setDCStyleOverride(new DCStyleOverride()
         {
-            size = dcProperties.maxDaysTextSize;
-        }
-
-        dcProperties.daysHeaderTextSize = size;
-
-        updateDCPropertiesInAdapter();
+            @Override
+            public void apply(DCStyle.Builder builder)
+            {
+                builder.setShowPastAndFutureMonthDates(showPastAndFutureMonthDates);
+            }
+        });
     }
 
     /**
-     * Sets the Droid Calendar days header text style (NORMAL, BOLD, ITALIC, BOLD ITALIC)
+     * Sets the Droid Calendar show day sub value status
      *
-     * @param style The desired style
+     * NOTE: Default is false
+     *
+     * @param showDaySubValue True - show day sub value, False - if otherwise
      */
-    public void setDCDaysHeaderTextStyle(int style)
+    public void setDCShowDaySubValue(final boolean showDaySubValue)
     {
-        dcProperties.daysHeaderTextStyle = style;
-
-        updateDCPropertiesInAdapter();
+        setDCStyleOverride(new DCStyleOverride()
+        {
+            @Override
+            public void apply(DCStyle.Builder builder)
+            {
+                builder.setShowDaySubValue(showDaySubValue);
+            }
+        });
     }
 
     /**
-     * Sets the Droid Calendar days layout bg color
+     * Sets the Droid Calendar all dates clickable status
      *
-     * @param color The desired color
+     * NOTE: Default is true
+     *
+     * @param allDatesClickable True - all dates will be clickable, False - if otherwise
      */
-    public void setDCDaysLayoutBGColor(int color)
+    public void setDCAllDatesClickable(boolean allDatesClickable)
     {
-        dcProperties.daysLayoutBGColor = color;
+        dcProperties.allDatesClickable = allDatesClickable;
 
-        updateDCPropertiesInAdapter();
+        updateDCProperties(CHANGE_DRAW);
     }
 
     /**
-     * Sets the Droid Calendar days text color
+     * Sets the Droid Calendar to enable only current & future dates
      *
-     * @param color The desired color
+     * NOTE: Default is false. Applicable only when all dates are clickable.
+     *
+     * @param enableOnlyFutureDates True - current & future dates will be enabled, False - if otherwise
      */
-    public void setDCDaysTextColor(int color)
+    public void setDCEnableOnlyFutureDates(boolean enableOnlyFutureDates)
     {
-        dcProperties.daysTextColor = color;
+        dcProperties.enableOnlyFutureDates = enableOnlyFutureDates;
 
-        updateDCPropertiesInAdapter();
+        updateDCProperties(CHANGE_DRAW);
     }
 
     /**
-     * Sets the Droid Calendar days sub text color
+     * Sets the Droid Calendar expanded status
      *
-     * @param color The desired color
+     * NOTE: Default is false
+     *
+     * @param expanded True - view will not be scrollable, False - view will be scrollable
      */
-    public void setDCDaysSubTextColor(int color)
+    public void setDCExpanded(boolean expanded)
     {
-        dcProperties.daysSubTextColor = color;
-
-        updateDCPropertiesInAdapter();
+        dcGV.setExpanded(expanded);
     }
 
     /**
-     * Sets the Droid Calendar days text size
+     * Sets the Droid Calendar first day of week (the days header and month dates start from this day)
      *
-     * NOTE: Max size allowed "22f"
+     * NOTE: Default is Monday. Values follow ISO (Joda DateTimeConstants), 1 - Monday ... 7 - Sunday
      *
-     * @param size The desired size
+     * @param firstDayOfWeek The desired first day of week
      */
-    public void setDCDaysTextSize(float size)
+    public void setDCFirstDayOfWeek(int firstDayOfWeek)
     {
-        if(size > dcProperties.maxDaysTextSize)
+        if(firstDayOfWeek < 1 || firstDayOfWeek > DCFormats.DAYS_IN_A_WEEK.length)
         {
-            size = dcProperties.maxDaysTextSize;
+            return;
         }
 
-        dcProperties.daysTextSize = size;
+        dcProperties.firstDayOfWeek = firstDayOfWeek;
 
-        updateDCPropertiesInAdapter();
+        dcMonthProvider.setFirstDayOfWeek(firstDayOfWeek);
+        dcMonthPrefetcher.setMonthProvider(dcMonthProvider);
+
+        // Rebuilding the on screen month with the new first day of week
+        moveCalendar(dcProperties.dcPosition);
     }
 
     /**
-     * Sets the Droid Calendar days sub text size
+     * Sets the Droid Calendar style, the style is shared by reference (no copy)
      *
-     * NOTE: Max size allowed "14f"
+     * NOTE: The view stops following its theme (if any) & the style overrides are cleared. The individual style setters
+     * (e.g. setDCDaysTextColor) keep the theme, they override their property on top of the theme style.
      *
-     * @param size The desired size
+     * @param style The desired style, null resets to the default style
      */
-    public void setDCDaysSubTextSize(float size)
+    public void setDCStyle(DCStyle style)
     {
-        if(size > dcProperties.maxDaysSubTextSize)
+        if(dcTheme != null)
         {
-            size = dcProperties.maxDaysSubTextSize;
+            dcTheme.removeView(this);
+            dcTheme = null;
         }
 
-        dcProperties.daysSubTextSize = size;
+        dcStyleOverrides.clear();
 
-        updateDCPropertiesInAdapter();
+        updateDCStyle(style != null ? style : DCStyle.DEFAULT);
     }
 
     /**
-     * Sets the Droid Calendar text style (NORMAL, BOLD, ITALIC, BOLD ITALIC)
+     * Gets the Droid Calendar style
      *
-     * @param style The desired style
+     * @return The current style
      */
-    public void setDCDaysTextStyle(int style)
+    public DCStyle getDCStyle()
     {
-        dcProperties.daysTextStyle = style;
-
-        updateDCPropertiesInAdapter();
+        return dcProperties.style;
     }
 
     /**
-     * Sets the Droid Calendar sub text style (NORMAL, BOLD, ITALIC, BOLD ITALIC)
+     * Sets the Droid Calendar theme, the view follows the theme style till another style or theme is set
      *
-     * @param style The desired style
+     * NOTE: The style overrides of the previous theme are cleared. The individual style setters called after this
+     * (e.g. setDCDaysTextColor) override their property on top of the theme style, also when the theme style changes.
+     *
+     * @param theme The desired theme, null stops following the current theme
      */
-    public void setDCDaysSubTextStyle(int style)
+    public void setDCTheme(DCTheme theme)
     {
-        dcProperties.daysSubTextStyle = style;
+        if(dcTheme != null)
+        {
+            dcTheme.removeView(this);
+        }
 
-        updateDCPropertiesInAdapter();
+        dcTheme = theme;
+        dcStyleOverrides.clear();
+
+        if(theme != null)
+        {
+            theme.addView(this);
+
+            updateDCStyle(theme.getStyle());
+        }
     }
 
     /**
-     * Sets the Droid Calendar clickable days bg color
+     * Updates the view with the changed theme style, the style overrides are applied on top of it
      *
-     * @param color The desired color
+     * @param theme The changed theme
      */
-    public void setDCClickableDaysBGColor(int color)
+    void onDCThemeChanged(DCTheme theme)
     {
-        dcProperties.clickableDaysBGColor = color;
-
-        updateDCPropertiesInAdapter();
+        if(theme == dcTheme)
+        {
+            updateDCStyle(getThemeStyle(theme));
+        }
     }
 
     /**
-     * Sets the Droid Calendar clickable days text color
+     * Sets the Droid Calendar event indicator style (EVENT_INDICATOR_DOTS - a dot per event, EVENT_INDICATOR_BARS - a bar per event spanning its days)
      *
-     * @param color The desired color
+     * NOTE: Default is EVENT_INDICATOR_DOTS
+     *
+     * @param style The desired style
      */
-    public void setDCClickableDaysTextColor(int color)
+    public void setDCEventIndicatorStyle(final int style)
     {
-        dcProperties.clickableDaysTextColor = color;
+        if(style < EVENT_INDICATOR_DOTS || style > EVENT_INDICATOR_BARS)
+        {
+            return;
+        }
 
-        updateDCPropertiesInAdapter();
+        setDCStyleOverride(new DCStyleOverride()
+        {
+            @Override
+            public void apply(DCStyle.Builder builder)
+            {
+                builder.setEventIndicatorStyle(style);
+            }
+        });
     }
 
     /**
-     * Sets the Droid Calendar clicked day bg color
+     * Adds the Droid Calendar event, the on screen month is redrawn if it shows any day of the event
      *
-     * @param color The desired color
+     * @param event The event
      */
-    public void setDCClickedDayBGColor(int color)
+    public void addDCEvent(DCEvent event)
     {
-        dcProperties.clickedDayBGColor = color;
+        if(event != null)
+        {
+            dcProperties.eventIndex.add(event);
 
-        updateDCPropertiesInAdapter();
+            updateEventsInRenderer(event.startEpochDay, event.endEpochDay);
+        }
     }
 
     /**
-     * Sets the Droid Calendar clicked day text color
+     * Adds the Droid Calendar events in one call, the on screen month is redrawn once
      *
-     * @param color The desired color
+     * @param events The events
      */
-    public void setDCClickedDayTextColor(int color)
+    public void addDCEvents(Collection<DCEvent> events)
     {
-        dcProperties.clickedDayTextColor = color;
+        if(events == null || events.isEmpty())
+        {
+            return;
+        }
 
-        updateDCPropertiesInAdapter();
+        int startEpochDay = Integer.MAX_VALUE;
+        int endEpochDay = Integer.MIN_VALUE;
+
+        for(DCEvent event: events)
+        {
+            if(event != null)
+            {
+                startEpochDay = Math.min(startEpochDay, event.startEpochDay);
+                endEpochDay = Math.max(endEpochDay, event.endEpochDay);
+            }
+        }
+
+        dcProperties.eventIndex.addAll(events);
+
+        updateEventsInRenderer(startEpochDay, endEpochDay);
     }
 
     /**
-     * Sets the Droid Calendar clicked day sub text color
+     * Removes the Droid Calendar event
      *
-     * @param color The desired color
+     * @param event The event
+     *
+     * @return True - event was removed, False - if otherwise
      */
-    public void setDCClickedDaySubTextColor(int color)
+    public boolean removeDCEvent(DCEvent event)
     {
-        dcProperties.clickedDaySubTextColor = color;
+        if(event != null && dcProperties.eventIndex.remove(event))
+        {
+            updateEventsInRenderer(event.startEpochDay, event.endEpochDay);
 
-        updateDCPropertiesInAdapter();
+            return true;
+        }
+
+        return false;
     }
 
     /**
-     * Sets the Droid Calendar column separator color
-     *
-     * @param color The desired color
+     * Removes all the Droid Calendar events
      */
-    public void setDCColSeparatorColor(int color)
+    public void clearDCEvents()
     {
-        dcProperties.colSeparatorColor = color;
+        dcProperties.eventIndex.clear();
 
-        updateDCPropertiesInAdapter();
+        updateDCProperties(CHANGE_DRAW);
     }
 
     /**
-     * Sets the Droid Calendar row separator color
+     * Gets the Droid Calendar events overlapping the date range
      *
-     * @param color The desired color
+     * @param startDate The range start date, NOTE: Date format should be "d/M/YYYY"
+     *
+     * @param endDate The range end date (included), NOTE: Date format should be "d/M/YYYY"
+     *
+     * @return The events sorted by start date, empty if the dates are invalid
      */
-    public void setDCRowSeparatorColor(int color)
+    public List<DCEvent> getDCEvents(String startDate, String endDate)
     {
-        dcProperties.rowSeparatorColor = color;
+        try
+        {
+            return dcProperties.eventIndex.query(DCUtil.getEpochDay(startDate, DCFormats.DC_DMY_FORMAT, Locale.US), DCUtil.getEpochDay(endDate, DCFormats.DC_DMY_FORMAT, Locale.US));
+        }
+        catch (Exception e)
+        {
+            e.printStackTrace();
 
-        updateDCPropertiesInAdapter();
+            return Collections.emptyList();
+        }
     }
 
     /**
-     * Sets the horizontal swipe animation
-     *
-     * NOTE: Default animation is "fade in"
+     * Gets the Droid Calendar events count
      *
-     * @param horizontalSwipeAnimation The horizontal swipe animation file
+     * @return The events count
      */
-    public void setHorizontalSwipeAnimation(int horizontalSwipeAnimation)
+    public int getDCEventCount()
     {
-        dcProperties.horizontalSwipeAnimation = horizontalSwipeAnimation;
+        return dcProperties.eventIndex.size();
     }
 
     /**
-     * Sets the vertical swipe animation
+     * Imports the Droid Calendar events from an iCalendar (.ics) stream on a background thread, the stream is closed when the import ends
      *
-     * NOTE: Default animation is "fade in"
+     * NOTE: The stream is read in chunks without holding the whole file in memory. The events are shown in batches while the import
+     * is in progress. Only the DTSTART, DTEND (or DURATION) & SUMMARY of each VEVENT are imported, UTC & TZID date-times are moved to the local day of the DCTimeSource time zone.
      *
-     * @param verticalSwipeAnimation The vertical swipe animation file
+     * @param inputStream The iCalendar stream
+     *
+     * @param totalBytes The stream bytes count for the progress, -1 if not known
+     *
+     * @param color The indicator color of the imported events
+     *
+     * @param onDCImportListener The class instance to initialize the listener, can be null
      */
-    public void setVerticalSwipeAnimation(int verticalSwipeAnimation)
+    public void importDCEvents(InputStream inputStream, long totalBytes, int color, OnDCImportListener onDCImportListener)
     {
-        dcProperties.verticalSwipeAnimation = verticalSwipeAnimation;
+        if(inputStream != null)
+        {
+            dcEventImportRunner.start(dcProperties.eventIndex, inputStream, totalBytes, color, onDCImportListener);
+        }
     }
 
     /**
-     * Sets the show previous and next buttons status
+     * Imports the Droid Calendar events from an iCalendar (.ics) file on a background thread
      *
-     * NOTE: Default is true
+     * NOTE: The file is read through memory mapped windows without holding the whole file in memory. The events are shown in batches
+     * while the import is in progress. Only the DTSTART, DTEND (or DURATION) & SUMMARY of each VEVENT are imported, UTC & TZID date-times are moved to the local day of the DCTimeSource time zone.
      *
-     * @param showPrevAndNextButtons True - show previous and next buttons, False - if otherwise
+     * @param file The iCalendar file
+     *
+     * @param color The indicator color of the imported events
+     *
+     * @param onDCImportListener The class instance to initialize the listener, can be null
      */
-    public void setShowPrevAndNextButtons(boolean showPrevAndNextButtons)
+    public void importDCEvents(File file, int color, OnDCImportListener onDCImportListener)
     {
-        dcProperties.showPrevAndNextButtons = showPrevAndNextButtons;
-
-        previous.setVisibility(showPrevAndNextButtons ? VISIBLE : INVISIBLE);
-        next.setVisibility(showPrevAndNextButtons ? VISIBLE : INVISIBLE);
+        if(file != null)
+        {
+            dcEventImportRunner.start(dcProperties.eventIndex, file, color, onDCImportListener);
+        }
     }
 
     /**
-     * Sets the Droid Calendar horizontal swipe status
-     *
-     * NOTE: Default is false
-     *
-     * @param enableHorizontalSwipe True - horizontal swipe will be enabled, False - if otherwise
+     * Cancels the Droid Calendar event imports in progress, the events imported so far are kept
      */
-    public void setDCEnableHorizontalSwipe(boolean enableHorizontalSwipe)
+    public void cancelDCEventImports()
     {
-        dcProperties.enableHorizontalSwipe = enableHorizontalSwipe;
+        dcEventImportRunner.cancel();
     }
 
     /**
-     * Sets the Droid Calendar vertical swipe status
+     * Sets the Droid Calendar render mode
      *
-     * NOTE: Default is false
+     * NOTE: Default is RENDER_MODE_GRID (grid view of date cells). RENDER_MODE_CANVAS draws the whole month in a single view,
+     * which keeps the view count & bind cost per month constant. The canvas mode is not scrollable and always shows the full month.
+     * RENDER_MODE_RECYCLER shows the date cells in a recycler view, date clicks & sub value updates only rebind the affected dates.
      *
-     * @param enableVerticalSwipe True - vertical swipe will be enabled, False - if otherwise
+     * @param renderMode The desired render mode (RENDER_MODE_GRID, RENDER_MODE_CANVAS, RENDER_MODE_RECYCLER)
      */
-    public void setDCEnableVerticalSwipe(boolean enableVerticalSwipe)
+    public void setDCRenderMode(int renderMode)
     {
-        dcProperties.enableVerticalSwipe = enableVerticalSwipe;
+        if(renderMode != RENDER_MODE_GRID && renderMode != RENDER_MODE_CANVAS && renderMode != RENDER_MODE_RECYCLER)
+        {
+            return;
+        }
+
+        this.renderMode = renderMode;
+
+        dcGV.setVisibility(renderMode == RENDER_MODE_GRID ? View.VISIBLE : View.GONE);
+        dcMonthView.setVisibility(renderMode == RENDER_MODE_CANVAS ? View.VISIBLE : View.GONE);
+        dcRV.setVisibility(renderMode == RENDER_MODE_RECYCLER ? View.VISIBLE : View.GONE);
+
+        // Bringing the active renderer up to date
+        updateDCPropertiesInAdapter();
+        setDcDataInRenderer(dcMonthProvider.getMonth(dcProperties.dcPosition));
     }
 
     /**
-     * Sets the Droid Calendar show swipe animation status
+     * Sets the Droid Calendar month window size, only these many recently viewed months are kept in memory
      *
-     * NOTE: Default is false
+     * NOTE: Default is 7, the window always holds at least the on screen and prefetched months
      *
-     * @param showSwipeAnimation True - show swipe animation, False - if otherwise
+     * @param monthWindowSize The desired month window size
      */
-    public void setDCShowSwipeAnimation(boolean showSwipeAnimation)
+    public void setDCMonthWindowSize(int monthWindowSize)
     {
-        dcProperties.showSwipeAnimation = showSwipeAnimation;
+        dcProperties.monthWindowSize = monthWindowSize;
+
+        dcMonthProvider.setWindowSize(monthWindowSize);
+        dcMonthPrefetcher.ensureWindowSize();
     }
 
     /**
-     * Sets the Droid Calendar show column separator status for day headers
+     * Sets the number of months prefetched in the background on each side of the on screen month
      *
-     * NOTE: Default is false
+     * NOTE: Default is 1, 0 disables prefetching
      *
-     * @param showDaysHeaderColSeparator True - show days header column separator, False - if otherwise
+     * @param prefetchMonths The desired number of months
      */
-    public void setDCShowDaysHeaderColSeparator(boolean showDaysHeaderColSeparator)
+    public void setDCPrefetchMonths(int prefetchMonths)
     {
-        dcProperties.showDaysHeaderColSeparator = showDaysHeaderColSeparator;
-
-        updateDCPropertiesInAdapter();
+        dcMonthPrefetcher.setPrefetchMonths(prefetchMonths);
+        dcMonthPrefetcher.prefetch(dcProperties.dcPosition);
+        dcSubValueLoader.load(dcProperties.dcPosition, dcMonthPrefetcher.getPrefetchMonths());
     }
 
     /**
-     * Sets the Droid Calendar show column separator status
+     * Gets the number of month navigations which found the month already prefetched
      *
-     * NOTE: Default is false
-     *
-     * @param showColSeparator True - show column separator, False - if otherwise
+     * @return The prefetch hits count
      */
-    public void setDCShowColSeparator(boolean showColSeparator)
+    public long getDCPrefetchHitCount()
     {
-        dcProperties.showColSeparator = showColSeparator;
-
-        updateDCPropertiesInAdapter();
+        return dcMonthPrefetcher.getPrefetchHits();
     }
 
     /**
-     * Sets the Droid Calendar show row separator status for day headers
-     *
-     * NOTE: Default is false
+     * Gets the number of month navigations which had to build the month on the UI thread
      *
-     * @param showDaysHeaderRowSeparator True - show days header row separator, False - if otherwise
+     * @return The prefetch misses count
      */
-    public void setDCShowDaysHeaderRowSeparator(boolean showDaysHeaderRowSeparator)
+    public long getDCPrefetchMissCount()
     {
-        dcProperties.showDaysHeaderRowSeparator = showDaysHeaderRowSeparator;
-
-        updateDCPropertiesInAdapter();
+        return dcMonthPrefetcher.getPrefetchMisses();
     }
 
     /**
-     * Sets the Droid Calendar show row separator status
+     * Sets the Droid Calendar disk cache directory, the dates sub values are kept on disk, so the calendar shows the
+     * cached sub values right after a cold start without waiting for the sub value provider
      *
-     * NOTE: Default is true
+     * NOTE: Disabled by default, set it before setting the Droid Calendar data (e.g. context.getCacheDir()).
+     * The cache is keyed by the month range, stale or corrupted cache files are deleted. The cached sub values are
+     * loaded and saved (when the view is detached from the window) on a background thread
      *
-     * @param showRowSeparator True - show row separator, False - if otherwise
+     * @param directory The desired cache directory, null disables the disk cache
      */
-    public void setDCShowRowSeparator(boolean showRowSeparator)
+    public void setDCDiskCache(File directory)
     {
-        dcProperties.showRowSeparator = showRowSeparator;
+        dcProperties.diskCacheDirectory = directory;
 
-        updateDCPropertiesInAdapter();
+        dcMonthProvider.setDiskCache(directory, diskCacheLoaded);
     }
 
     /**
-     * Sets the Droid Calendar show past and future month dates status
+     * Sets the Droid Calendar sub value provider, the provider is called on a background thread for the on screen & the prefetched months
      *
-     * NOTE: Default is false
+     * NOTE: Each month is requested once, the returned sub values replace the month sub values with a single update.
+     * Loads of the months which scroll away are cancelled
      *
-     * @param showPastAndFutureMonthDates True - shows past and future months dates if applicable, False if otherwise
+     * @param subValueProvider The desired sub value provider, null stops loading the sub values
      */
-    public void setDCShowPastAndFutureMonthDates(boolean showPastAndFutureMonthDates)
+    public void setDCSubValueProvider(DCSubValueProvider subValueProvider)
     {
-        dcProperties.showPastAndFutureMonthDates = showPastAndFutureMonthDates;
+        dcSubValueLoader.setSubValueProvider(subValueProvider);
+        dcSubValueLoader.load(dcProperties.dcPosition, dcMonthPrefetcher.getPrefetchMonths());
+    }
 
-        updateDCPropertiesInAdapter();
+    /**
+     * Requests the sub values of the months again from the sub value provider (e.g. the provider data changed)
+     */
+    public void refreshDCSubValues()
+    {
+        dcSubValueLoader.reset();
+        dcSubValueLoader.load(dcProperties.dcPosition, dcMonthPrefetcher.getPrefetchMonths());
     }
 
     /**
-     * Sets the Droid Calendar show day sub value status
+     * Sets the time source Droid Calendar uses to find today's date (shared by all Droid Calendar views)
      *
-     * NOTE: Default is false
+     * NOTE: Default is the system time & time zone. A fixed time source keeps the current & future dates deterministic (e.g. in tests)
      *
-     * @param showDaySubValue True - show day sub value, False - if otherwise
+     * @param timeSource The desired time source, null resets to the system time source
      */
-    public void setDCShowDaySubValue(boolean showDaySubValue)
+    public static void setDCTimeSource(DCTimeSource timeSource)
     {
-        dcProperties.showDaySubValue = showDaySubValue;
-
-        updateDCPropertiesInAdapter();
+        DCClock.setTimeSource(timeSource);
     }
 
     /**
-     * Sets the Droid Calendar all dates clickable status
+     * Prewarms the Droid Calendar stack (shared by all Droid Calendar views), so the first calendar doesn't load it on the UI thread
      *
-     * NOTE: Default is true
+     * NOTE: Call it from a background thread (e.g. during the splash screen). Loads Joda-Time & the time zone data, builds the
+     * date formatters & the locale tables, loads the font awesome typeface and creates a pool of date cells (with the
+     * application context & theme). Calling it again only reports the lookups of the already loaded pieces
      *
-     * @param allDatesClickable True - all dates will be clickable, False - if otherwise
+     * @param context The application context
+     *
+     * @param locale The locale the calendars will be shown in
+     *
+     * @return The phases (PREWARM_PHASE_TIME_ZONE, PREWARM_PHASE_FORMATTERS, PREWARM_PHASE_LOCALE_TABLES, PREWARM_PHASE_TYPEFACE,
+     * PREWARM_PHASE_CELL_VIEWS) & their durations in nanoseconds, in the order they ran
      */
-    public void setDCAllDatesClickable(boolean allDatesClickable)
+    public static Map<String, Long> prewarmDC(Context context, Locale locale)
     {
-        dcProperties.allDatesClickable = allDatesClickable;
-
-        updateDCPropertiesInAdapter();
+        return DCPrewarm.prewarm(context, locale != null ? locale : Locale.US);
     }
 
     /**
-     * Sets the Droid Calendar to enable only current & future dates
-     *
-     * NOTE: Default is false. Applicable only when all dates are clickable.
+     * Gets the Droid Calendar date formatter cache hits count (shared by all Droid Calendar views)
      *
-     * @param enableOnlyFutureDates True - current & future dates will be enabled, False - if otherwise
+     * @return The formatter cache hits count
      */
-    public void setDCEnableOnlyFutureDates(boolean enableOnlyFutureDates)
+    public static long getDCFormatterCacheHitCount()
     {
-        dcProperties.enableOnlyFutureDates = enableOnlyFutureDates;
-
-        updateDCPropertiesInAdapter();
+        return DCUtil.getFormatterCacheHits();
     }
 
     /**
-     * Sets the Droid Calendar expanded status
-     *
-     * NOTE: Default is false
+     * Gets the Droid Calendar date formatter cache misses count (shared by all Droid Calendar views)
      *
-     * @param expanded True - view will not be scrollable, False - view will be scrollable
+     * @return The formatter cache misses count
      */
-    public void setDCExpanded(boolean expanded)
+    public static long getDCFormatterCacheMissCount()
     {
-        dcGV.setExpanded(expanded);
+        return DCUtil.getFormatterCacheMisses();
     }
 
     // MARK: OnDCDatesListener Methods
@@ -1176,4 +2431,4 @@ public class DCView extends LinearLayout implements OnDCDatesListener
             e.printStackTrace();
         }
     }
-}
\ No newline at end of file
+}
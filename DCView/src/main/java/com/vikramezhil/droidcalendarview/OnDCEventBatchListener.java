@@ -0,0 +1,23 @@
+package com.vikramezhil.droidcalendarview;
+
+/**
+ * Droid Calendar Event Batch Listener
+ *
+ * @author Vikram Ezhil
+ */
+
+interface OnDCEventBatchListener
+{
+    /**
+     * Sends an update when a batch of events was added to the event index
+     *
+     * @param startEpochDay The batch events range start epoch day
+     *
+     * @param endEpochDay The batch events range end epoch day (included)
+     *
+     * @param eventsImported The events imported so far
+     *
+     * @param bytesRead The bytes read so far
+     */
+    void onEventsImported(int startEpochDay, int endEpochDay, int eventsImported, long bytesRead);
+}
@@ -0,0 +1,35 @@
+package com.vikramezhil.droidcalendarview;
+
+/**
+ * Droid Calendar Import Listener
+ *
+ * @author Vikram Ezhil
+ */
+
+public interface OnDCImportListener
+{
+    /**
+     * Sends an update with the import progress, the imported events are already shown in the calendar
+     *
+     * @param bytesRead The bytes read so far
+     *
+     * @param totalBytes The total bytes, -1 if not known
+     *
+     * @param eventsImported The events imported so far
+     */
+    void onDCImportProgress(long bytesRead, long totalBytes, int eventsImported);
+
+    /**
+     * Sends an update when the import is complete
+     *
+     * @param eventsImported The events imported
+     */
+    void onDCImportComplete(int eventsImported);
+
+    /**
+     * Sends an update if the import failed, the events imported before the failure are kept
+     *
+     * @param e The exception
+     */
+    void onDCImportError(Exception e);
+}
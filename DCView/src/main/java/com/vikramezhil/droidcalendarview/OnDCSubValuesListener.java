@@ -0,0 +1,25 @@
+package com.vikramezhil.droidcalendarview;
+
+/**
+ * Droid Calendar Sub Values Listener
+ *
+ * @author Vikram Ezhil
+ */
+
+interface OnDCSubValuesListener
+{
+    /**
+     * Sends an update with the loaded dates sub values of a month, called on the UI thread
+     *
+     * @param calendarPosition The calendar position
+     *
+     * @param dcMonthGrid The month grid the sub values were loaded for (its month dates sub values are replaced)
+     *
+     * @param epochDays The loaded dates epoch days
+     *
+     * @param subValues The loaded sub values (null sub values are removed)
+     *
+     * @param count The loaded dates count
+     */
+    void onSubValuesLoaded(int calendarPosition, DCMonthGrid dcMonthGrid, int[] epochDays, String[] subValues, int count);
+}
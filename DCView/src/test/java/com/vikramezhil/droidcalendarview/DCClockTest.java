@@ -0,0 +1,125 @@
+package com.vikramezhil.droidcalendarview;
+
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Droid Calendar Clock Test
+ *
+ * Walks a fake time source through 2 years (in 20 minute steps, forwards & backwards) in time zones with daylight saving
+ * changes at & around midnight, and checks the cached today's epoch day against the Joda local date of each time
+ *
+ * @author Vikram Ezhil
+ */
+
+public class DCClockTest
+{
+    private static final long STEP_MILLIS = 20L * 60 * 1000;
+    private static final long START_MILLIS = 1293840000000L; // 1/1/2011 UTC
+    private static final long END_MILLIS = 1356998400000L; // 1/1/2013 UTC
+    private static final String[] TIME_ZONES = new String[] {"UTC", "America/New_York", "America/Sao_Paulo", "Australia/Lord_Howe", "Pacific/Apia", "Asia/Kolkata"};
+
+    private final TestTimeSource timeSource = new TestTimeSource();
+
+    @After
+    public void tearDown()
+    {
+        DCClock.setTimeSource(null);
+    }
+
+    /**
+     * Checks today's epoch day while the time moves forwards
+     */
+    @Test
+    public void todayFollowsLocalMidnights()
+    {
+        DCClock.setTimeSource(timeSource);
+
+        for(String timeZoneId: TIME_ZONES)
+        {
+            timeSource.timeZone = TimeZone.getTimeZone(timeZoneId);
+            DCClock.refresh();
+
+            for(timeSource.now = START_MILLIS; timeSource.now < END_MILLIS; timeSource.now += STEP_MILLIS)
+            {
+                assertToday();
+            }
+        }
+    }
+
+    /**
+     * Checks today's epoch day while the time moves backwards (e.g. the user sets the clock back)
+     */
+    @Test
+    public void todayFollowsClockMovingBack()
+    {
+        DCClock.setTimeSource(timeSource);
+
+        for(String timeZoneId: TIME_ZONES)
+        {
+            timeSource.timeZone = TimeZone.getTimeZone(timeZoneId);
+            DCClock.refresh();
+
+            for(timeSource.now = END_MILLIS; timeSource.now > START_MILLIS; timeSource.now -= STEP_MILLIS)
+            {
+                assertToday();
+            }
+        }
+    }
+
+    /**
+     * Checks the refresh picks up a time zone change within the cached day
+     */
+    @Test
+    public void refreshPicksUpTimeZoneChange()
+    {
+        DCClock.setTimeSource(timeSource);
+
+        timeSource.now = 1356955200000L; // 31/12/2012 12:00 UTC
+        timeSource.timeZone = TimeZone.getTimeZone("UTC");
+        assertToday();
+
+        timeSource.timeZone = TimeZone.getTimeZone("Pacific/Kiritimati");
+        DCClock.refresh();
+        assertToday();
+        assertEquals(DCUtil.getEpochDay(2013, 1, 1), DCClock.getTodayEpochDay());
+    }
+
+    // MARK: DCClockTest Private Methods
+
+    /**
+     * Asserts today's epoch day is the local date of the time source
+     */
+    private void assertToday()
+    {
+        LocalDate localDate = new LocalDate(timeSource.now, DateTimeZone.forTimeZone(timeSource.timeZone));
+        int epochDay = DCUtil.getEpochDay(localDate.getYear(), localDate.getMonthOfYear(), localDate.getDayOfMonth());
+
+        assertEquals(timeSource.timeZone.getID() + " at " + timeSource.now, epochDay, DCClock.getTodayEpochDay());
+    }
+
+    /**
+     * Time source with a settable time & time zone
+     */
+    private static class TestTimeSource implements DCTimeSource
+    {
+        long now;
+        TimeZone timeZone;
+
+        public long getCurrentTimeMillis()
+        {
+            return now;
+        }
+
+        public TimeZone getTimeZone()
+        {
+            return timeZone;
+        }
+    }
+}
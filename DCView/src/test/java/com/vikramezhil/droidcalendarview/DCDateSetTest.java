@@ -0,0 +1,136 @@
+package com.vikramezhil.droidcalendarview;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Droid Calendar Date Set Test
+ *
+ * Checks the date set against a hash set of epoch days, while dates & date ranges are added and removed around a moving
+ * origin (descending adds, bulk adds & ranges before the earliest date)
+ *
+ * @author Vikram Ezhil
+ */
+
+public class DCDateSetTest
+{
+    private static final int START_EPOCH_DAY = 17000;
+    private static final int DAYS = 4000;
+    private static final int OPERATIONS = 20000;
+
+    /**
+     * Checks the random adds & removes against the hash set
+     */
+    @Test
+    public void randomOperationsMatchHashSet()
+    {
+        Random random = new Random(42);
+        DCDateSet dcDateSet = new DCDateSet();
+        Set<Integer> baseline = new HashSet<>();
+
+        for(int operation=0;operation<OPERATIONS;operation++)
+        {
+            int startEpochDay = START_EPOCH_DAY - DAYS / 2 + random.nextInt(DAYS);
+            int endEpochDay = startEpochDay + random.nextInt(10);
+
+            switch (random.nextInt(4))
+            {
+                case 0:
+                    dcDateSet.add(startEpochDay);
+                    baseline.add(startEpochDay);
+                    break;
+
+                case 1:
+                    dcDateSet.addRange(startEpochDay, endEpochDay);
+                    for(int epochDay=startEpochDay;epochDay<=endEpochDay;epochDay++)
+                    {
+                        baseline.add(epochDay);
+                    }
+                    break;
+
+                case 2:
+                    dcDateSet.remove(startEpochDay);
+                    baseline.remove(startEpochDay);
+                    break;
+
+                default:
+                    dcDateSet.removeRange(startEpochDay, endEpochDay);
+                    for(int epochDay=startEpochDay;epochDay<=endEpochDay;epochDay++)
+                    {
+                        baseline.remove(epochDay);
+                    }
+                    break;
+            }
+        }
+
+        assertMatches(baseline, dcDateSet);
+    }
+
+    /**
+     * Checks the dates added in descending order (each one before the origin) stay in the set
+     */
+    @Test
+    public void descendingAddsKeepAllDates()
+    {
+        DCDateSet dcDateSet = new DCDateSet();
+        Set<Integer> baseline = new HashSet<>();
+
+        for(int epochDay=START_EPOCH_DAY + DAYS;epochDay>=START_EPOCH_DAY;epochDay-=3)
+        {
+            dcDateSet.add(epochDay);
+            baseline.add(epochDay);
+        }
+
+        assertMatches(baseline, dcDateSet);
+    }
+
+    /**
+     * Checks the bulk add keeps the dates added earlier and ignores the epoch days past the count
+     */
+    @Test
+    public void addAllKeepsEarlierDates()
+    {
+        DCDateSet dcDateSet = new DCDateSet();
+        dcDateSet.addRange(START_EPOCH_DAY, START_EPOCH_DAY + 6);
+
+        int[] epochDays = new int[] {START_EPOCH_DAY + 100, START_EPOCH_DAY - 50, START_EPOCH_DAY - 1, START_EPOCH_DAY - 500};
+        dcDateSet.addAll(epochDays, 3);
+
+        assertEquals(10, dcDateSet.size());
+        assertTrue(dcDateSet.contains(START_EPOCH_DAY + 3));
+        assertTrue(dcDateSet.contains(START_EPOCH_DAY - 50));
+        assertTrue(dcDateSet.contains(START_EPOCH_DAY + 100));
+        assertFalse(dcDateSet.contains(START_EPOCH_DAY - 500));
+
+        dcDateSet.clear();
+        assertTrue(dcDateSet.isEmpty());
+        assertFalse(dcDateSet.contains(START_EPOCH_DAY));
+    }
+
+    // MARK: DCDateSetTest Private Methods
+
+    /**
+     * Asserts the date set holds the baseline dates only
+     *
+     * @param baseline The baseline epoch days
+     *
+     * @param dcDateSet The date set
+     */
+    private static void assertMatches(Set<Integer> baseline, DCDateSet dcDateSet)
+    {
+        assertEquals(baseline.size(), dcDateSet.size());
+        assertEquals(baseline.isEmpty(), dcDateSet.isEmpty());
+
+        for(int epochDay=START_EPOCH_DAY - DAYS;epochDay<=START_EPOCH_DAY + 2 * DAYS;epochDay++)
+        {
+            assertEquals(String.valueOf(epochDay), baseline.contains(epochDay), dcDateSet.contains(epochDay));
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.vikramezhil.droidcalendarview;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Droid Calendar Disk Cache Test
+ *
+ * Saves & loads the sub values through the cache background thread (waiting on a load waits for the saves queued before
+ * it), including sub values over 64KB, other cache keys, corrupted files & saves which failed
+ *
+ * @author Vikram Ezhil
+ */
+
+public class DCDiskCacheTest
+{
+    private static final int START_EPOCH_DAY = 17532;
+    private static final int END_EPOCH_DAY = START_EPOCH_DAY + 365;
+    private static final String KEY = "216|12";
+
+    private File directory;
+
+    @Before
+    public void setUp() throws IOException
+    {
+        directory = File.createTempFile("dc_cache", "");
+        assertTrue(directory.delete());
+    }
+
+    @After
+    public void tearDown()
+    {
+        deleteFiles(directory);
+    }
+
+    /**
+     * Checks the saved sub values (including a sub value over 64KB) are loaded by a new cache of the same key
+     */
+    @Test
+    public void savedSubValuesAreLoaded() throws Exception
+    {
+        char[] longSubValue = new char[70000];
+        Arrays.fill(longSubValue, '\u00e9');
+
+        DCSubValueStore dcSubValueStore = new DCSubValueStore(START_EPOCH_DAY, END_EPOCH_DAY);
+        dcSubValueStore.set(START_EPOCH_DAY, "1200 kcal");
+        dcSubValueStore.set(START_EPOCH_DAY + 40, new String(longSubValue));
+        dcSubValueStore.set(END_EPOCH_DAY, "");
+
+        DCDiskCache dcDiskCache = new DCDiskCache(directory, KEY);
+        dcDiskCache.saveSubValues(dcSubValueStore);
+
+        DCSubValueStore loadedStore = load(new DCDiskCache(directory, KEY));
+        assertEquals("1200 kcal", loadedStore.get(START_EPOCH_DAY));
+        assertEquals(new String(longSubValue), loadedStore.get(START_EPOCH_DAY + 40));
+        assertEquals("", loadedStore.get(END_EPOCH_DAY));
+        assertNull(loadedStore.get(START_EPOCH_DAY + 1));
+
+        // Other month ranges don't read the file
+        assertNull(load(new DCDiskCache(directory, "216|24")).get(START_EPOCH_DAY));
+    }
+
+    /**
+     * Checks a corrupted sub values file is deleted and nothing is loaded from it
+     */
+    @Test
+    public void corruptedFileIsDeleted() throws Exception
+    {
+        DCSubValueStore dcSubValueStore = new DCSubValueStore(START_EPOCH_DAY, END_EPOCH_DAY);
+        dcSubValueStore.set(START_EPOCH_DAY + 3, "3");
+        new DCDiskCache(directory, KEY).saveSubValues(dcSubValueStore);
+        load(new DCDiskCache(directory, KEY));
+
+        File[] files = directory.listFiles();
+        assertEquals(1, files.length);
+
+        RandomAccessFile file = new RandomAccessFile(files[0], "rw");
+        try
+        {
+            file.seek(file.length() - 1);
+            file.write(file.read() ^ 0xFF);
+        }
+        finally
+        {
+            file.close();
+        }
+
+        assertNull(load(new DCDiskCache(directory, KEY)).get(START_EPOCH_DAY + 3));
+        assertFalse(files[0].exists());
+    }
+
+    /**
+     * Checks a save which failed is written by the next save, without any change to the sub values
+     */
+    @Test
+    public void failedSaveIsRetried() throws Exception
+    {
+        // The cache directory can't be created while a file has its path
+        FileOutputStream blockingFile = new FileOutputStream(directory);
+        blockingFile.close();
+
+        DCSubValueStore dcSubValueStore = new DCSubValueStore(START_EPOCH_DAY, END_EPOCH_DAY);
+        dcSubValueStore.set(START_EPOCH_DAY + 7, "7");
+
+        DCDiskCache dcDiskCache = new DCDiskCache(directory, KEY);
+        dcDiskCache.saveSubValues(dcSubValueStore);
+        load(new DCDiskCache(directory, KEY));
+
+        assertTrue(directory.delete());
+
+        dcDiskCache.saveSubValues(dcSubValueStore);
+        assertEquals("7", load(new DCDiskCache(directory, KEY)).get(START_EPOCH_DAY + 7));
+    }
+
+    // MARK: DCDiskCacheTest Private Methods
+
+    /**
+     * Loads the cached sub values into a new store, waiting for the load (and the saves queued before it)
+     *
+     * @param dcDiskCache The disk cache
+     *
+     * @return The loaded store
+     *
+     * @throws Exception If the load fails
+     */
+    private static DCSubValueStore load(DCDiskCache dcDiskCache) throws Exception
+    {
+        DCSubValueStore dcSubValueStore = new DCSubValueStore(START_EPOCH_DAY, END_EPOCH_DAY);
+        dcDiskCache.loadSubValues(dcSubValueStore, null).get();
+
+        return dcSubValueStore;
+    }
+
+    /**
+     * Deletes the file (or the directory with its files)
+     *
+     * @param file The file
+     */
+    private static void deleteFiles(File file)
+    {
+        File[] files = file.listFiles();
+        if(files != null)
+        {
+            for(File child: files)
+            {
+                deleteFiles(child);
+            }
+        }
+
+        file.delete();
+    }
+}
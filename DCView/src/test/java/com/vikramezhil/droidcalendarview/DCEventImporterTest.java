@@ -0,0 +1,236 @@
+package com.vikramezhil.droidcalendarview;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Droid Calendar Event Importer Test
+ *
+ * Imports an iCalendar with folded lines, nested alarms, all day & date-time ends, durations and UTC & TZID date-times,
+ * through a stream read in small chunks (CRLFs split across the reads), a stream read at once & a file
+ *
+ * @author Vikram Ezhil
+ */
+
+public class DCEventImporterTest
+{
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final String CALENDAR = "BEGIN:VCALENDAR\r\n"
+            + "VERSION:2.0\r\n"
+            + "BEGIN:VTIMEZONE\r\n"
+            + "TZID:Europe/Berlin\r\n"
+            + "BEGIN:STANDARD\r\n"
+            + "DTSTART:19701025T030000\r\n"
+            + "END:STANDARD\r\n"
+            + "END:VTIMEZONE\r\n"
+            + "BEGIN:VEVENT\r\n"
+            + "DTSTART;VALUE=DATE:20240110\r\n"
+            + "DTEND;VALUE=DATE:20240113\r\n"
+            + "SUMMARY:All day\\, three days\r\n"
+            + "END:VEVENT\r\n"
+            + "BEGIN:VEVENT\r\n"
+            + "DTSTART:20240115T090000\r\n"
+            + "DTEND:20240116T100000\r\n"
+            + "SUMMARY:Date-time end\r\n"
+            + "END:VEVENT\r\n"
+            + "BEGIN:VEVENT\r\n"
+            + "DTSTART:20240117T090000\r\n"
+            + "DTEND:20240118T000000\r\n"
+            + "SUMMARY:Midnight end\r\n"
+            + "END:VEVENT\r\n"
+            + "BEGIN:VEVENT\r\n"
+            + "DTSTART;VALUE=DATE:20240120\r\n"
+            + "DURATION:P1W\r\n"
+            + "SUMMARY:Week\r\n"
+            + "END:VEVENT\r\n"
+            + "BEGIN:VEVENT\r\n"
+            + "DTSTART:20240201T100000\r\n"
+            + "SUMMARY:Fol\r\n"
+            + " ded sum\r\n"
+            + "\tmary\r\n"
+            + "BEGIN:VALARM\r\n"
+            + "ACTION:EMAIL\r\n"
+            + "SUMMARY:Alarm text\r\n"
+            + "DURATION:P3D\r\n"
+            + "REPEAT:2\r\n"
+            + "END:VALARM\r\n"
+            + "END:VEVENT\r\n"
+            + "BEGIN:VEVENT\r\n"
+            + "DTSTART:20240101T030000Z\r\n"
+            + "DTEND:20240101T040000Z\r\n"
+            + "SUMMARY:UTC\r\n"
+            + "END:VEVENT\r\n"
+            + "BEGIN:VEVENT\r\n"
+            + "DTSTART;TZID=Europe/Berlin:20240301T020000\r\n"
+            + "DTEND;TZID=\"Europe/Berlin\":20240301T030000\r\n"
+            + "SUMMARY:Berlin\r\n"
+            + "END:VEVENT\r\n"
+            + "BEGIN:VEVENT\r\n"
+            + "DTSTART;TZID=Unknown Zone:20240305T010000\r\n"
+            + "SUMMARY:Unknown zone\r\n"
+            + "END:VEVENT\r\n"
+            + "END:VCALENDAR";
+
+    private static final String[] EVENTS = new String[]
+    {
+            // UTC 3:00 is the previous evening in New York
+            "UTC 31/12/2023 - 31/12/2023",
+            "All day, three days 10/1/2024 - 12/1/2024",
+            "Date-time end 15/1/2024 - 16/1/2024",
+            "Midnight end 17/1/2024 - 17/1/2024",
+            "Week 20/1/2024 - 26/1/2024",
+            "Folded summary 1/2/2024 - 1/2/2024",
+            // Berlin 2:00 is UTC 1:00, the previous evening in New York
+            "Berlin 29/2/2024 - 29/2/2024",
+            "Unknown zone 5/3/2024 - 5/3/2024"
+    };
+
+    private final DCTimeSource timeSource = new DCTimeSource()
+    {
+        public long getCurrentTimeMillis()
+        {
+            return 1704067200000L; // 1/1/2024 UTC
+        }
+
+        public TimeZone getTimeZone()
+        {
+            return TimeZone.getTimeZone("America/New_York");
+        }
+    };
+
+    @Before
+    public void setUp()
+    {
+        DCClock.setTimeSource(timeSource);
+    }
+
+    @After
+    public void tearDown()
+    {
+        DCClock.setTimeSource(null);
+    }
+
+    /**
+     * Checks the events of a stream read a few bytes at a time (CRLFs & folds split across the reads)
+     */
+    @Test
+    public void chunkedStreamImportsEvents() throws IOException
+    {
+        for(int chunkSize=1;chunkSize<=7;chunkSize++)
+        {
+            assertEquals("Chunk size " + chunkSize, Arrays.asList(EVENTS), importEvents(new ChunkedInputStream(CALENDAR.getBytes(UTF_8), chunkSize)));
+        }
+    }
+
+    /**
+     * Checks the events of a stream read at once
+     */
+    @Test
+    public void streamImportsEvents() throws IOException
+    {
+        assertEquals(Arrays.asList(EVENTS), importEvents(new ByteArrayInputStream(CALENDAR.getBytes(UTF_8))));
+    }
+
+    /**
+     * Checks the events of a memory mapped file, with LF line ends
+     */
+    @Test
+    public void fileImportsEvents() throws IOException
+    {
+        File file = File.createTempFile("dc_events", ".ics");
+
+        try
+        {
+            FileOutputStream fileOutputStream = new FileOutputStream(file);
+            try
+            {
+                fileOutputStream.write(CALENDAR.replace("\r\n", "\n").getBytes(UTF_8));
+            }
+            finally
+            {
+                fileOutputStream.close();
+            }
+
+            DCEventIndex dcEventIndex = new DCEventIndex();
+            assertEquals(EVENTS.length, new DCEventImporter(dcEventIndex, 0, null).importEvents(file));
+            assertEquals(Arrays.asList(EVENTS), getEvents(dcEventIndex));
+        }
+        finally
+        {
+            file.delete();
+        }
+    }
+
+    // MARK: DCEventImporterTest Private Methods
+
+    /**
+     * Imports the events of the stream into a new event index
+     *
+     * @param inputStream The iCalendar stream
+     *
+     * @return The imported events (title & dates), in the event order
+     *
+     * @throws IOException If the stream can't be read
+     */
+    private static List<String> importEvents(InputStream inputStream) throws IOException
+    {
+        DCEventIndex dcEventIndex = new DCEventIndex();
+        assertEquals(EVENTS.length, new DCEventImporter(dcEventIndex, 0, null).importEvents(inputStream));
+
+        return getEvents(dcEventIndex);
+    }
+
+    /**
+     * Gets the events of the index
+     *
+     * @param dcEventIndex The event index
+     *
+     * @return The events (title & dates), in the event order
+     */
+    private static List<String> getEvents(DCEventIndex dcEventIndex)
+    {
+        List<String> events = new ArrayList<>();
+        for(DCEvent event: dcEventIndex.query(Integer.MIN_VALUE, Integer.MAX_VALUE))
+        {
+            events.add(event.getTitle() + " " + event.getStartDate() + " - " + event.getEndDate());
+        }
+
+        return events;
+    }
+
+    /**
+     * Stream which returns at most the chunk size bytes per read
+     */
+    private static class ChunkedInputStream extends ByteArrayInputStream
+    {
+        private final int chunkSize;
+
+        ChunkedInputStream(byte[] bytes, int chunkSize)
+        {
+            super(bytes);
+
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public synchronized int read(byte[] bytes, int offset, int length)
+        {
+            return super.read(bytes, offset, Math.min(length, chunkSize));
+        }
+    }
+}
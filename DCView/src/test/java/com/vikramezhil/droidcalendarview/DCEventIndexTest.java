@@ -0,0 +1,171 @@
+package com.vikramezhil.droidcalendarview;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Droid Calendar Event Index Test
+ *
+ * Checks the interval index queries against a brute force scan of the events (single & bulk adds, removes & merges),
+ * and the month event layout lanes & "+N" overflow
+ *
+ * @author Vikram Ezhil
+ */
+
+public class DCEventIndexTest
+{
+    private static final int START_EPOCH_DAY = 17500;
+    private static final int DAYS = 1000;
+    private static final int OPERATIONS = 5000;
+
+    /**
+     * Checks the random adds, removes & queries against the brute force scan
+     */
+    @Test
+    public void queriesMatchBruteForceScan()
+    {
+        Random random = new Random(19);
+        DCEventIndex dcEventIndex = new DCEventIndex();
+        List<DCEvent> baseline = new ArrayList<>();
+
+        for(int operation=0;operation<OPERATIONS;operation++)
+        {
+            switch (random.nextInt(6))
+            {
+                case 0:
+                case 1:
+                    DCEvent event = getRandomEvent(random, operation);
+                    dcEventIndex.add(event);
+                    baseline.add(event);
+                    break;
+
+                case 2:
+                    List<DCEvent> events = new ArrayList<>();
+                    for(int catx=random.nextInt(400);catx>=0;catx--)
+                    {
+                        events.add(getRandomEvent(random, operation));
+                    }
+
+                    dcEventIndex.addAll(events);
+                    baseline.addAll(events);
+                    break;
+
+                case 3:
+                    if(!baseline.isEmpty())
+                    {
+                        DCEvent removedEvent = baseline.remove(random.nextInt(baseline.size()));
+                        assertTrue(dcEventIndex.remove(removedEvent));
+                    }
+                    break;
+
+                default:
+                    int startEpochDay = START_EPOCH_DAY - 20 + random.nextInt(DAYS + 40);
+                    assertQuery(baseline, dcEventIndex, startEpochDay, startEpochDay + random.nextInt(42));
+                    break;
+            }
+
+            assertEquals(baseline.size(), dcEventIndex.size());
+        }
+
+        assertQuery(baseline, dcEventIndex, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Checks an event without a free lane on its start day takes the lanes freed on its later days
+     */
+    @Test
+    public void overflowedSpanTakesFreedLanes()
+    {
+        DCEventIndex dcEventIndex = new DCEventIndex();
+
+        // Lanes of the first 2 days are taken, the last lane till day 6
+        DCEvent longEvent = new DCEvent("Long", START_EPOCH_DAY, START_EPOCH_DAY + 5, 0);
+        dcEventIndex.add(longEvent);
+        dcEventIndex.add(new DCEvent("Short 1", START_EPOCH_DAY, START_EPOCH_DAY + 1, 0));
+        dcEventIndex.add(new DCEvent("Short 2", START_EPOCH_DAY, START_EPOCH_DAY + 1, 0));
+
+        DCEvent overflowedEvent = new DCEvent("Overflowed", START_EPOCH_DAY + 1, START_EPOCH_DAY + 4, 0);
+        DCEvent laterEvent = new DCEvent("Later", START_EPOCH_DAY + 2, START_EPOCH_DAY + 2, 0);
+        dcEventIndex.add(overflowedEvent);
+        dcEventIndex.add(laterEvent);
+
+        DCEventLayout dcEventLayout = new DCEventLayout(dcEventIndex, START_EPOCH_DAY, 7);
+
+        assertSame(longEvent, dcEventLayout.getEvent(0, 0));
+        assertEquals(0, dcEventLayout.getOverflowCount(0));
+        assertEquals(1, dcEventLayout.getOverflowCount(1));
+
+        for(int cell=2;cell<=4;cell++)
+        {
+            assertEquals(0, dcEventLayout.getOverflowCount(cell));
+            assertSame(overflowedEvent, dcEventLayout.getEvent(cell, 1));
+        }
+
+        // The later event keeps clear of the lane taken by the overflowed event
+        assertSame(laterEvent, dcEventLayout.getEvent(2, 2));
+        assertNull(dcEventLayout.getEvent(5, 1));
+        assertSame(longEvent, dcEventLayout.getEvent(5, 0));
+        assertNull(dcEventLayout.getEvent(6, 0));
+    }
+
+    // MARK: DCEventIndexTest Private Methods
+
+    /**
+     * Gets an event of 1 - 20 days in the test range
+     *
+     * @param random The random generator
+     *
+     * @param operation The operation count (event title)
+     *
+     * @return The event
+     */
+    private static DCEvent getRandomEvent(Random random, int operation)
+    {
+        int startEpochDay = START_EPOCH_DAY + random.nextInt(DAYS);
+
+        return new DCEvent(String.valueOf(operation), startEpochDay, startEpochDay + random.nextInt(random.nextInt(5) == 0 ? 20 : 2), 0);
+    }
+
+    /**
+     * Asserts the index query returns the overlapping events of the brute force scan, in the event order
+     *
+     * @param baseline The baseline events
+     *
+     * @param dcEventIndex The event index
+     *
+     * @param startEpochDay The query start epoch day
+     *
+     * @param endEpochDay The query end epoch day (included)
+     */
+    private static void assertQuery(List<DCEvent> baseline, DCEventIndex dcEventIndex, int startEpochDay, int endEpochDay)
+    {
+        Map<DCEvent, Boolean> overlappingEvents = new IdentityHashMap<>();
+        for(DCEvent event: baseline)
+        {
+            if(event.startEpochDay <= endEpochDay && event.endEpochDay >= startEpochDay)
+            {
+                overlappingEvents.put(event, Boolean.TRUE);
+            }
+        }
+
+        List<DCEvent> events = dcEventIndex.query(startEpochDay, endEpochDay);
+        String message = startEpochDay + " - " + endEpochDay;
+
+        assertEquals(message, overlappingEvents.size(), events.size());
+        for(int catx=0;catx<events.size();catx++)
+        {
+            assertTrue(message, overlappingEvents.containsKey(events.get(catx)));
+            assertTrue(message, catx == 0 || DCEventIndex.EVENT_ORDER.compare(events.get(catx - 1), events.get(catx)) <= 0);
+        }
+    }
+}
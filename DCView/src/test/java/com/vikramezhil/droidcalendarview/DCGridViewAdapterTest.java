@@ -0,0 +1,170 @@
+package com.vikramezhil.droidcalendarview;
+
+import android.content.ContextWrapper;
+import android.content.res.Resources;
+import android.util.DisplayMetrics;
+import android.view.View;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Droid Calendar Grid View Adapter Test
+ *
+ * Counts the bytes allocated by the grid cell bind path, while switching months & re-selecting dates of months with
+ * sub values & events. After the warm up passes the binds should allocate nothing.
+ *
+ * NOTE: Runs on the JVM against the mockable android.jar (unitTests.returnDefaultValues), so the framework calls of the
+ * cells return right away and only the adapter, cell state, cell view & month data code is measured
+ *
+ * @author Vikram Ezhil
+ */
+
+public class DCGridViewAdapterTest
+{
+    private static final int MONTHS = 3;
+    private static final int SELECTED_DATES = 4;
+    private static final int WARM_UP_PASSES = 500;
+    private static final int MEASURED_PASSES = 1000;
+
+    private final View[] cells = new View[DCFormats.DAYS_IN_A_WEEK.length + 6 * DCMonthGrid.DAYS_IN_A_WEEK];
+    private Exception bindError;
+
+    /**
+     * Checks the steady state binds of the visible cells allocate nothing
+     */
+    @Test
+    public void bindPathDoesNotAllocate()
+    {
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        DCMonthProvider dcMonthProvider = new DCMonthProvider("1/2018", "12/2018", "M/yyyy", DCFormats.DC_MY_FORMAT, DCFormats.D_FORMAT, DCFormats.DC_DMY_FORMAT, Locale.US, DCFormats.DEFAULT_FIRST_DAY_OF_WEEK, true);
+        dcMonthProvider.setWindowSize(dcMonthProvider.getCount());
+
+        DCProperties dcProperties = new DCProperties();
+        dcProperties.style = new DCStyle.Builder().setShowDaySubValue(true).setShowPastAndFutureMonthDates(true).build();
+
+        List<DCEvent> events = new ArrayList<>();
+        for(int position=0;position<MONTHS;position++)
+        {
+            DCData dcData = dcMonthProvider.getMonth(position);
+            for(int cell=0;cell<dcData.cellCount;cell++)
+            {
+                dcMonthProvider.setSubValue(dcData.getEpochDay(cell), cell + " kcal");
+            }
+
+            events.add(new DCEvent("Event " + position, dcData.monthStartEpochDay + 3, dcData.monthStartEpochDay + 9, 0xFF00ADEF));
+        }
+        dcProperties.eventIndex.addAll(events);
+
+        DCGridViewAdapter dcGridViewAdapter = new DCGridViewAdapter(new TestContext(), dcProperties, new OnDCDatesListener()
+        {
+            public void onDateClicked(String date) {}
+
+            public void onDateError(Exception e)
+            {
+                bindError = e;
+            }
+        });
+
+        for(int pass=0;pass<WARM_UP_PASSES;pass++)
+        {
+            bindPass(dcGridViewAdapter, dcMonthProvider, dcProperties);
+        }
+
+        long threadId = Thread.currentThread().getId();
+
+        // Bytes allocated by the counter itself
+        long counterStart = threadMXBean.getThreadAllocatedBytes(threadId);
+        long counterBytes = threadMXBean.getThreadAllocatedBytes(threadId) - counterStart;
+
+        long start = threadMXBean.getThreadAllocatedBytes(threadId);
+        for(int pass=0;pass<MEASURED_PASSES;pass++)
+        {
+            bindPass(dcGridViewAdapter, dcMonthProvider, dcProperties);
+        }
+        long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - start - counterBytes;
+
+        assertNull(bindError);
+        assertEquals("Bytes allocated by " + MEASURED_PASSES * MONTHS * SELECTED_DATES + " month binds", 0, allocatedBytes);
+    }
+
+    // MARK: DCGridViewAdapterTest Private Methods
+
+    /**
+     * Switches through the months and re-selects dates in each month, the visible cells are rebound after each change
+     * (recycled in place, as the grid view does for an on screen month)
+     *
+     * @param dcGridViewAdapter The grid view adapter
+     *
+     * @param dcMonthProvider The month provider
+     *
+     * @param dcProperties The droid calendar properties
+     */
+    private void bindPass(DCGridViewAdapter dcGridViewAdapter, DCMonthProvider dcMonthProvider, DCProperties dcProperties)
+    {
+        for(int position=0;position<MONTHS;position++)
+        {
+            DCData dcData = dcMonthProvider.getMonth(position);
+            dcGridViewAdapter.setDcData(dcData);
+
+            for(int selection=0;selection<SELECTED_DATES;selection++)
+            {
+                dcProperties.clickedEpochDay = dcData.monthStartEpochDay + selection * 5;
+
+                for(int catx=0;catx<dcGridViewAdapter.getCount();catx++)
+                {
+                    cells[catx] = dcGridViewAdapter.getView(catx, cells[catx], null);
+                }
+            }
+        }
+    }
+
+    /**
+     * Context with the display metrics & the cell dimensions the cells are measured with
+     */
+    private static class TestContext extends ContextWrapper
+    {
+        private final Resources resources;
+
+        TestContext()
+        {
+            super(null);
+
+            final DisplayMetrics displayMetrics = new DisplayMetrics();
+            displayMetrics.density = 2f;
+            displayMetrics.scaledDensity = 2f;
+
+            resources = new Resources(null, displayMetrics, null)
+            {
+                @Override
+                public DisplayMetrics getDisplayMetrics()
+                {
+                    return displayMetrics;
+                }
+
+                @Override
+                public float getDimension(int id)
+                {
+                    return 2f;
+                }
+            };
+        }
+
+        @Override
+        public Resources getResources()
+        {
+            return resources;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.vikramezhil.droidcalendarview;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Droid Calendar Locale Table Test
+ *
+ * Checks the narrow weekday names stay unique for the locales whose short names share a prefix & the month titles are
+ * in the locale digits
+ *
+ * @author Vikram Ezhil
+ */
+
+public class DCLocaleTableTest
+{
+    /**
+     * Checks the narrow weekday names are unique for the chinese locales
+     */
+    @Test
+    public void narrowWeekdaysAreUnique()
+    {
+        for(Locale locale : new Locale[]{Locale.SIMPLIFIED_CHINESE, Locale.TRADITIONAL_CHINESE, Locale.US, Locale.FRANCE})
+        {
+            for(int firstDayOfWeek=1;firstDayOfWeek<=DCMonthGrid.DAYS_IN_A_WEEK;firstDayOfWeek++)
+            {
+                String[] narrowWeekdays = DCLocaleTable.get(locale).getWeekdays(DCLocaleTable.WEEKDAY_NARROW, firstDayOfWeek);
+
+                assertEquals(locale + " " + Arrays.toString(narrowWeekdays), DCMonthGrid.DAYS_IN_A_WEEK, new HashSet<>(Arrays.asList(narrowWeekdays)).size());
+            }
+        }
+
+        String[] chineseWeekdays = DCLocaleTable.get(Locale.SIMPLIFIED_CHINESE).getWeekdays(DCLocaleTable.WEEKDAY_NARROW, 1);
+        for(String weekday : chineseWeekdays)
+        {
+            assertEquals(Arrays.toString(chineseWeekdays), 1, weekday.codePointCount(0, weekday.length()));
+        }
+    }
+
+    /**
+     * Checks the month titles & day numerals are in the locale digits
+     */
+    @Test
+    public void monthTitlesUseLocaleDigits()
+    {
+        DCLocaleTable localeTable = DCLocaleTable.get(new Locale("ar", "EG"));
+        char zeroDigit = localeTable.getNumeral(1).charAt(0);
+        zeroDigit--;
+
+        String title = localeTable.getMonthYearTitle(DCFormats.DC_MY_FORMAT, 2018, 3);
+        assertTrue(title, title.indexOf((char) (zeroDigit + 2)) >= 0 && title.indexOf((char) (zeroDigit + 8)) >= 0);
+
+        for(char c : title.toCharArray())
+        {
+            assertTrue(title, zeroDigit == '0' || c < '0' || c > '9');
+        }
+
+        assertEquals("March 2018", DCLocaleTable.get(Locale.US).getMonthYearTitle(DCFormats.DC_MY_FORMAT, 2018, 3));
+    }
+}
@@ -0,0 +1,197 @@
+package com.vikramezhil.droidcalendarview;
+
+import org.joda.time.LocalDate;
+import org.joda.time.format.DateTimeFormatter;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Droid Calendar Month Grid Test
+ *
+ * Differential test of the epoch day month grids against the Joda-Time date walk (previous & next date strings)
+ * the month grids replaced, for every month of 1600 - 2400 (leap & century years) and every first day of week
+ *
+ * @author Vikram Ezhil
+ */
+
+public class DCMonthGridTest
+{
+    private static final int START_YEAR = 1600;
+    private static final int END_YEAR = 2400;
+    private static final Locale LOCALE = Locale.US;
+
+    /**
+     * Checks the month grid bounds & cell dates against the Joda date walk
+     */
+    @Test
+    public void monthGridsMatchJodaBaseline()
+    {
+        DateTimeFormatter dateFormatter = DCUtil.getFormatter(DCFormats.DC_DMY_FORMAT, LOCALE);
+
+        for(int firstDayOfWeek=1;firstDayOfWeek<=DCMonthGrid.DAYS_IN_A_WEEK;firstDayOfWeek++)
+        {
+            for(int year=START_YEAR;year<=END_YEAR;year++)
+            {
+                for(int month=1;month<=12;month++)
+                {
+                    String message = month + "/" + year + ", first day of week " + firstDayOfWeek;
+                    List<String> baselineDates = getBaselineDates(year, month, firstDayOfWeek, dateFormatter);
+                    DCMonthGrid dcMonthGrid = new DCMonthGrid(year, month, firstDayOfWeek);
+
+                    assertEquals(message, baselineDates.size(), dcMonthGrid.cellCount);
+                    assertEquals(message, 0, dcMonthGrid.cellCount % DCMonthGrid.DAYS_IN_A_WEEK);
+                    assertEquals(message, new LocalDate(year, month, 1).dayOfMonth().getMaximumValue(), dcMonthGrid.monthEndEpochDay - dcMonthGrid.monthStartEpochDay + 1);
+
+                    for(int cell=0;cell<dcMonthGrid.cellCount;cell++)
+                    {
+                        int epochDay = dcMonthGrid.firstCellEpochDay + cell;
+                        LocalDate baselineDate = dateFormatter.parseLocalDate(baselineDates.get(cell));
+
+                        assertEquals(message, baselineDate.getYear(), DCUtil.getYear(epochDay));
+                        assertEquals(message, baselineDate.getMonthOfYear(), DCUtil.getMonthOfYear(epochDay));
+                        assertEquals(message, baselineDate.getDayOfMonth(), DCUtil.getDayOfMonth(epochDay));
+                        assertEquals(message, baselineDate.getDayOfWeek(), DCUtil.getDayOfWeek(epochDay));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks the month provider dates, recalibrated dates, in month flags & display dates against the Joda date walk,
+     * the months are rebuilt for each first day of week
+     */
+    @Test
+    public void monthProviderMatchesJodaBaseline()
+    {
+        DateTimeFormatter dateFormatter = DCUtil.getFormatter(DCFormats.DC_DMY_FORMAT, LOCALE);
+        DCMonthProvider dcMonthProvider = new DCMonthProvider("1/" + START_YEAR, "12/" + END_YEAR, "M/yyyy", DCFormats.DC_MY_FORMAT, DCFormats.D_FORMAT, DCFormats.DC_DMY_FORMAT, LOCALE, DCFormats.DEFAULT_FIRST_DAY_OF_WEEK, true);
+
+        assertEquals((END_YEAR - START_YEAR + 1) * 12, dcMonthProvider.getCount());
+
+        for(int firstDayOfWeek=1;firstDayOfWeek<=DCMonthGrid.DAYS_IN_A_WEEK;firstDayOfWeek++)
+        {
+            dcMonthProvider.setFirstDayOfWeek(firstDayOfWeek);
+
+            for(int position=0;position<dcMonthProvider.getCount();position++)
+            {
+                int year = START_YEAR + position / 12;
+                int month = position % 12 + 1;
+                String message = month + "/" + year + ", first day of week " + firstDayOfWeek;
+
+                List<String> baselineDates = getBaselineDates(year, month, firstDayOfWeek, dateFormatter);
+                List<String> baselineMonthDates = getBaselineMonthDates(year, month, dateFormatter);
+                DCData dcData = dcMonthProvider.getMonth(position);
+
+                assertEquals(message, baselineMonthDates, dcData.getDates());
+                assertEquals(message, baselineDates, dcData.getRecalibrateDates());
+
+                String[] baselineDisplayDates = new String[baselineDates.size()];
+                for(int cell=0;cell<baselineDates.size();cell++)
+                {
+                    LocalDate baselineDate = dateFormatter.parseLocalDate(baselineDates.get(cell));
+
+                    baselineDisplayDates[cell] = String.valueOf(baselineDate.getDayOfMonth());
+                    assertEquals(message, baselineDate.getMonthOfYear() == month, dcData.inMonthDates[cell]);
+                    assertEquals(message, cell, dcData.getCell(dcData.getEpochDay(cell)));
+                }
+
+                assertArrayEquals(message, baselineDisplayDates, dcData.displayDates);
+                assertEquals(message, position, dcMonthProvider.getPosition(dcData.monthStartEpochDay));
+            }
+        }
+    }
+
+    /**
+     * Checks the leap year rule on the century years
+     */
+    @Test
+    public void leapYearsMatchJoda()
+    {
+        for(int year=START_YEAR;year<=END_YEAR;year++)
+        {
+            assertEquals(String.valueOf(year), new LocalDate(year, 1, 1).year().isLeap(), DCMonthGrid.isLeapYear(year));
+        }
+
+        assertTrue(DCMonthGrid.isLeapYear(2000));
+        assertTrue(!DCMonthGrid.isLeapYear(1900));
+        assertEquals(29, DCMonthGrid.getDaysInMonth(2400, 2));
+        assertEquals(28, DCMonthGrid.getDaysInMonth(2100, 2));
+    }
+
+    // MARK: DCMonthGridTest Private Methods
+
+    /**
+     * Gets the month dates with the Joda date walk
+     *
+     * @param year The year
+     *
+     * @param month The month of year (1 - 12)
+     *
+     * @param dateFormatter The "d/M/YYYY" date formatter
+     *
+     * @return The month dates
+     */
+    private static List<String> getBaselineMonthDates(int year, int month, DateTimeFormatter dateFormatter)
+    {
+        List<String> dates = new ArrayList<>();
+
+        String date = dateFormatter.print(new LocalDate(year, month, 1));
+        while(dateFormatter.parseLocalDate(date).getMonthOfYear() == month)
+        {
+            dates.add(date);
+            date = DCUtil.getNextDate(date, DCFormats.DC_DMY_FORMAT, LOCALE);
+        }
+
+        return dates;
+    }
+
+    /**
+     * Gets the visible dates of the month with the Joda date walk, the previous & next dates are added one day at a time
+     * until the weeks start on the first day of week and end on the day before it
+     *
+     * @param year The year
+     *
+     * @param month The month of year (1 - 12)
+     *
+     * @param firstDayOfWeek The ISO first day of week (1 - Monday, 7 - Sunday)
+     *
+     * @param dateFormatter The "d/M/YYYY" date formatter
+     *
+     * @return The visible dates
+     */
+    private static List<String> getBaselineDates(int year, int month, int firstDayOfWeek, DateTimeFormatter dateFormatter)
+    {
+        List<String> monthDates = getBaselineMonthDates(year, month, dateFormatter);
+        int lastDayOfWeek = firstDayOfWeek == 1 ? DCMonthGrid.DAYS_IN_A_WEEK : firstDayOfWeek - 1;
+
+        List<String> dates = new ArrayList<>();
+
+        String date = monthDates.get(0);
+        while(dateFormatter.parseLocalDate(date).getDayOfWeek() != firstDayOfWeek)
+        {
+            date = DCUtil.getPreviousDate(date, DCFormats.DC_DMY_FORMAT, LOCALE);
+            dates.add(date);
+        }
+
+        Collections.reverse(dates);
+        dates.addAll(monthDates);
+
+        date = monthDates.get(monthDates.size() - 1);
+        while(dateFormatter.parseLocalDate(date).getDayOfWeek() != lastDayOfWeek)
+        {
+            date = DCUtil.getNextDate(date, DCFormats.DC_DMY_FORMAT, LOCALE);
+            dates.add(date);
+        }
+
+        return dates;
+    }
+}
@@ -0,0 +1,78 @@
+package com.vikramezhil.droidcalendarview;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Droid Calendar Month Provider Test
+ *
+ * Checks the month position sub value replaces (map, provider results & clears) only replace the month dates, the
+ * leading & trailing dates shown by the month keep the sub values set for the previous & next months
+ *
+ * @author Vikram Ezhil
+ */
+
+public class DCMonthProviderTest
+{
+    private static final int MARCH = 2;
+
+    /**
+     * Checks the position replaces keep the adjacent months sub values
+     */
+    @Test
+    public void monthReplacesKeepAdjacentMonths()
+    {
+        DCMonthProvider dcMonthProvider = new DCMonthProvider("1/2018", "12/2018", "M/yyyy", DCFormats.DC_MY_FORMAT, DCFormats.D_FORMAT, DCFormats.DC_DMY_FORMAT, Locale.US, DCFormats.DEFAULT_FIRST_DAY_OF_WEEK, true);
+        DCData march = dcMonthProvider.getMonth(MARCH);
+
+        // 28/2/2018 & 1/4/2018 are shown by March (Sunday first weeks)
+        int lastFebruaryDay = march.monthStartEpochDay - 1;
+        int firstAprilDay = march.monthEndEpochDay + 1;
+        dcMonthProvider.setSubValue(lastFebruaryDay, "February");
+        dcMonthProvider.setSubValue(firstAprilDay, "April");
+        dcMonthProvider.setSubValue(march.monthStartEpochDay, "March");
+
+        Map<String, String> subValues = new HashMap<>();
+        subValues.put("15/3/2018", "15");
+        dcMonthProvider.setDatesSubValues(MARCH, subValues);
+
+        assertEquals("", getSubValue(march, march.monthStartEpochDay));
+        assertEquals("15", getSubValue(march, march.monthStartEpochDay + 14));
+        assertEquals("February", getSubValue(march, lastFebruaryDay));
+        assertEquals("April", getSubValue(march, firstAprilDay));
+
+        dcMonthProvider.setDatesSubValues(dcMonthProvider.getMonthGrid(MARCH), new int[] {march.monthStartEpochDay + 1}, new String[] {"2"}, 1);
+
+        assertEquals("", getSubValue(march, march.monthStartEpochDay + 14));
+        assertEquals("2", getSubValue(march, march.monthStartEpochDay + 1));
+        assertEquals("February", getSubValue(march, lastFebruaryDay));
+        assertEquals("April", getSubValue(march, firstAprilDay));
+
+        dcMonthProvider.clearDatesSubValues(MARCH);
+
+        assertEquals("", getSubValue(march, march.monthStartEpochDay + 1));
+        assertEquals("February", getSubValue(march, lastFebruaryDay));
+        assertEquals("April", getSubValue(march, firstAprilDay));
+    }
+
+    // MARK: DCMonthProviderTest Private Methods
+
+    /**
+     * Gets the sub value of a date shown by the month
+     *
+     * @param dcData The month data
+     *
+     * @param epochDay The date epoch day
+     *
+     * @return The sub value, empty if not available
+     */
+    private static String getSubValue(DCData dcData, int epochDay)
+    {
+        return dcData.getDateSubValue(dcData.getCell(epochDay));
+    }
+}
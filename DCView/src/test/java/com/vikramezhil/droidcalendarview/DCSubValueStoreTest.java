@@ -0,0 +1,105 @@
+package com.vikramezhil.droidcalendarview;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Droid Calendar Sub Value Store Test
+ *
+ * Checks the paged sub value store against a hash map of epoch days (sets, removes & range clears across page bounds),
+ * the store version & the released pages
+ *
+ * @author Vikram Ezhil
+ */
+
+public class DCSubValueStoreTest
+{
+    private static final int START_EPOCH_DAY = 17530;
+    private static final int END_EPOCH_DAY = START_EPOCH_DAY + 10 * DCSubValueStore.PAGE_SIZE + 7;
+    private static final int OPERATIONS = 20000;
+
+    /**
+     * Checks the random sets, removes & range clears against the hash map
+     */
+    @Test
+    public void randomOperationsMatchHashMap()
+    {
+        Random random = new Random(7);
+        DCSubValueStore dcSubValueStore = new DCSubValueStore(START_EPOCH_DAY, END_EPOCH_DAY);
+        Map<Integer, String> baseline = new HashMap<>();
+
+        for(int operation=0;operation<OPERATIONS;operation++)
+        {
+            // Including the days just out of the store range
+            int epochDay = START_EPOCH_DAY - 3 + random.nextInt(END_EPOCH_DAY - START_EPOCH_DAY + 7);
+            int version = dcSubValueStore.getVersion();
+
+            switch (random.nextInt(5))
+            {
+                case 0:
+                case 1:
+                    String subValue = String.valueOf(random.nextInt(20));
+                    boolean changed = dcSubValueStore.inRange(epochDay) && !subValue.equals(baseline.get(epochDay));
+
+                    assertEquals(changed, dcSubValueStore.set(epochDay, subValue));
+                    assertEquals(changed ? version + 1 : version, dcSubValueStore.getVersion());
+
+                    if(dcSubValueStore.inRange(epochDay))
+                    {
+                        baseline.put(epochDay, subValue);
+                    }
+                    break;
+
+                case 2:
+                case 3:
+                    assertEquals(baseline.containsKey(epochDay), dcSubValueStore.set(epochDay, null));
+                    baseline.remove(epochDay);
+                    break;
+
+                default:
+                    int endEpochDay = epochDay + random.nextInt(2 * DCSubValueStore.PAGE_SIZE);
+                    dcSubValueStore.clearRange(epochDay, endEpochDay);
+                    for(int day=epochDay;day<=endEpochDay;day++)
+                    {
+                        baseline.remove(day);
+                    }
+                    break;
+            }
+        }
+
+        for(int epochDay=START_EPOCH_DAY - 10;epochDay<=END_EPOCH_DAY + 10;epochDay++)
+        {
+            assertEquals(String.valueOf(epochDay), baseline.get(epochDay), dcSubValueStore.get(epochDay));
+        }
+    }
+
+    /**
+     * Checks a page is released once its last sub value is removed
+     */
+    @Test
+    public void emptyPagesAreReleased()
+    {
+        DCSubValueStore dcSubValueStore = new DCSubValueStore(START_EPOCH_DAY, END_EPOCH_DAY);
+        assertEquals(0, dcSubValueStore.getBytesUsed(START_EPOCH_DAY, END_EPOCH_DAY));
+
+        assertTrue(dcSubValueStore.set(START_EPOCH_DAY + 1, "1"));
+        assertTrue(dcSubValueStore.set(START_EPOCH_DAY + 2, "2"));
+        assertTrue(dcSubValueStore.getBytesUsed(START_EPOCH_DAY, END_EPOCH_DAY) >= DCSubValueStore.PAGE_SIZE * DCSubValueStore.SLOT_BYTES);
+
+        dcSubValueStore.clearRange(START_EPOCH_DAY, START_EPOCH_DAY + 1);
+        assertNull(dcSubValueStore.get(START_EPOCH_DAY + 1));
+        assertEquals("2", dcSubValueStore.get(START_EPOCH_DAY + 2));
+
+        assertTrue(dcSubValueStore.set(START_EPOCH_DAY + 2, null));
+        assertFalse(dcSubValueStore.set(START_EPOCH_DAY + 2, null));
+        assertEquals(0, dcSubValueStore.getBytesUsed(START_EPOCH_DAY, END_EPOCH_DAY));
+    }
+}
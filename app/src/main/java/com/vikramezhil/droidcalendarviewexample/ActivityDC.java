@@ -91,49 +91,59 @@ public class ActivityDC extends Activity
                     }
                     else
                     {
-                        dcView.setDCHeaderBGColor(primaryColors[randomPos]);
-                        dcView.setDCHeaderTextStyle(Typeface.BOLD);
-                        dcView.setDCHeaderTextColor(contrastColors[randomPos]);
-                        dcView.setDCPreviousButtonColor(contrastColors[randomPos]);
-                        dcView.setDCNextButtonColor(contrastColors[randomPos]);
-                        dcView.setDCDaysHeadersLayoutBGColor(secondaryColors[randomPos]);
-                        dcView.setDCDaysLayoutBGColor(contrastColors[randomPos]);
-                        dcView.setDCClickableDaysBGColor(secondaryColors[randomPos]);
-                        dcView.setDCClickableDaysTextColor(contrastColors[randomPos]);
-                        dcView.setDCClickedDayBGColor(primaryColors[randomPos]);
-                        dcView.setDCClickedDayTextColor(contrastColors[randomPos]);
-                        dcView.setDCClickedDaySubTextColor(contrastColors[randomPos]);
-                        dcView.setDCColSeparatorColor(secondaryColors[randomPos]);
-                        dcView.setDCRowSeparatorColor(secondaryColors[randomPos]);
-                        dcView.setDCDaysHeadersTextColor(primaryColors[randomPos]);
-                        dcView.setDCDaysTextColor(primaryColors[randomPos]);
-                        dcView.setDCDaysSubTextColor(primaryColors[randomPos]);
-                        dcView.setDCDaysHeaderTextStyle(Typeface.NORMAL);
-                        dcView.setDCDaysTextStyle(Typeface.NORMAL);
-                        dcView.setDCDaysSubTextStyle(Typeface.ITALIC);
-                        dcView.setDCShowDaysHeaderColSeparator(randomPos % 2 == 0);
-                        dcView.setDCShowDaysHeaderRowSeparator(randomPos % 2 == 0);
-                        dcView.setDCShowColSeparator(randomPos % 2 == 0);
-                        dcView.setDCShowRowSeparator(randomPos % 2 == 0);
-
-                        int randomClearSubValues = (new Random()).nextInt(primaryColors.length);
-                        if(randomClearSubValues % 2 == 0)
-                        {
-                            // Clearing out the dates sub data if applicable
-                            dcView.clearDCDatesSubData(calendarPosition);
-                            dcView.setDCShowDaySubValue(false);
-                        }
-                        else
+                        // Applying the styles with a single rebind
+                        dcView.edit();
+
+                        try
                         {
-                            for(String date: calendarDatesWithPastPresentFuture)
+                            dcView.setDCHeaderBGColor(primaryColors[randomPos]);
+                            dcView.setDCHeaderTextStyle(Typeface.BOLD);
+                            dcView.setDCHeaderTextColor(contrastColors[randomPos]);
+                            dcView.setDCPreviousButtonColor(contrastColors[randomPos]);
+                            dcView.setDCNextButtonColor(contrastColors[randomPos]);
+                            dcView.setDCDaysHeadersLayoutBGColor(secondaryColors[randomPos]);
+                            dcView.setDCDaysLayoutBGColor(contrastColors[randomPos]);
+                            dcView.setDCClickableDaysBGColor(secondaryColors[randomPos]);
+                            dcView.setDCClickableDaysTextColor(contrastColors[randomPos]);
+                            dcView.setDCClickedDayBGColor(primaryColors[randomPos]);
+                            dcView.setDCClickedDayTextColor(contrastColors[randomPos]);
+                            dcView.setDCClickedDaySubTextColor(contrastColors[randomPos]);
+                            dcView.setDCColSeparatorColor(secondaryColors[randomPos]);
+                            dcView.setDCRowSeparatorColor(secondaryColors[randomPos]);
+                            dcView.setDCDaysHeadersTextColor(primaryColors[randomPos]);
+                            dcView.setDCDaysTextColor(primaryColors[randomPos]);
+                            dcView.setDCDaysSubTextColor(primaryColors[randomPos]);
+                            dcView.setDCDaysHeaderTextStyle(Typeface.NORMAL);
+                            dcView.setDCDaysTextStyle(Typeface.NORMAL);
+                            dcView.setDCDaysSubTextStyle(Typeface.ITALIC);
+                            dcView.setDCShowDaysHeaderColSeparator(randomPos % 2 == 0);
+                            dcView.setDCShowDaysHeaderRowSeparator(randomPos % 2 == 0);
+                            dcView.setDCShowColSeparator(randomPos % 2 == 0);
+                            dcView.setDCShowRowSeparator(randomPos % 2 == 0);
+
+                            int randomClearSubValues = (new Random()).nextInt(primaryColors.length);
+                            if(randomClearSubValues % 2 == 0)
                             {
-                                int randomCalories = (new Random()).nextInt(2500);
-
-                                // Setting the dates sub data
-                                dcView.setDCDatesSubData(calendarPosition, date, randomCalories + " kcal");
+                                // Clearing out the dates sub data if applicable
+                                dcView.clearDCDatesSubData(calendarPosition);
+                                dcView.setDCShowDaySubValue(false);
                             }
+                            else
+                            {
+                                for(String date: calendarDatesWithPastPresentFuture)
+                                {
+                                    int randomCalories = (new Random()).nextInt(2500);
+
+                                    // Setting the dates sub data
+                                    dcView.setDCDatesSubData(calendarPosition, date, randomCalories + " kcal");
+                                }
 
-                            dcView.setDCShowDaySubValue(true);
+                                dcView.setDCShowDaySubValue(true);
+                            }
+                        }
+                        finally
+                        {
+                            dcView.apply();
                         }
                     }
                 }
@@ -0,0 +1,137 @@
+package com.vikramezhil.droidcalendarview;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Droid Calendar Bind Benchmark
+ *
+ * Measures the data side of a full month bind in DCGridViewAdapter.getView (headers, display dates, sub values,
+ * clicked, clickable & future checks) over a 120 month range with sub values on every day and 5k clickable dates
+ *
+ * @author Vikram Ezhil
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DCBindBenchmark
+{
+    private static final int CLICKABLE_DATES_COUNT = 5000;
+
+    @Param({"true", "false"})
+    public boolean allDatesClickable;
+
+    private DCMonthProvider dcMonthProvider;
+    private DCDateSet clickableDates;
+    private int clickedEpochDay;
+    private int position = 0;
+
+    @Setup
+    public void setup()
+    {
+        dcMonthProvider = DCMonthBenchmark.newMonthProvider();
+        dcMonthProvider.setWindowSize(dcMonthProvider.getCount());
+
+        Random random = new Random(7);
+        clickableDates = new DCDateSet();
+
+        for(int month=0;month<dcMonthProvider.getCount();month++)
+        {
+            DCData dcData = dcMonthProvider.getMonth(month);
+            for(String date: dcData.getRecalibrateDates())
+            {
+                // Sub values on every day
+                dcMonthProvider.setDateSubValue(month, date, random.nextInt(2500) + " kcal");
+
+                if(clickableDates.size() < CLICKABLE_DATES_COUNT && random.nextBoolean())
+                {
+                    clickableDates.add(DCUtil.getEpochDay(date, DCFormats.DC_DMY_FORMAT, Locale.US));
+                }
+            }
+        }
+
+        clickedEpochDay = dcMonthProvider.getMonth(0).monthStartEpochDay + 10;
+    }
+
+    /**
+     * Rebinds the same month, e.g. after a date click or a styling change
+     *
+     * @param blackhole The JMH blackhole
+     */
+    @Benchmark
+    public void bindMonth(Blackhole blackhole)
+    {
+        bind(dcMonthProvider.getMonth(0), blackhole);
+    }
+
+    /**
+     * Binds the next month, e.g. a swipe through the range
+     *
+     * @param blackhole The JMH blackhole
+     */
+    @Benchmark
+    public void switchAndBindMonth(Blackhole blackhole)
+    {
+        position = (position + 1) % dcMonthProvider.getCount();
+
+        bind(dcMonthProvider.getMonth(position), blackhole);
+    }
+
+    /**
+     * Reads the month data the same way DCGridViewAdapter.getView does for every cell
+     *
+     * @param dcData The Droid Calendar data
+     *
+     * @param blackhole The JMH blackhole
+     */
+    private void bind(DCData dcData, Blackhole blackhole)
+    {
+        for(int header=0;header<DCFormats.DAYS_IN_A_WEEK.length;header++)
+        {
+            blackhole.consume(dcData.getDaysHeaders(DCLocaleTable.WEEKDAY_SHORT)[header]);
+        }
+
+        for(int cell=0;cell<dcData.cellCount;cell++)
+        {
+            int epochDay = dcData.getEpochDay(cell);
+
+            blackhole.consume(dcData.displayDates[cell]);
+            blackhole.consume(dcData.getDateSubValue(cell));
+
+            if(!dcData.inMonthDates[cell])
+            {
+                blackhole.consume(false);
+            }
+            else if(clickedEpochDay == epochDay)
+            {
+                blackhole.consume(true);
+            }
+            else if(allDatesClickable)
+            {
+                blackhole.consume(DCUtil.checkIfDateIsCurrentOrFuture(epochDay));
+            }
+            else
+            {
+                blackhole.consume(clickableDates.contains(epochDay));
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.vikramezhil.droidcalendarview;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Droid Calendar Disk Cache Benchmark
+ *
+ * Measures a cold start with a warm disk cache (a 120 month range with a sub value on every date), the UI thread part
+ * (opening the cache & building the first month) and the background load of the cached sub values
+ *
+ * @author Vikram Ezhil
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DCDiskCacheBenchmark
+{
+    private File cacheDirectory;
+
+    @Setup
+    public void setup() throws IOException, InterruptedException, ExecutionException
+    {
+        File tempFile = File.createTempFile("DCDiskCacheBenchmark", "");
+        if(!tempFile.delete() || !tempFile.mkdirs())
+        {
+            throw new IOException("Can't create the cache directory " + tempFile);
+        }
+
+        cacheDirectory = tempFile;
+
+        DCMonthProvider dcMonthProvider = DCMonthBenchmark.newMonthProvider();
+        dcMonthProvider.setDiskCache(cacheDirectory, null).get();
+
+        for(int position=0;position<dcMonthProvider.getCount();position++)
+        {
+            DCData dcData = dcMonthProvider.getMonth(position);
+            for(int epochDay = dcData.monthStartEpochDay; epochDay <= dcData.monthEndEpochDay; epochDay++)
+            {
+                dcMonthProvider.setSubValue(epochDay, epochDay % 7 + " kcal");
+            }
+        }
+
+        dcMonthProvider.closeDiskCache();
+
+        // Waiting for the background save of the sub values
+        while(getSubValuesFile() == null)
+        {
+            Thread.sleep(10);
+        }
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        File[] cacheFiles = cacheDirectory.listFiles();
+        if(cacheFiles != null)
+        {
+            for(File cacheFile: cacheFiles)
+            {
+                cacheFile.delete();
+            }
+        }
+
+        cacheDirectory.delete();
+    }
+
+    /**
+     * Opens the disk cache and builds the first month, the work done on the UI thread before the first frame (the cached
+     * sub values load on the disk cache thread)
+     *
+     * @return The Droid Calendar data
+     */
+    @Benchmark
+    public DCData getCalendarDataFirstMonthCached() throws Exception
+    {
+        DCMonthProvider dcMonthProvider = DCMonthBenchmark.newMonthProvider();
+        Future<?> subValuesLoad = dcMonthProvider.setDiskCache(cacheDirectory, null);
+
+        DCData dcData = dcMonthProvider.getMonth(0);
+
+        // Waiting outside the UI thread part, so the loads don't pile up on the disk cache thread
+        subValuesLoad.get();
+        dcMonthProvider.closeDiskCache();
+
+        return dcData;
+    }
+
+    /**
+     * Opens the disk cache and waits for the cached sub values of the range to be loaded
+     *
+     * @param blackhole The JMH blackhole
+     */
+    @Benchmark
+    public void loadSubValues120MonthsCached(Blackhole blackhole) throws Exception
+    {
+        DCMonthProvider dcMonthProvider = DCMonthBenchmark.newMonthProvider();
+        dcMonthProvider.setDiskCache(cacheDirectory, null).get();
+
+        blackhole.consume(dcMonthProvider.getMonth(0).getDateSubValue(0));
+
+        dcMonthProvider.closeDiskCache();
+    }
+
+    /**
+     * Gets the saved sub values file of the cache directory
+     *
+     * @return The sub values file, null if not saved yet
+     */
+    private File getSubValuesFile()
+    {
+        File[] cacheFiles = cacheDirectory.listFiles();
+        if(cacheFiles != null)
+        {
+            for(File cacheFile: cacheFiles)
+            {
+                if(cacheFile.getName().endsWith(".subvalues"))
+                {
+                    return cacheFile;
+                }
+            }
+        }
+
+        return null;
+    }
+}
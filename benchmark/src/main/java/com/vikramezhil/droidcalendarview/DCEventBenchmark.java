@@ -0,0 +1,101 @@
+package com.vikramezhil.droidcalendarview;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Droid Calendar Event Benchmark
+ *
+ * Measures the event index query of a visible month (42 cells) and the month event layout built from it,
+ * with 1 - 30 day events spread over a 10 year range
+ *
+ * @author Vikram Ezhil
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DCEventBenchmark
+{
+    private static final int RANGE_START_EPOCH_DAY = DCUtil.getEpochDay(2018, 1, 1);
+    private static final int RANGE_DAYS = 3650;
+    private static final int VISIBLE_CELLS = 42;
+
+    @Param({"1000", "100000"})
+    public int eventsCount;
+
+    private DCEventIndex eventIndex;
+    private int month = 0;
+
+    @Setup
+    public void setup()
+    {
+        Random random = new Random(7);
+
+        List<DCEvent> events = new ArrayList<>(eventsCount);
+        for(int catx=0;catx<eventsCount;catx++)
+        {
+            int startEpochDay = RANGE_START_EPOCH_DAY + random.nextInt(RANGE_DAYS);
+            int days = random.nextInt(10) == 0 ? 1 + random.nextInt(30) : 1;
+
+            events.add(new DCEvent("Event " + catx, startEpochDay, startEpochDay + days - 1, 0xFF00ADEF));
+        }
+
+        eventIndex = new DCEventIndex();
+        eventIndex.addAll(events);
+        eventIndex.query(0, 0);
+    }
+
+    /**
+     * Queries the events of the next visible month
+     *
+     * @return The overlapping events
+     */
+    @Benchmark
+    public List<DCEvent> queryMonth()
+    {
+        int firstCellEpochDay = nextFirstCellEpochDay();
+
+        return eventIndex.query(firstCellEpochDay, firstCellEpochDay + VISIBLE_CELLS - 1);
+    }
+
+    /**
+     * Builds the event layout (lanes & "+N" overflow) of the next visible month
+     *
+     * @return The event layout
+     */
+    @Benchmark
+    public DCEventLayout layoutMonth()
+    {
+        return new DCEventLayout(eventIndex, nextFirstCellEpochDay(), VISIBLE_CELLS);
+    }
+
+    /**
+     * Gets the first visible cell epoch day of the next month in the range
+     *
+     * @return The first cell epoch day
+     */
+    private int nextFirstCellEpochDay()
+    {
+        month = (month + 1) % (RANGE_DAYS / 30);
+
+        return RANGE_START_EPOCH_DAY + month * 30;
+    }
+}
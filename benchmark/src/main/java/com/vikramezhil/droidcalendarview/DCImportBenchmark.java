@@ -0,0 +1,152 @@
+package com.vikramezhil.droidcalendarview;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Droid Calendar Import Benchmark
+ *
+ * Measures the streaming .ics import of a generated file (1 - 30 day events spread over a 10 year range, with folded
+ * & escaped summaries) from a memory mapped file and from an input stream. Each import uses a fresh event index,
+ * run with a small heap (e.g. -jvmArgs -Xmx64m) to check the import stays within a bounded heap on large files
+ *
+ * @author Vikram Ezhil
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DCImportBenchmark
+{
+    private static final int RANGE_START_EPOCH_DAY = DCUtil.getEpochDay(2018, 1, 1);
+    private static final int RANGE_DAYS = 3650;
+
+    @Param({"100000", "1000000"})
+    public int eventsCount;
+
+    private File icsFile;
+
+    @Setup
+    public void setup() throws IOException
+    {
+        icsFile = File.createTempFile("DCImportBenchmark", ".ics");
+
+        Random random = new Random(7);
+        Charset utf8 = Charset.forName("UTF-8");
+
+        OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(icsFile), 64 * 1024);
+        try
+        {
+            outputStream.write("BEGIN:VCALENDAR\r\nVERSION:2.0\r\nPRODID:-//DroidCalendarView//Benchmark//EN\r\n".getBytes(utf8));
+
+            for(int catx=0;catx<eventsCount;catx++)
+            {
+                int startEpochDay = RANGE_START_EPOCH_DAY + random.nextInt(RANGE_DAYS);
+                int days = random.nextInt(10) == 0 ? 1 + random.nextInt(30) : 1;
+
+                StringBuilder event = new StringBuilder(320);
+                event.append("BEGIN:VEVENT\r\nUID:").append(catx).append("@benchmark\r\nDTSTAMP:20180101T000000Z\r\n");
+                if(catx % 2 == 0)
+                {
+                    event.append("DTSTART;VALUE=DATE:").append(getDate(startEpochDay)).append("\r\n");
+                    event.append("DTEND;VALUE=DATE:").append(getDate(startEpochDay + days)).append("\r\n");
+                }
+                else
+                {
+                    event.append("DTSTART;TZID=\"Europe/London\":").append(getDate(startEpochDay)).append("T090000\r\n");
+                    event.append("DURATION:P").append(days).append("D\r\n");
+                }
+                event.append("SUMMARY:Event ").append(catx).append("\\, imported from a generated calendar with a long \r\n summary line\r\n");
+                event.append("DESCRIPTION:Generated event ").append(catx).append("\r\nEND:VEVENT\r\n");
+
+                outputStream.write(event.toString().getBytes(utf8));
+            }
+
+            outputStream.write("END:VCALENDAR\r\n".getBytes(utf8));
+        }
+        finally
+        {
+            outputStream.close();
+        }
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        if(!icsFile.delete())
+        {
+            icsFile.deleteOnExit();
+        }
+    }
+
+    /**
+     * Imports the generated file through memory mapped windows
+     *
+     * @return The events imported
+     *
+     * @throws IOException If the file can't be read
+     */
+    @Benchmark
+    public int importMappedFile() throws IOException
+    {
+        return new DCEventImporter(new DCEventIndex(), 0xFF00ADEF, null).importEvents(icsFile);
+    }
+
+    /**
+     * Imports the generated file through an input stream
+     *
+     * @return The events imported
+     *
+     * @throws IOException If the file can't be read
+     */
+    @Benchmark
+    public int importStream() throws IOException
+    {
+        InputStream inputStream = new FileInputStream(icsFile);
+        try
+        {
+            return new DCEventImporter(new DCEventIndex(), 0xFF00ADEF, null).importEvents(inputStream);
+        }
+        finally
+        {
+            inputStream.close();
+        }
+    }
+
+    /**
+     * Gets the iCalendar date (YYYYMMDD) of the epoch day
+     *
+     * @param epochDay The epoch day
+     *
+     * @return The iCalendar date
+     */
+    private static String getDate(int epochDay)
+    {
+        return String.format(Locale.US, "%04d%02d%02d", DCUtil.getYear(epochDay), DCUtil.getMonthOfYear(epochDay), DCUtil.getDayOfMonth(epochDay));
+    }
+}
@@ -0,0 +1,85 @@
+package com.vikramezhil.droidcalendarview;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Droid Calendar Month Benchmark
+ *
+ * Measures the month generation (DCView.setDCData month range) and the month grid (recalibrate dates) computation
+ *
+ * @author Vikram Ezhil
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DCMonthBenchmark
+{
+    static final String START_MONTH_YEAR = "January 2018";
+    static final String END_MONTH_YEAR = "December 2027";
+
+    /**
+     * Builds every month of a 120 month range, the work setDCData used to do up front
+     *
+     * @param blackhole The JMH blackhole
+     */
+    @Benchmark
+    public void getCalendarData120Months(Blackhole blackhole)
+    {
+        DCMonthProvider dcMonthProvider = newMonthProvider();
+        for(int position=0;position<dcMonthProvider.getCount();position++)
+        {
+            blackhole.consume(dcMonthProvider.getMonth(position));
+        }
+    }
+
+    /**
+     * Builds the first month of a 120 month range, the work done before the first frame
+     *
+     * @return The Droid Calendar data
+     */
+    @Benchmark
+    public DCData getCalendarDataFirstMonth()
+    {
+        return newMonthProvider().getMonth(0);
+    }
+
+    /**
+     * Computes the month grids (recalibrate dates) of a 120 month range
+     *
+     * @param blackhole The JMH blackhole
+     */
+    @Benchmark
+    public void recalibrateDates120Months(Blackhole blackhole)
+    {
+        for(int month=0;month<120;month++)
+        {
+            blackhole.consume(new DCMonthGrid(2018 + month / 12, month % 12 + 1, DCFormats.DEFAULT_FIRST_DAY_OF_WEEK));
+        }
+    }
+
+    /**
+     * Creates a month provider for the benchmark range
+     *
+     * @return The month provider
+     */
+    static DCMonthProvider newMonthProvider()
+    {
+        return new DCMonthProvider(START_MONTH_YEAR, END_MONTH_YEAR, DCFormats.DC_MY_FORMAT, DCFormats.DC_MY_FORMAT, DCFormats.D_FORMAT, DCFormats.DC_DMY_FORMAT, Locale.US, DCFormats.DEFAULT_FIRST_DAY_OF_WEEK, true);
+    }
+}
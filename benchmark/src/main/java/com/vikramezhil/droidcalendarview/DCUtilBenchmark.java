@@ -0,0 +1,98 @@
+package com.vikramezhil.droidcalendarview;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Droid Calendar Utility Benchmark
+ *
+ * @author Vikram Ezhil
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DCUtilBenchmark
+{
+    private final String date = "15/6/2018";
+    private final int epochDay = DCUtil.getEpochDay(2018, 6, 15);
+
+    @Benchmark
+    public Object getFormatter()
+    {
+        return DCUtil.getFormatter(DCFormats.DC_DMY_FORMAT, Locale.GERMAN);
+    }
+
+    @Benchmark
+    public String getCurrentDate()
+    {
+        return DCUtil.getCurrentDate(DCFormats.DC_DMY_FORMAT, Locale.US);
+    }
+
+    @Benchmark
+    public String getDateInFormat()
+    {
+        return DCUtil.getDateInFormat(date, DCFormats.DC_DMY_FORMAT, DCFormats.DC_MY_FORMAT, Locale.US, Locale.GERMAN);
+    }
+
+    @Benchmark
+    public String getDateInFormatFromEpochDay()
+    {
+        return DCUtil.getDateInFormat(epochDay, DCFormats.D_FORMAT, Locale.US);
+    }
+
+    @Benchmark
+    public String getPreviousDate()
+    {
+        return DCUtil.getPreviousDate(date, DCFormats.DC_DMY_FORMAT, Locale.US);
+    }
+
+    @Benchmark
+    public String getNextDate()
+    {
+        return DCUtil.getNextDate(date, DCFormats.DC_DMY_FORMAT, Locale.US);
+    }
+
+    @Benchmark
+    public boolean checkIfDateIsCurrentOrFuture()
+    {
+        return DCUtil.checkIfDateIsCurrentOrFuture(date, DCFormats.DC_DMY_FORMAT, Locale.US);
+    }
+
+    @Benchmark
+    public boolean checkIfEpochDayIsCurrentOrFuture()
+    {
+        return DCUtil.checkIfDateIsCurrentOrFuture(epochDay);
+    }
+
+    @Benchmark
+    public int getEpochDayFromDate()
+    {
+        return DCUtil.getEpochDay(date, DCFormats.DC_DMY_FORMAT, Locale.US);
+    }
+
+    @Benchmark
+    public int getEpochDay()
+    {
+        return DCUtil.getEpochDay(2018, 6, 15);
+    }
+
+    @Benchmark
+    public int getYearMonthDayOfEpochDay()
+    {
+        return DCUtil.getYear(epochDay) + DCUtil.getMonthOfYear(epochDay) + DCUtil.getDayOfMonth(epochDay) + DCUtil.getDayOfWeek(epochDay);
+    }
+}